@@ -14,6 +14,7 @@ class MagicUtilsAnnotationProcessingPlugin : Plugin<Project> {
                     listOf(
                         "-processor",
                         "dev.ua.theroer.magicutils.processor.LogMethodsProcessor," +
+                                "dev.ua.theroer.magicutils.processor.ConfigBinderProcessor," +
                                 "dev.ua.theroer.magicutils.processor.NoOpProcessor," +
                                 "lombok.launch.AnnotationProcessorHider\$AnnotationProcessor," +
                                 "lombok.launch.AnnotationProcessorHider\$ClaimingProcessor"
@@ -45,6 +45,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -434,6 +435,21 @@ public class BrigadierCommandRegistry<S> {
         return commandManager;
     }
 
+    /**
+     * Enables asynchronous tab completion. Suggestions are computed on the
+     * scheduler's IO executor, a newer request from the same source cancels the
+     * previous one, and a request running longer than {@code timeout} yields no
+     * suggestions. Only arguments that opt in with {@link CommandThreading#ASYNC}
+     * are completed off the calling thread.
+     *
+     * @param timeout per-request timeout (nullable for none)
+     * @return this registry
+     */
+    public BrigadierCommandRegistry<S> asyncSuggestions(Duration timeout) {
+        commandManager.configureAsyncSuggestions(scheduler.io(), timeout);
+        return this;
+    }
+
     /**
      * Returns whether the registry has been initialized.
      *
@@ -962,13 +978,16 @@ public class BrigadierCommandRegistry<S> {
         TokenizedInput tokenized = tokenize(remaining, true);
         List<String> args = tokenized.tokens();
         SuggestionsBuilder offsetBuilder = builder.createOffset(builder.getStart() + tokenized.currentTokenStart());
-        List<String> suggestions = commandManager.getSuggestions(label, source, args);
-        for (String suggestion : suggestions) {
-            if (suggestion != null && !suggestion.trim().isEmpty()) {
-                offsetBuilder.suggest(suggestion);
+        return commandManager.getSuggestionsAsync(label, source, args).handle((suggestions, error) -> {
+            if (suggestions != null) {
+                for (String suggestion : suggestions) {
+                    if (suggestion != null && !suggestion.trim().isEmpty()) {
+                        offsetBuilder.suggest(suggestion);
+                    }
+                }
             }
-        }
-        return offsetBuilder.buildFuture();
+            return offsetBuilder.build();
+        });
     }
 
     private static List<String> parseArgsForExecution(String input) {
@@ -397,6 +397,9 @@ public final class FabricBootstrap {
                 FabricMessagingSupport.install(runtime, modName, messagingRedis, messagingConfigurer);
             }
             lang.installMessagesCloseHooks(runtime, modName, prepared.languageManager());
+            if (languageManager == null) {
+                runtime.onClose("languageManager", prepared.languageManager()::shutdown);
+            }
 
             // Register this mod in the shared-runtime consumer registry so the
             // standalone bundle command can list it (/magicutils mods|mod <id>),
@@ -71,6 +71,12 @@ public class FabricCommandPlatform implements CommandPlatform<CommandSourceStack
         return sender != null ? sender.getTextName() : "unknown";
     }
 
+    @Override
+    public @Nullable Object getSenderKey(CommandSourceStack sender) {
+        ServerPlayer player = getPlayerSafe(sender);
+        return player != null ? player.getUUID() : getName(sender);
+    }
+
     @Override
     public boolean hasPermission(CommandSourceStack sender, String permission, MagicPermissionDefault defaultValue) {
         if (permission == null || permission.isEmpty()) {
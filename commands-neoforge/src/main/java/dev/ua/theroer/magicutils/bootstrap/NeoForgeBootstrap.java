@@ -397,6 +397,9 @@ public final class NeoForgeBootstrap {
                         runtime, modName, serverSupplier, messagingRedis, messagingConfigurer);
             }
             lang.installMessagesCloseHooks(runtime, modName, prepared.languageManager());
+            if (languageManager == null) {
+                runtime.onClose("languageManager", prepared.languageManager()::shutdown);
+            }
 
             // Publish this mod into the shared-runtime registry so the bundle's
             // `/magicutils mods` lists it (mirrors FabricBootstrap).
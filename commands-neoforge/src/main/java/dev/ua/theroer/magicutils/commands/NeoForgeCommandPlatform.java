@@ -77,6 +77,12 @@ public class NeoForgeCommandPlatform implements CommandPlatform<CommandSourceSta
         return resolved != null ? resolved : "unknown";
     }
 
+    @Override
+    public @Nullable Object getSenderKey(CommandSourceStack sender) {
+        ServerPlayer player = getPlayerSafe(sender);
+        return player != null ? player.getUUID() : getName(sender);
+    }
+
     @Override
     public boolean hasPermission(CommandSourceStack sender, String permission, MagicPermissionDefault defaultValue) {
         if (permission == null || permission.isEmpty()) {
@@ -1,5 +1,7 @@
 package dev.ua.theroer.magicutils.annotations;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -35,4 +37,14 @@ public @interface Suggest {
      * @return array of argument names
      */
     String[] contextArgs() default {};
+
+    /**
+     * Threading policy for these suggestion sources when the registry completes
+     * asynchronously. Sources run on the main thread unless this is set to
+     * {@link CommandThreading#ASYNC}; opt in only for providers that do not
+     * touch main-thread-only platform state.
+     *
+     * @return suggestion threading policy
+     */
+    CommandThreading threading() default CommandThreading.MAIN;
 }
\ No newline at end of file
@@ -44,6 +44,7 @@ public class CommandArgument {
     private final List<String> optionLongNames;
     private final boolean flag;
     private final List<String> contextArgs;
+    private final CommandThreading suggestionThreading;
     /**
      * The object on which {@code @Suggest("methodName")} provider methods are
      * resolved. When a command is flat-mounted/merged into another root, the
@@ -81,6 +82,7 @@ public class CommandArgument {
         this.optionLongNames = new ArrayList<>(builder.optionLongNames);
         this.flag = builder.flag;
         this.contextArgs = new ArrayList<>(builder.contextArgs);
+        this.suggestionThreading = builder.suggestionThreading;
         this.suggestionHost = builder.suggestionHost;
     }
 
@@ -234,6 +236,7 @@ public class CommandArgument {
         private final List<String> optionLongNames = new ArrayList<>();
         private boolean flag = false;
         private final List<String> contextArgs = new ArrayList<>();
+        private CommandThreading suggestionThreading = CommandThreading.MAIN;
         private Object suggestionHost = null;
 
         /**
@@ -506,6 +509,18 @@ public class CommandArgument {
             return this;
         }
 
+        /**
+         * Sets where suggestions for this argument may run when the registry
+         * completes asynchronously. Defaults to {@link CommandThreading#MAIN}.
+         *
+         * @param suggestionThreading suggestion threading policy
+         * @return this builder
+         */
+        public Builder suggestionThreading(CommandThreading suggestionThreading) {
+            this.suggestionThreading = suggestionThreading != null ? suggestionThreading : CommandThreading.MAIN;
+            return this;
+        }
+
         /**
          * Builds the CommandArgument instance.
          * 
@@ -529,6 +544,7 @@ public class CommandArgument {
                 ", options=" + optionShortNames + "/" + optionLongNames +
                 ", flag=" + flag +
                 ", contextArgs=" + contextArgs +
+                ", suggestionThreading=" + suggestionThreading +
                 '}';
     }
 }
@@ -34,6 +34,49 @@ public interface CommandLogger {
         debug(messageSupplier.get());
     }
 
+    /**
+     * Logs a debug message built from a template only when debug output is
+     * enabled. Each {@code {}} in the template is replaced by the next argument,
+     * so nothing is concatenated or converted to text while debug is off.
+     *
+     * @param template message template
+     * @param arg value for the first {@code {}}
+     */
+    default void debug(String template, Object arg) {
+        if (isDebugEnabled()) {
+            debug(format(template, arg));
+        }
+    }
+
+    /**
+     * Logs a debug message built from a template only when debug output is enabled.
+     *
+     * @param template message template
+     * @param first value for the first {@code {}}
+     * @param second value for the second {@code {}}
+     * @see #debug(String, Object)
+     */
+    default void debug(String template, Object first, Object second) {
+        if (isDebugEnabled()) {
+            debug(format(template, first, second));
+        }
+    }
+
+    /**
+     * Logs a debug message built from a template only when debug output is enabled.
+     *
+     * @param template message template
+     * @param first value for the first {@code {}}
+     * @param second value for the second {@code {}}
+     * @param third value for the third {@code {}}
+     * @see #debug(String, Object)
+     */
+    default void debug(String template, Object first, Object second, Object third) {
+        if (isDebugEnabled()) {
+            debug(format(template, first, second, third));
+        }
+    }
+
     /**
      * Logs an info message.
      *
@@ -73,6 +116,31 @@ public interface CommandLogger {
         error(message + " (" + suffix + ")");
     }
 
+    /**
+     * Replaces each {@code {}} in the template with the next argument; extra
+     * placeholders are left as they are.
+     *
+     * @param template message template
+     * @param args placeholder values
+     * @return formatted message
+     */
+    static String format(String template, Object... args) {
+        if (template == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+        int from = 0;
+        for (Object arg : args) {
+            int at = template.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            builder.append(template, from, at).append(arg);
+            from = at + 2;
+        }
+        return builder.append(template, from, template.length()).toString();
+    }
+
     /**
      * Returns a no-op logger implementation.
      *
@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,9 +22,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +37,8 @@ import java.util.stream.Collectors;
  * @param <S> sender type
  */
 public class CommandManager<S> {
+    private static final Object NO_MATCH = new Object();
+
     private final CommandLogger logger;
     private final CommandPlatform<S> platform;
 
@@ -46,6 +53,7 @@ public class CommandManager<S> {
     private final String pluginName;
     @Getter
     private final TypeParserRegistry<S> typeParserRegistry;
+    private volatile SuggestionDispatcher<S> suggestionDispatcher;
 
     /**
      * Constructs a new CommandManager.
@@ -216,8 +224,17 @@ public class CommandManager<S> {
         List<CommandAction<S>> combinedSubActions = resolveSubCommandActions(staticSubActions, dynamicSubs);
         CommandAction<S> resolvedDirectAction = resolveDirectAction(info, baseDirectAction, dynamicExecute);
         SubCommandNode<S> tree = buildSubCommandTree(combinedSubActions);
-
-        return new CommandCache<>(dynamicSubs.size(), dynamicExecute, combinedSubActions, resolvedDirectAction, tree);
+        CommandCache<S> cache = new CommandCache<>(dynamicSubs.size(), dynamicExecute, combinedSubActions,
+                resolvedDirectAction, tree);
+        for (CommandAction<S> action : combinedSubActions) {
+            planFor(action);
+            bindSuggestionProviders(command, action.arguments(), cache.suggestions());
+        }
+        if (resolvedDirectAction != null) {
+            planFor(resolvedDirectAction);
+            bindSuggestionProviders(command, resolvedDirectAction.arguments(), cache.suggestions());
+        }
+        return cache;
     }
 
     private SubCommandNode<S> getSubCommandTree(MagicCommand command, CommandInfo info) {
@@ -400,33 +417,61 @@ public class CommandManager<S> {
      * @return resolved threading policy
      */
     public CommandThreading resolveThreading(String name, List<String> args) {
-        if (name == null) {
+        CommandAction<S> action = resolveTargetAction(name, args);
+        return action != null ? action.threading() : CommandThreading.MAIN;
+    }
+
+    /**
+     * Resolves where tab completion for the targeted command action may run.
+     * Completion is {@link CommandThreading#ASYNC} only when every argument
+     * with suggestion sources opted in with {@link CommandThreading#ASYNC} and
+     * every type parser that would serve the action allows it.
+     *
+     * @param name command name
+     * @param args command arguments typed so far
+     * @return resolved suggestion threading policy
+     */
+    public CommandThreading resolveSuggestionThreading(String name, List<String> args) {
+        CommandAction<S> action = resolveTargetAction(name, args);
+        if (action == null) {
             return CommandThreading.MAIN;
         }
+        for (CommandArgument argument : action.arguments()) {
+            if (isSenderArgument(argument)) {
+                continue;
+            }
+            if (!argument.getSuggestions().isEmpty() && argument.getSuggestionThreading() != CommandThreading.ASYNC) {
+                return CommandThreading.MAIN;
+            }
+            if (typeParserRegistry.getSuggestionThreading(argument) != CommandThreading.ASYNC) {
+                return CommandThreading.MAIN;
+            }
+        }
+        return CommandThreading.ASYNC;
+    }
+
+    private CommandAction<S> resolveTargetAction(String name, List<String> args) {
+        if (name == null) {
+            return null;
+        }
         MagicCommand command = commands.get(name.toLowerCase(Locale.ROOT));
         CommandInfo info = commandInfos.get(name.toLowerCase(Locale.ROOT));
         if (command == null || info == null) {
-            return CommandThreading.MAIN;
+            return null;
         }
 
         List<CommandAction<S>> subCommands = getSubCommandActions(command);
         CommandAction<S> directAction = getDirectAction(command, info);
-        if (directAction != null && (subCommands.isEmpty() || args == null || args.isEmpty())) {
-            return directAction.threading();
-        }
-        if (subCommands.isEmpty()) {
-            return directAction != null ? directAction.threading() : CommandThreading.MAIN;
-        }
-        if (args == null || args.isEmpty()) {
-            return directAction != null ? directAction.threading() : CommandThreading.MAIN;
+        if (subCommands.isEmpty() || args == null || args.isEmpty()) {
+            return directAction;
         }
 
         SubCommandNode<S> root = getSubCommandTree(command, info);
         SubCommandTraversal<S> traversal = traverseSubCommands(root, args);
         if (traversal.lastActionNode() != null && traversal.lastActionNode().action() != null) {
-            return traversal.lastActionNode().action().threading();
+            return traversal.lastActionNode().action();
         }
-        return directAction != null ? directAction.threading() : CommandThreading.MAIN;
+        return directAction;
     }
 
     /**
@@ -489,17 +534,17 @@ public class CommandManager<S> {
 
     private CommandResult executeInternal(String name, S sender, List<String> args, boolean bubbleErrors)
             throws CommandExecutionException {
-        logger.debug("Attempting to execute command: " + name + " with args: " + args);
+        logger.debug("Attempting to execute command: {} with args: {}", name, args);
 
         MagicCommand command = commands.get(name.toLowerCase(Locale.ROOT));
         CommandInfo info = commandInfos.get(name.toLowerCase(Locale.ROOT));
 
         if (command == null || info == null) {
-            logger.debug("Command not found: " + name + ". Available commands: " + commands.keySet());
+            logger.debug("Command not found: {}. Available commands: {}", name, commands.keySet());
             return CommandResult.notFound();
         }
 
-        logger.debug("Found command: " + name + ", checking permissions...");
+        logger.debug("Found command: {}, checking permissions...", name);
 
         String baseCommandName = info.name().toLowerCase(Locale.ROOT);
         String targetSubName = (args != null && !args.isEmpty()) ? args.get(0).toLowerCase(Locale.ROOT) : null;
@@ -547,8 +592,8 @@ public class CommandManager<S> {
         List<CommandAction<S>> subCommands = getSubCommandActions(command);
         CommandAction<S> directAction = getDirectAction(command, info);
 
-        logger.debug("Executing command with " + subCommands.size()
-                + " available subcommands and execute handler: " + (directAction != null));
+        logger.debug("Executing command with {} available subcommands and execute handler: {}",
+                subCommands.size(), directAction != null);
 
         // If there's a direct execute handler and no subcommands, or if there are no args
         if (directAction != null && (subCommands.isEmpty() || args.isEmpty())) {
@@ -565,7 +610,7 @@ public class CommandManager<S> {
         // If there are subcommands but no args provided
         if (args.isEmpty() && !subCommands.isEmpty()) {
             String availableSubCommands = getAvailableSubCommands(subCommands, sender, normalizedCommandName);
-            logger.debug("No arguments provided, available subcommands: " + availableSubCommands);
+            logger.debug("No arguments provided, available subcommands: {}", availableSubCommands);
             return CommandResult
                     .failure(InternalMessages.CMD_SPECIFY_SUBCOMMAND.get("subcommands", availableSubCommands));
         }
@@ -579,8 +624,10 @@ public class CommandManager<S> {
                 return executeAction(command, info, directAction, sender, args, normalizedCommandName, null, bubbleErrors);
             }
             String subCommandName = args.get(0).toLowerCase(Locale.ROOT);
-            logger.debug("Subcommand not found: " + subCommandName + ". Available: " +
-                    getAvailableSubCommands(subCommands, sender, normalizedCommandName));
+            if (logger.isDebugEnabled()) {
+                logger.debug("Subcommand not found: " + subCommandName + ". Available: " +
+                        getAvailableSubCommands(subCommands, sender, normalizedCommandName));
+            }
             return CommandResult.failure(InternalMessages.CMD_UNKNOWN_SUBCOMMAND.get("subcommand", subCommandName));
         }
 
@@ -589,7 +636,7 @@ public class CommandManager<S> {
                 List<String> path = args.subList(0, traversal.consumed());
                 String available = String.join(", ",
                         getAvailableSubCommandsList(subCommands, sender, normalizedCommandName, path));
-                logger.debug("No subcommand at path, available: " + available);
+                logger.debug("No subcommand at path, available: {}", available);
                 return CommandResult.failure(
                         InternalMessages.CMD_SPECIFY_SUBCOMMAND.get("subcommands", available));
             }
@@ -597,14 +644,14 @@ public class CommandManager<S> {
             List<String> path = args.subList(0, traversal.consumed());
             String available = String.join(", ",
                     getAvailableSubCommandsList(subCommands, sender, normalizedCommandName, path));
-            logger.debug("Subcommand not found: " + unknown + ". Available: " + available);
+            logger.debug("Subcommand not found: {}. Available: {}", unknown, available);
             return CommandResult.failure(InternalMessages.CMD_UNKNOWN_SUBCOMMAND.get("subcommand", unknown));
         }
 
         CommandAction<S> targetSubCommand = traversal.lastActionNode().action();
         int consumed = traversal.lastActionIndex();
         String subCommandName = targetSubCommand.fullPath();
-        logger.debug("Found subcommand: " + subCommandName + ", checking permissions...");
+        logger.debug("Found subcommand: {}, checking permissions...", subCommandName);
 
         String subPermission = resolvePermission(targetSubCommand.permission(),
                 "commands." + normalizedCommandName + ".subcommand." + targetSubCommand.permissionSegment());
@@ -617,7 +664,7 @@ public class CommandManager<S> {
         }
 
         List<String> subArgs = args.size() > consumed ? args.subList(consumed, args.size()) : new ArrayList<>();
-        logger.debug("Executing subcommand: " + subCommandName + " with args: " + subArgs);
+        logger.debug("Executing subcommand: {} with args: {}", subCommandName, subArgs);
 
         return executeAction(command, info, targetSubCommand, sender, subArgs, normalizedCommandName,
                 subCommandName, bubbleErrors);
@@ -631,18 +678,21 @@ public class CommandManager<S> {
         }
         try {
             List<CommandArgument> arguments = action.arguments();
-            String label = subCommandName != null ? "subcommand " + subCommandName : "direct execute";
+            boolean debug = logger.isDebugEnabled();
+            String label = debug ? actionLabel(subCommandName) : null;
 
-            logger.debug("Parsing " + arguments.size() + " arguments for " + label);
-            if (action.method() != null) {
-                logger.debug("Method parameter types: " + Arrays.toString(action.method().getParameterTypes()));
+            if (debug) {
+                logger.debug("Parsing {} arguments for {}", arguments.size(), label);
+                if (action.method() != null) {
+                    logger.debug("Method parameter types: {}", Arrays.toString(action.method().getParameterTypes()));
+                }
             }
 
-            Object[] methodArgs = parseArgumentsForDirectMethod(arguments, args, sender, normalizedCommandName,
+            Object[] methodArgs = parseArgumentsForDirectMethod(planFor(action), args, sender, normalizedCommandName,
                     subCommandName);
 
             if (methodArgs == null) {
-                logger.debug("Failed to parse arguments for " + label);
+                logger.debug("Failed to parse arguments for {}", label);
                 String usage = buildUsage(info, subCommandName, arguments);
                 return CommandResult.failure(InternalMessages.CMD_INVALID_ARGUMENTS.get("usage", usage));
             }
@@ -651,19 +701,21 @@ public class CommandManager<S> {
                 return CommandResult.failure(InternalMessages.CMD_NO_PERMISSION.get());
             }
 
-            for (int i = 0; i < methodArgs.length; i++) {
-                logger.debug("Method arg[" + i + "]: "
-                                + (methodArgs[i] != null
-                                        ? methodArgs[i].getClass().getSimpleName() + "=" + methodArgs[i]
-                                        : "null"));
+            if (debug) {
+                for (int i = 0; i < methodArgs.length; i++) {
+                    logger.debug("Method arg[" + i + "]: "
+                            + (methodArgs[i] != null
+                                    ? methodArgs[i].getClass().getSimpleName() + "=" + methodArgs[i]
+                                    : "null"));
+                }
             }
 
             Object result;
-            if (action.method() != null) {
-                logger.debug("Invoking " + label + " method with parsed arguments");
-                result = action.method().invoke(command, methodArgs);
+            if (action.invoker() != null) {
+                logger.debug("Invoking {} method with parsed arguments", label);
+                result = action.invoker().invoke(command, methodArgs);
             } else if (action.executor() != null) {
-                logger.debug("Invoking " + label + " executor with parsed arguments");
+                logger.debug("Invoking {} executor with parsed arguments", label);
                 CommandExecution<S> execution = new CommandExecution<>(command, normalizedCommandName, subCommandName,
                         sender, args, arguments, methodArgs);
                 result = action.executor().execute(execution);
@@ -672,12 +724,12 @@ public class CommandManager<S> {
             }
 
             CommandResult commandResult = MagicCommand.resolveResult(result);
-            logger.debug(label + " executed successfully, result: " + commandResult.isSuccess());
+            logger.debug("{} executed successfully, result: {}", label, commandResult.isSuccess());
 
             return commandResult;
 
         } catch (SenderMismatchException e) {
-            logger.debug("Sender mismatch: " + e.getMessage());
+            logger.debug("Sender mismatch: {}", e.getMessage());
             return CommandResult.failure(e.getMessage());
         } catch (Exception e) {
             logger.error("Error executing " + (subCommandName != null ? "subcommand" : "direct command") + ": "
@@ -689,52 +741,53 @@ public class CommandManager<S> {
         }
     }
 
-    private Object[] parseArgumentsForDirectMethod(List<CommandArgument> arguments, List<String> args,
+    private static String actionLabel(@Nullable String subCommandName) {
+        return subCommandName != null ? "subcommand " + subCommandName : "direct execute";
+    }
+
+    private Object[] parseArgumentsForDirectMethod(ArgumentPlan<S> plan, List<String> args,
             S sender, String normalizedCommandName, @Nullable String subCommandName) {
-        Object[] result = new Object[arguments.size()];
-        boolean[] filled = new boolean[arguments.size()];
-        OptionIndex optionIndex = buildOptionIndex(arguments);
-        ParsedOptions parsedOptions = optionIndex.hasOptions()
-                ? parseOptions(args, optionIndex, false)
-                : new ParsedOptions(args != null ? new ArrayList<>(args) : new ArrayList<>(),
-                        new HashMap<>(), new HashSet<>(), null, false);
-        if (parsedOptions == null) {
-            return null;
+        CommandArgument[] arguments = plan.arguments;
+        Object[] result = new Object[arguments.length];
+        boolean[] filled = new boolean[arguments.length];
+        List<String> remainingArgs;
+        ParsedOptions parsedOptions = null;
+        if (plan.optionIndex.hasOptions()) {
+            parsedOptions = parseOptions(args, plan.optionIndex, false);
+            if (parsedOptions == null) {
+                return null;
+            }
+            remainingArgs = parsedOptions.positionals();
+        } else {
+            remainingArgs = args != null ? new ArrayList<>(args) : new ArrayList<>();
         }
 
         // First pass: auto-fill sender arguments
-        for (int i = 0; i < arguments.size(); i++) {
-            CommandArgument argument = arguments.get(i);
-            if (isSenderArgument(argument)) {
-                try {
-                    result[i] = platform.resolveSenderArgument(sender, argument);
-                    filled[i] = true;
+        for (int i : plan.senderSlots) {
+            CommandArgument argument = arguments[i];
+            try {
+                result[i] = platform.resolveSenderArgument(sender, argument);
+                filled[i] = true;
+                if (logger.isDebugEnabled()) {
                     logger.debug("Auto-filled sender argument " + i + " (" + argument.getName()
                             + "): " + platform.getName(sender));
-                } catch (SenderMismatchException ex) {
-                    logger.debug("Sender mismatch for argument " + argument.getName() + ": "
-                            + ex.getMessage());
-                    throw ex;
                 }
+            } catch (SenderMismatchException ex) {
+                logger.debug("Sender mismatch for argument {}: {}", argument.getName(), ex.getMessage());
+                throw ex;
             }
         }
 
         // Option arguments (including flags)
-        if (optionIndex.hasOptions()) {
-            for (int i = 0; i < arguments.size(); i++) {
-                if (filled[i]) {
-                    continue;
-                }
-                CommandArgument argument = arguments.get(i);
-                if (isSenderArgument(argument) || !argument.isOption()) {
-                    continue;
-                }
+        if (parsedOptions != null) {
+            for (int i : plan.optionSlots) {
+                CommandArgument argument = arguments[i];
                 if (argument.isFlag() && !parsedOptions.values().containsKey(argument)) {
                     String defaultValue = argument.getDefaultValue();
                     if (defaultValue == null) {
                         defaultValue = "false";
                     }
-                    result[i] = convertArgument(defaultValue, argument.getType(), sender);
+                    result[i] = convertSlot(plan, i, defaultValue, sender).value();
                     filled[i] = true;
                     continue;
                 }
@@ -742,38 +795,37 @@ public class CommandManager<S> {
                 if (optionValue == null) {
                     continue;
                 }
-                TypeParseResult<Object> parsedOption = convertArgumentDetailed(optionValue, argument.getType(), sender);
+                TypeParseResult<Object> parsedOption = convertSlot(plan, i, optionValue, sender);
                 result[i] = parsedOption.value();
                 filled[i] = true;
                 if (parsedOption.isInvalid()) {
-                    logger.debug("Failed to convert option value for argument " + argument.getName()
-                            + " from value: " + optionValue);
+                    logger.debug("Failed to convert option value for argument {} from value: {}",
+                            argument.getName(), optionValue);
                     return null;
                 }
             }
         }
 
         // Second pass: try to match user arguments intelligently
-        List<String> remainingArgs = new ArrayList<>(parsedOptions.positionals());
-
-        for (int i = 0; i < arguments.size(); i++) {
+        for (int i = 0; i < arguments.length; i++) {
             if (filled[i])
                 continue; // Skip already filled arguments
 
-            CommandArgument argument = arguments.get(i);
+            CommandArgument argument = arguments[i];
             if (argument.isFlag()) {
                 continue;
             }
 
             if (lacksArgumentPermission(normalizedCommandName, subCommandName, argument, sender)) {
-                logger.debug("Skipping argument " + argument.getName() + " due to missing permission, setting to default/null");
+                logger.debug("Skipping argument {} due to missing permission, setting to default/null",
+                        argument.getName());
                 if (argument.getDefaultValue() != null) {
-                    result[i] = convertArgument(argument.getDefaultValue(), argument.getType(), sender);
+                    result[i] = convertSlot(plan, i, argument.getDefaultValue(), sender).value();
                 } else {
                     result[i] = null;
                 }
                 filled[i] = true;
-                if (!remainingArgs.isEmpty() && !isSenderArgument(argument) && !argument.isOption()) {
+                if (!remainingArgs.isEmpty() && !argument.isOption()) {
                     remainingArgs.remove(0);
                 }
                 continue;
@@ -782,37 +834,28 @@ public class CommandManager<S> {
             if (argument.isGreedy()) {
                 continue; // Greedy handled in final pass
             }
-            String bestMatch = null;
-            int bestMatchIndex = -1;
 
-            // Try to find the best match for this parameter
+            // Take the first user argument this parameter accepts to maintain order priority
             for (int j = 0; j < remainingArgs.size(); j++) {
                 String userArg = remainingArgs.get(j);
-
-                // Check if this user argument is a good match for this parameter
-                if (isArgumentMatch(argument, userArg, sender)) {
-                    bestMatch = userArg;
-                    bestMatchIndex = j;
-                    break; // Take first good match to maintain order priority
+                Object matched = matchSlot(plan, i, userArg, sender);
+                if (matched != NO_MATCH) {
+                    result[i] = matched;
+                    filled[i] = true;
+                    remainingArgs.remove(j);
+                    logger.debug("Matched user arg '{}' to parameter {} ({})", userArg, i, argument.getName());
+                    break;
                 }
             }
-
-            // If we found a match, use it
-            if (bestMatch != null) {
-                result[i] = convertArgument(bestMatch, argument.getType(), sender);
-                filled[i] = true;
-                remainingArgs.remove(bestMatchIndex);
-                logger.debug("Matched user arg '" + bestMatch + "' to parameter " + i + " (" + argument.getName() + ")");
-            }
         }
 
         // Third pass: fill remaining arguments in order
         int userArgIndex = 0;
-        for (int i = 0; i < arguments.size(); i++) {
+        for (int i = 0; i < arguments.length; i++) {
             if (filled[i])
                 continue; // Skip already filled arguments
 
-            CommandArgument argument = arguments.get(i);
+            CommandArgument argument = arguments[i];
             String value;
             boolean providedByUser = false;
 
@@ -821,7 +864,7 @@ public class CommandManager<S> {
                 if (defaultValue == null) {
                     defaultValue = "false";
                 }
-                result[i] = convertArgument(defaultValue, argument.getType(), sender);
+                result[i] = convertSlot(plan, i, defaultValue, sender).value();
                 filled[i] = true;
                 continue;
             }
@@ -832,15 +875,15 @@ public class CommandManager<S> {
                     value = String.join(" ", remainingArgs.subList(userArgIndex, remainingArgs.size()));
                     userArgIndex = remainingArgs.size();
                     providedByUser = true;
-                    logger.debug("Greedy parameter " + i + " (" + argument.getName() + ") consumed remaining args: " + value);
+                    logger.debug("Greedy parameter {} ({}) consumed remaining args: {}", i, argument.getName(), value);
                 } else if (argument.getDefaultValue() != null) {
                     value = argument.getDefaultValue();
-                    logger.debug("Used default value for greedy parameter " + i + " (" + argument.getName() + "): " + value);
+                    logger.debug("Used default value for greedy parameter {} ({}): {}", i, argument.getName(), value);
                 } else if (argument.isOptional()) {
                     value = null;
-                    logger.debug("Used null for optional greedy parameter " + i + " (" + argument.getName() + ")");
+                    logger.debug("Used null for optional greedy parameter {} ({})", i, argument.getName());
                 } else {
-                    logger.debug("Missing required greedy argument at position " + i + ": " + argument.getName());
+                    logger.debug("Missing required greedy argument at position {}: {}", i, argument.getName());
                     return null;
                 }
             } else {
@@ -848,40 +891,46 @@ public class CommandManager<S> {
                     value = remainingArgs.get(userArgIndex);
                     userArgIndex++;
                     providedByUser = true;
-                    logger.debug("Filled remaining parameter " + i + " (" + argument.getName() + ") with user arg: " + value);
+                    logger.debug("Filled remaining parameter {} ({}) with user arg: {}", i, argument.getName(), value);
                 } else if (argument.getDefaultValue() != null) {
                     value = argument.getDefaultValue();
-                    logger.debug("Used default value for parameter " + i + " (" + argument.getName() + "): " + value);
+                    logger.debug("Used default value for parameter {} ({}): {}", i, argument.getName(), value);
                 } else if (argument.isOptional()) {
                     value = null;
-                    logger.debug("Used null for optional parameter " + i + " (" + argument.getName() + ")");
+                    logger.debug("Used null for optional parameter {} ({})", i, argument.getName());
                 } else {
-                    logger.debug("Missing required argument at position " + i + ": " + argument.getName());
+                    logger.debug("Missing required argument at position {}: {}", i, argument.getName());
                     return null;
                 }
             }
 
-            TypeParseResult<Object> parsedArgument = convertArgumentDetailed(value, argument.getType(), sender);
+            TypeParseResult<Object> parsedArgument = convertSlot(plan, i, value, sender);
             result[i] = parsedArgument.value();
-            logger.debug("Parsed argument " + i + " (" + argument.getName() + "): " + result[i]
-                    + " (type: " + (result[i] != null ? result[i].getClass().getSimpleName() : "null") + ")");
+            if (logger.isDebugEnabled()) {
+                logger.debug("Parsed argument " + i + " (" + argument.getName() + "): " + result[i]
+                        + " (type: " + (result[i] != null ? result[i].getClass().getSimpleName() : "null") + ")");
+            }
 
             if (providedByUser && parsedArgument.isInvalid()) {
-                if (argument.isOptional() && canLaterArgumentConsume(arguments, i + 1, value, sender)) {
+                if (argument.isOptional() && canLaterArgumentConsume(plan, i + 1, value, sender)) {
                     userArgIndex = Math.max(0, userArgIndex - 1);
-                    logger.debug("Conversion failed for optional argument " + argument.getName()
-                            + ", reusing value for next parameter");
+                    logger.debug("Conversion failed for optional argument {}, reusing value for next parameter",
+                            argument.getName());
                     continue;
                 }
-                logger.debug("Failed to convert argument " + i + " (" + argument.getName()
-                        + ") from value: " + value + " to type: " + argument.getType().getSimpleName());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Failed to convert argument " + i + " (" + argument.getName()
+                            + ") from value: " + value + " to type: " + argument.getType().getSimpleName());
+                }
                 return null;
             }
 
             // Check if conversion failed
             if (value != null && parsedArgument.isInvalid() && !argument.isOptional()) {
-                logger.debug("Failed to convert argument " + i + " (" + argument.getName()
-                        + ") from value: " + value + " to type: " + argument.getType().getSimpleName());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Failed to convert argument " + i + " (" + argument.getName()
+                            + ") from value: " + value + " to type: " + argument.getType().getSimpleName());
+                }
                 return null;
             }
         }
@@ -889,30 +938,36 @@ public class CommandManager<S> {
         return result;
     }
 
-    private boolean isArgumentMatch(CommandArgument argument, String userArg, S sender) {
+    /**
+     * Checks whether a user argument fits a slot and returns the value it converts
+     * to, or {@link #NO_MATCH}. The converted value is reused as the argument, so
+     * a matched token is parsed once.
+     */
+    private Object matchSlot(ArgumentPlan<S> plan, int slot, String userArg, S sender) {
+        CommandArgument argument = plan.arguments[slot];
         if (argument.isGreedy()) {
-            return false;
+            return NO_MATCH;
         }
 
         // Check if the argument type can successfully parse this value
-        Object converted = convertArgument(userArg, argument.getType(), sender);
+        Object converted = convertSlot(plan, slot, userArg, sender).value();
 
         // If conversion succeeded and didn't just fall back to string
         if (converted != null && !converted.equals(userArg)) {
-            return true;
+            return converted;
         }
 
         // Check if this value is in the argument's suggestions
         if (argumentHasSuggestion(argument, userArg, sender)) {
-            return true;
+            return converted;
         }
 
         // For string arguments, accept anything as last resort
         if (argument.getType().equals(String.class)) {
-            return true;
+            return converted;
         }
 
-        return false;
+        return NO_MATCH;
     }
 
     private boolean argumentHasSuggestion(CommandArgument argument, String value, S sender) {
@@ -928,23 +983,24 @@ public class CommandManager<S> {
         return false;
     }
 
-    private boolean canLaterArgumentConsume(List<CommandArgument> arguments, int startIndex, String value, S sender) {
+    private boolean canLaterArgumentConsume(ArgumentPlan<S> plan, int startIndex, String value, S sender) {
         if (value == null) {
             return false;
         }
-        for (int i = startIndex; i < arguments.size(); i++) {
-            CommandArgument argument = arguments.get(i);
-            if (argument == null || isSenderArgument(argument) || argument.isFlag()) {
+        CommandArgument[] arguments = plan.arguments;
+        for (int i = startIndex; i < arguments.length; i++) {
+            CommandArgument argument = arguments[i];
+            if (plan.isSender(i) || argument.isFlag()) {
                 continue;
             }
             if (argument.isGreedy()) {
                 if (argument.getType().equals(String.class)) {
                     return true;
                 }
-                TypeParseResult<Object> parsed = convertArgumentDetailed(value, argument.getType(), sender);
+                TypeParseResult<Object> parsed = convertSlot(plan, i, value, sender);
                 return parsed.isSuccess() || argumentHasSuggestion(argument, value, sender);
             }
-            if (isArgumentMatch(argument, value, sender)) {
+            if (matchSlot(plan, i, value, sender) != NO_MATCH) {
                 return true;
             }
             if (!argument.isOptional() && argument.getDefaultValue() == null) {
@@ -954,13 +1010,20 @@ public class CommandManager<S> {
         return false;
     }
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private TypeParseResult<Object> convertSlot(ArgumentPlan<S> plan, int slot, String value, S sender) {
+        Class type = plan.arguments[slot].getType();
+        logger.debug("Converting argument: '{}' to type: {}", value, type.getSimpleName());
+        return (TypeParseResult<Object>) typeParserRegistry.parseDetailed(value, type, sender, plan.parsers.get(slot));
+    }
+
     private Object convertArgument(String value, Class<?> type, S sender) {
         return convertArgumentDetailed(value, type, sender).value();
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     private TypeParseResult<Object> convertArgumentDetailed(String value, Class<?> type, S sender) {
-        logger.debug("Converting argument: '" + value + "' to type: " + type.getSimpleName());
+        logger.debug("Converting argument: '{}' to type: {}", value, type.getSimpleName());
         return (TypeParseResult<Object>) typeParserRegistry.parseDetailed(value, (Class) type, sender);
     }
 
@@ -1001,8 +1064,8 @@ public class CommandManager<S> {
                             + (subCommandName != null ? " " + subCommandName : ""));
             if (resolved != null && !resolved.isEmpty()
                     && !platform.hasPermission(sender, resolved, argument.getPermissionDefault())) {
-                logger.debug("Permission denied for argument " + argument.getName()
-                        + " (missing permission " + resolved + ")");
+                logger.debug("Permission denied for argument {} (missing permission {})",
+                        argument.getName(), resolved);
                 return false;
             }
         }
@@ -1209,6 +1272,69 @@ public class CommandManager<S> {
     private record ArgValue(CommandArgument meta, Object value) {
     }
 
+    /**
+     * Enables asynchronous tab completion for {@link #getSuggestionsAsync}.
+     * Requests run on {@code executor}, a newer request from the same sender
+     * cancels the previous one, and a request still running after
+     * {@code timeout} completes with no suggestions.
+     *
+     * @param executor executor for completion work, or {@code null} to complete synchronously
+     * @param timeout per-request timeout, or {@code null} for none
+     */
+    public void configureAsyncSuggestions(@Nullable Executor executor, @Nullable Duration timeout) {
+        this.suggestionDispatcher = executor != null
+                ? new SuggestionDispatcher<>(executor, timeout, platform::getSenderKey)
+                : null;
+    }
+
+    /**
+     * Gets tab completion suggestions, off the calling thread when asynchronous
+     * completion is configured and the targeted action allows it. Otherwise the
+     * suggestions are computed on the calling thread and returned completed.
+     * A superseded request completes with a {@link java.util.concurrent.CancellationException}.
+     *
+     * @param name   the command name
+     * @param sender the command sender
+     * @param args   the command arguments
+     * @return future with the suggestions
+     */
+    public CompletableFuture<List<String>> getSuggestionsAsync(String name, S sender, List<String> args) {
+        SuggestionDispatcher<S> dispatcher = suggestionDispatcher;
+        if (dispatcher == null || resolveSuggestionThreading(name, args) != CommandThreading.ASYNC) {
+            return CompletableFuture.completedFuture(getSuggestions(name, sender, args));
+        }
+        return dispatcher.dispatch(sender, () -> getSuggestions(name, sender, args));
+    }
+
+    /**
+     * Gets tab completion suggestions for platforms that complete on the
+     * calling thread. The calling thread waits at most the timeout passed to
+     * {@link #configureAsyncSuggestions} and gets no suggestions if the request
+     * is superseded, fails or runs out of time. Without a positive timeout the
+     * suggestions are computed on the calling thread.
+     *
+     * @param name   the command name
+     * @param sender the command sender
+     * @param args   the command arguments
+     * @return suggestions, or an empty list
+     */
+    public List<String> getSuggestionsBlocking(String name, S sender, List<String> args) {
+        SuggestionDispatcher<S> dispatcher = suggestionDispatcher;
+        if (dispatcher == null || dispatcher.timeoutMillis() <= 0L
+                || resolveSuggestionThreading(name, args) != CommandThreading.ASYNC) {
+            return getSuggestions(name, sender, args);
+        }
+        try {
+            return dispatcher.dispatch(sender, () -> getSuggestions(name, sender, args))
+                    .get(dispatcher.timeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException | TimeoutException | CancellationException e) {
+            return List.of();
+        }
+    }
+
     /**
      * Gets tab completion suggestions for a command.
      * 
@@ -1516,6 +1642,160 @@ public class CommandManager<S> {
     }
 
 
+    /**
+     * A {@code @Suggest} source naming provider methods on its host. Every public
+     * overload with that name is bound once; completing then only matches the
+     * runtime argument types against the cached parameter lists and calls the
+     * chosen overload through its {@link MethodInvoker}.
+     */
+    private final class MethodSuggestionProvider implements SuggestionProvider<S> {
+        private final Object host;
+        private final String source;
+        private final List<String> contextArgs;
+        private final Class<?>[][] parameterTypes;
+        private final MethodInvoker[] invokers;
+        private final MethodInvoker noArgInvoker;
+
+        MethodSuggestionProvider(Object host, String source, List<String> contextArgs, List<Method> overloads) {
+            this.host = host;
+            this.source = source;
+            this.contextArgs = List.copyOf(contextArgs);
+            this.parameterTypes = new Class<?>[overloads.size()][];
+            this.invokers = new MethodInvoker[overloads.size()];
+            MethodInvoker noArg = null;
+            for (int i = 0; i < overloads.size(); i++) {
+                Method method = overloads.get(i);
+                parameterTypes[i] = method.getParameterTypes();
+                invokers[i] = MethodInvoker.of(method);
+                if (noArg == null && parameterTypes[i].length == 0) {
+                    noArg = invokers[i];
+                }
+            }
+            // A no-arg provider is the common case, but only when the declaration asks
+            // for nothing: with contextArgs the author wants those values, so a
+            // same-named no-arg overload must not shadow the context-aware one (it
+            // would drop the context silently and suggest the wrong list).
+            this.noArgInvoker = this.contextArgs.isEmpty() ? noArg : null;
+        }
+
+        @Override
+        public List<String> suggest(S sender, String currentInput, Map<String, Object> previousParsedArguments) {
+            if (noArgInvoker != null) {
+                try {
+                    List<String> result = asSuggestions(noArgInvoker.invoke(host, new Object[0]));
+                    if (result != null) {
+                        return result;
+                    }
+                } catch (Exception e) {
+                }
+            }
+
+            List<Object> dynamicArgs = new ArrayList<>();
+            List<Class<?>> dynamicArgTypes = new ArrayList<>();
+            if (contextArgs.isEmpty()) {
+                Class<?> playerType = platform.playerType();
+                Class<?> senderType = platform.senderType();
+                boolean methodTakesPlayer = false;
+                if (playerType != null) {
+                    Object player = platform.getPlayerSender(sender);
+                    if (player != null) {
+                        dynamicArgs.add(player);
+                        dynamicArgTypes.add(playerType);
+                        methodTakesPlayer = true;
+                    }
+                }
+                if (senderType != null && !methodTakesPlayer) {
+                    dynamicArgs.add(sender);
+                    dynamicArgTypes.add(senderType);
+                }
+            }
+
+            for (String contextArgName : contextArgs) {
+                Object argValue = previousParsedArguments.get(contextArgName);
+                if (argValue == null) {
+                    logger.debug("Missing context argument '{}' for suggestion method {}", contextArgName, source);
+                    return Collections.emptyList();
+                }
+                dynamicArgs.add(argValue);
+                dynamicArgTypes.add(argValue.getClass());
+            }
+
+            // Sender and the partially-typed word are both conveniences a provider may or
+            // may not declare, so try the candidate signatures from richest to plainest
+            // and call the first one that exists. Notably currentInput is offered even
+            // when empty — tab on a bare argument is the common case, and a provider that
+            // declares it should not need a second overload just to serve it.
+            int senderArgs = dynamicArgs.size() - contextArgs.size();
+            List<Object> withoutSender = dynamicArgs.subList(senderArgs, dynamicArgs.size());
+            List<Class<?>> withoutSenderTypes = dynamicArgTypes.subList(senderArgs, dynamicArgTypes.size());
+            String input = currentInput != null ? currentInput : "";
+
+            List<List<Object>> candidates = List.of(
+                    append(dynamicArgs, input),      // (sender?, context..., currentInput)
+                    dynamicArgs,                     // (sender?, context...)
+                    append(withoutSender, input),    // (context..., currentInput)
+                    withoutSender);                  // (context...)
+            List<List<Class<?>>> candidateTypes = List.of(
+                    append(dynamicArgTypes, String.class),
+                    dynamicArgTypes,
+                    append(withoutSenderTypes, String.class),
+                    withoutSenderTypes);
+
+            try {
+                for (int i = 0; i < candidates.size(); i++) {
+                    int overload = findOverload(candidateTypes.get(i));
+                    if (overload < 0) {
+                        continue;
+                    }
+                    List<String> result = asSuggestions(invokers[overload].invoke(host,
+                            candidates.get(i).toArray()));
+                    if (result != null) {
+                        return result;
+                    }
+                }
+            } catch (Exception e) {
+                logger.debug("Failed to call suggestion method {} with dynamic parameters: {}", source,
+                        e.getMessage());
+            }
+            return Collections.emptyList();
+        }
+
+        private int findOverload(List<Class<?>> types) {
+            for (int overload = 0; overload < parameterTypes.length; overload++) {
+                Class<?>[] declared = parameterTypes[overload];
+                if (declared.length != types.size()) {
+                    continue;
+                }
+                boolean typesMatch = true;
+                for (int i = 0; i < declared.length; i++) {
+                    Class<?> expected = types.get(i);
+                    Class<?> actual = declared[i];
+                    if (!actual.isAssignableFrom(expected) && !isPrimitiveWrapperOf(actual, expected)) {
+                        typesMatch = false;
+                        break;
+                    }
+                }
+                if (typesMatch) {
+                    return overload;
+                }
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<String> asSuggestions(Object result) {
+            if (result instanceof String[]) {
+                return Arrays.asList((String[]) result);
+            } else if (result instanceof List) {
+                return (List<String>) result;
+            }
+            return null;
+        }
+    }
+
+    private record SuggestionBinding<S>(Object host, int parserVersion, List<SuggestionProvider<S>> providers) {
+    }
+
     private static class ArgumentInfo {
         final CommandArgument argument;
 
@@ -1603,6 +1883,79 @@ public class CommandManager<S> {
         }
     }
 
+    /**
+     * Argument layout of one action, compiled when its command cache is built:
+     * sender and option slots, the option index and the parser candidates of
+     * every slot. Recompiled when parsers are registered or removed.
+     */
+    private static final class ArgumentPlan<S> {
+        private final CommandArgument[] arguments;
+        private final int[] senderSlots;
+        private final int[] optionSlots;
+        private final boolean[] sender;
+        private final OptionIndex optionIndex;
+        private final List<List<TypeParser<S, ?>>> parsers;
+        private final int parserVersion;
+
+        private ArgumentPlan(CommandArgument[] arguments,
+                             int[] senderSlots,
+                             int[] optionSlots,
+                             boolean[] sender,
+                             OptionIndex optionIndex,
+                             List<List<TypeParser<S, ?>>> parsers,
+                             int parserVersion) {
+            this.arguments = arguments;
+            this.senderSlots = senderSlots;
+            this.optionSlots = optionSlots;
+            this.sender = sender;
+            this.optionIndex = optionIndex;
+            this.parsers = parsers;
+            this.parserVersion = parserVersion;
+        }
+
+        boolean isSender(int slot) {
+            return sender[slot];
+        }
+    }
+
+    private ArgumentPlan<S> planFor(CommandAction<S> action) {
+        ArgumentPlan<S> plan = action.plan();
+        if (plan == null || plan.parserVersion != typeParserRegistry.version()) {
+            plan = compilePlan(action.arguments());
+            action.plan(plan);
+        }
+        return plan;
+    }
+
+    private ArgumentPlan<S> compilePlan(List<CommandArgument> arguments) {
+        int version = typeParserRegistry.version();
+        CommandArgument[] slots = arguments.toArray(new CommandArgument[0]);
+        boolean[] sender = new boolean[slots.length];
+        List<Integer> senderSlots = new ArrayList<>();
+        List<Integer> optionSlots = new ArrayList<>();
+        List<List<TypeParser<S, ?>>> parsers = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            CommandArgument argument = slots[i];
+            sender[i] = isSenderArgument(argument);
+            if (sender[i]) {
+                senderSlots.add(i);
+                parsers.add(List.of());
+                continue;
+            }
+            if (argument.isOption()) {
+                optionSlots.add(i);
+            }
+            parsers.add(typeParserRegistry.parsersFor(argument.getType()));
+        }
+        return new ArgumentPlan<>(slots,
+                senderSlots.stream().mapToInt(Integer::intValue).toArray(),
+                optionSlots.stream().mapToInt(Integer::intValue).toArray(),
+                sender,
+                buildOptionIndex(arguments),
+                parsers,
+                version);
+    }
+
     private OptionIndex buildOptionIndex(List<CommandArgument> arguments) {
         if (arguments == null || arguments.isEmpty()) {
             return new OptionIndex(new HashMap<>(), new HashMap<>(), List.of());
@@ -1811,23 +2164,8 @@ public class CommandManager<S> {
         }
 
         // Process explicit suggestions
-        for (String suggestionSource : argument.getSuggestions()) {
-            logger.debug(() -> "Processing suggestion source: '" + suggestionSource + "'");
-
-            if (suggestionSource.contains("|")) {
-                String[] sources = suggestionSource.split("\\|");
-                for (String source : sources) {
-                    List<String> sourceSuggestions = processSuggestionSource(command, source.trim(), sender,
-                            currentInput, argument, previousParsedArguments);
-                    logger.debug(() -> "Source '" + source.trim() + "' generated: " + sourceSuggestions);
-                    suggestions.addAll(sourceSuggestions);
-                }
-            } else {
-                List<String> sourceSuggestions = processSuggestionSource(command, suggestionSource, sender,
-                        currentInput, argument, previousParsedArguments);
-                logger.debug(() -> "Source '" + suggestionSource + "' generated: " + sourceSuggestions);
-                suggestions.addAll(sourceSuggestions);
-            }
+        for (SuggestionProvider<S> provider : suggestionProvidersFor(command, argument)) {
+            suggestions.addAll(provider.suggest(sender, currentInput, previousParsedArguments));
         }
 
         List<String> filteredSuggestions = suggestions.stream()
@@ -1839,18 +2177,59 @@ public class CommandManager<S> {
         return filteredSuggestions;
     }
 
-    @SuppressWarnings("unchecked")
-    private List<String> processSuggestionSource(MagicCommand command, String source, S sender,
-            String currentInput, CommandArgument currentArgument, Map<String, Object> previousParsedArguments) {
-        logger.debug("Processing suggestion source: " + source);
+    private List<SuggestionProvider<S>> suggestionProvidersFor(MagicCommand command, CommandArgument argument) {
+        Object host = argument.getSuggestionHost() != null ? argument.getSuggestionHost() : command;
+        int parserVersion = typeParserRegistry.version();
+        CommandCache<S> cache = commandCache.get(command);
+        if (cache == null) {
+            return resolveSuggestionProviders(host, argument);
+        }
+        SuggestionBinding<S> binding = cache.suggestions().get(argument);
+        if (binding == null || binding.host() != host || binding.parserVersion() != parserVersion) {
+            binding = new SuggestionBinding<>(host, parserVersion, resolveSuggestionProviders(host, argument));
+            cache.suggestions().put(argument, binding);
+        }
+        return binding.providers();
+    }
 
-        if ("@commands".equalsIgnoreCase(source)) {
-            return Arrays.asList(HelpCommandSupport.getCommandSuggestions(this));
+    private void bindSuggestionProviders(MagicCommand command, List<CommandArgument> arguments,
+                                         Map<CommandArgument, SuggestionBinding<S>> target) {
+        int parserVersion = typeParserRegistry.version();
+        for (CommandArgument argument : arguments) {
+            if (argument.getSuggestions().isEmpty()) {
+                continue;
+            }
+            Object host = argument.getSuggestionHost() != null ? argument.getSuggestionHost() : command;
+            target.put(argument, new SuggestionBinding<>(host, parserVersion,
+                    resolveSuggestionProviders(host, argument)));
         }
+    }
 
+    private List<SuggestionProvider<S>> resolveSuggestionProviders(Object host, CommandArgument argument) {
+        List<SuggestionProvider<S>> providers = new ArrayList<>();
+        for (String suggestionSource : argument.getSuggestions()) {
+            if (suggestionSource.contains("|")) {
+                for (String source : suggestionSource.split("\\|")) {
+                    providers.add(resolveSuggestionSource(host, source.trim(), argument));
+                }
+            } else {
+                providers.add(resolveSuggestionSource(host, suggestionSource, argument));
+            }
+        }
+        return List.copyOf(providers);
+    }
+
+    private SuggestionProvider<S> resolveSuggestionSource(Object host, String source, CommandArgument argument) {
+        logger.debug("Resolving suggestion source: {}", source);
+
+        if ("@commands".equalsIgnoreCase(source)) {
+            return (sender, currentInput, previousParsedArguments) ->
+                    Arrays.asList(HelpCommandSupport.getCommandSuggestions(this));
+        }
 
         if (typeParserRegistry.isSpecialSuggestion(source)) {
-            return typeParserRegistry.parseSuggestionFiltered(source, currentInput, sender);
+            return (sender, currentInput, previousParsedArguments) ->
+                    typeParserRegistry.parseSuggestionFiltered(source, currentInput, sender);
         }
 
         if (source.startsWith("{") && source.endsWith("}")) {
@@ -1862,130 +2241,36 @@ public class CommandManager<S> {
                     values.add(trimmed);
                 }
             }
-            return values;
+            return SuggestionProvider.literal(values);
         }
 
-        List<Object> dynamicArgs = new ArrayList<>();
-        List<Class<?>> dynamicArgTypes = new ArrayList<>();
-
-        Class<?> playerType = platform.playerType();
-        Class<?> senderType = platform.senderType();
-
-        boolean methodTakesPlayer = false;
-
         // Provider methods resolve against the argument's suggestion host when set
         // (the original carrier instance a flat-mounted/merged command came from),
         // else the registered command itself. Without this, a source naming a
         // carrier method is invisible after mount because the registered command is
         // a wrapper that does not declare it — the method would then be misread as a
         // literal below.
-        Object provider = currentArgument.getSuggestionHost() != null
-                ? currentArgument.getSuggestionHost()
-                : command;
-
-        // Whether a provider method with this name exists at all (any signature).
-        // If none does and no special form matched, the source is a static literal
-        // value (e.g. @Suggest({"void", "normal", "flat"}) — each array element is a
-        // ready-made completion, not a method name), so it is returned verbatim
-        // below. A real method-name typo therefore still yields nothing (the method
-        // is absent) — but so would an intended literal; we prefer the literal since
-        // an existing-method name always wins here.
-        boolean providerMethodExists = hasMethodNamed(provider.getClass(), source);
-
-        // A no-arg provider is the common case, but only when the declaration asks for
-        // nothing: with contextArgs the author wants those values, so a same-named
-        // no-arg overload must not shadow the context-aware one below (it would drop
-        // the context silently and suggest the wrong list).
-        if (currentArgument.getContextArgs().isEmpty()) {
-            try {
-                Method method = provider.getClass().getMethod(source);
-                Object result = method.invoke(provider);
-                if (result instanceof String[]) {
-                    return Arrays.asList((String[]) result);
-                } else if (result instanceof List) {
-                    return (List<String>) result;
-                }
-            } catch (Exception e) {
-            }
-        }
-
-        if (currentArgument.getContextArgs().isEmpty()) {
-            if (playerType != null) {
-                Object player = platform.getPlayerSender(sender);
-                if (player != null) {
-                    dynamicArgs.add(player);
-                    dynamicArgTypes.add(playerType);
-                    methodTakesPlayer = true;
-                }
-            }
-            if (senderType != null && !methodTakesPlayer) {
-                dynamicArgs.add(sender);
-                dynamicArgTypes.add(senderType);
+        List<Method> overloads = new ArrayList<>();
+        for (Method method : host.getClass().getMethods()) {
+            if (method.getName().equals(source)) {
+                overloads.add(method);
             }
         }
-
-        for (String contextArgName : currentArgument.getContextArgs()) {
-            Object argValue = previousParsedArguments.get(contextArgName);
-            if (argValue != null) {
-                dynamicArgs.add(argValue);
-                dynamicArgTypes.add(argValue.getClass());
-            } else {
-                logger.debug("Missing context argument '" + contextArgName + "' for suggestion method " + source);
-                return Collections.emptyList();
-            }
-        }
-        
-        // Sender and the partially-typed word are both conveniences a provider may or
-        // may not declare, so try the candidate signatures from richest to plainest
-        // and call the first one that exists. Notably currentInput is offered even
-        // when empty — tab on a bare argument is the common case, and a provider that
-        // declares it should not need a second overload just to serve it.
-        int senderArgs = dynamicArgs.size() - currentArgument.getContextArgs().size();
-        List<Object> withoutSender = dynamicArgs.subList(senderArgs, dynamicArgs.size());
-        List<Class<?>> withoutSenderTypes = dynamicArgTypes.subList(senderArgs, dynamicArgTypes.size());
-        String input = currentInput != null ? currentInput : "";
-
-        List<List<Object>> candidates = List.of(
-                append(dynamicArgs, input),      // (sender?, context..., currentInput)
-                dynamicArgs,                     // (sender?, context...)
-                append(withoutSender, input),    // (context..., currentInput)
-                withoutSender);                  // (context...)
-        List<List<Class<?>>> candidateTypes = List.of(
-                append(dynamicArgTypes, String.class),
-                dynamicArgTypes,
-                append(withoutSenderTypes, String.class),
-                withoutSenderTypes);
-
-        try {
-            for (int i = 0; i < candidates.size(); i++) {
-                Method matchingMethod = findMatchingMethod(provider.getClass(), source, candidateTypes.get(i));
-                if (matchingMethod == null) {
-                    continue;
-                }
-                Object result = matchingMethod.invoke(provider, candidates.get(i).toArray());
-                if (result instanceof String[]) {
-                    return Arrays.asList((String[]) result);
-                } else if (result instanceof List) {
-                    return (List<String>) result;
-                }
-            }
-        } catch (Exception e) {
-            logger.debug("Failed to call suggestion method " + source + " with dynamic parameters: " + e.getMessage());
+        if (!overloads.isEmpty()) {
+            return new MethodSuggestionProvider(host, source, argument.getContextArgs(), overloads);
         }
 
         if ("@sender".equalsIgnoreCase(source)) {
-            return Collections.emptyList();
+            return SuggestionProvider.literal(List.of());
         }
 
         // No special form and no provider method by this name: treat the source as a
         // literal completion value. This makes the intuitive array form
-        // @Suggest({"a", "b", "c"}) work the same as @Suggest("{a, b, c}").
-        if (!providerMethodExists) {
-            String literal = source.trim();
-            return literal.isEmpty() ? Collections.emptyList() : List.of(literal);
-        }
-
-        return Collections.emptyList();
+        // @Suggest({"a", "b", "c"}) work the same as @Suggest("{a, b, c}"). A real
+        // method-name typo therefore yields the typo itself — but an existing-method
+        // name always wins above.
+        String literal = source.trim();
+        return SuggestionProvider.literal(literal.isEmpty() ? List.of() : List.of(literal));
     }
 
     /** @return {@code list} plus {@code extra}, as a new list. */
@@ -1995,42 +2280,7 @@ public class CommandManager<S> {
         return out;
     }
 
-    /** @return true if {@code clazz} declares any accessible method named {@code name}. */
-    private static boolean hasMethodNamed(Class<?> clazz, String name) {
-        for (Method method : clazz.getMethods()) {
-            if (method.getName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private Method findMatchingMethod(Class<?> clazz, String methodName, List<Class<?>> paramTypes) {
-        for (Method method : clazz.getMethods()) {
-            if (!method.getName().equals(methodName)) {
-                continue;
-            }
-            Class<?>[] methodParamTypes = method.getParameterTypes();
-            if (methodParamTypes.length != paramTypes.size()) {
-                continue;
-            }
-            boolean typesMatch = true;
-            for (int i = 0; i < paramTypes.size(); i++) {
-                Class<?> expected = paramTypes.get(i);
-                Class<?> actual = methodParamTypes[i];
-                if (!actual.isAssignableFrom(expected) && !isPrimitiveWrapperOf(actual, expected)) {
-                    typesMatch = false;
-                    break;
-                }
-            }
-            if (typesMatch) {
-                return method;
-            }
-        }
-        return null;
-    }
-
-    private boolean isPrimitiveWrapperOf(Class<?> wrapper, Class<?> primitive) {
+    private static boolean isPrimitiveWrapperOf(Class<?> wrapper, Class<?> primitive) {
         if (!wrapper.isPrimitive() && primitive.isPrimitive()) {
             if (wrapper == Integer.class && primitive == int.class) return true;
             if (wrapper == Long.class && primitive == long.class) return true;
@@ -2518,6 +2768,7 @@ public class CommandManager<S> {
         private final List<CommandAction<S>> subActions;
         private final CommandAction<S> directAction;
         private final SubCommandNode<S> tree;
+        private final Map<CommandArgument, SuggestionBinding<S>> suggestions = new ConcurrentHashMap<>();
 
         private CommandCache(int dynamicSubCount,
                              MagicCommand.DynamicExecute dynamicExecute,
@@ -2550,6 +2801,10 @@ public class CommandManager<S> {
         SubCommandNode<S> tree() {
             return tree;
         }
+
+        Map<CommandArgument, SuggestionBinding<S>> suggestions() {
+            return suggestions;
+        }
     }
 
     private record SubCommandTraversal<S>(SubCommandNode<S> node, int consumed,
@@ -2640,7 +2895,9 @@ public class CommandManager<S> {
         private final CommandThreading threading;
         private final List<CommandArgument> arguments;
         private final Method method;
+        private final MethodInvoker invoker;
         private final CommandExecutor<S> executor;
+        private volatile ArgumentPlan<S> plan;
 
         private CommandAction(String name,
                               List<String> path,
@@ -2661,6 +2918,7 @@ public class CommandManager<S> {
             this.threading = threading != null ? threading : CommandThreading.MAIN;
             this.arguments = arguments != null ? new ArrayList<>(arguments) : new ArrayList<>();
             this.method = method;
+            this.invoker = method != null ? MethodInvoker.of(method) : null;
             this.executor = executor;
         }
 
@@ -2801,6 +3059,18 @@ public class CommandManager<S> {
             return method;
         }
 
+        MethodInvoker invoker() {
+            return invoker;
+        }
+
+        ArgumentPlan<S> plan() {
+            return plan;
+        }
+
+        void plan(ArgumentPlan<S> plan) {
+            this.plan = plan;
+        }
+
         CommandExecutor<S> executor() {
             return executor;
         }
@@ -49,6 +49,20 @@ public interface CommandPlatform<S> {
      */
     String getName(S sender);
 
+    /**
+     * Resolve an identity for the sender that stays the same across requests.
+     * Tab completion uses it to find the request a newer one supersedes, so
+     * platforms that create a new sender object per request (like Brigadier's
+     * command sources) must not rely on object identity.
+     *
+     * @param sender sender
+     * @return identity key, or null if the sender is not tracked
+     */
+    @Nullable
+    default Object getSenderKey(S sender) {
+        return sender != null ? getName(sender) : null;
+    }
+
     /**
      * Check permission for a sender with default value awareness.
      *
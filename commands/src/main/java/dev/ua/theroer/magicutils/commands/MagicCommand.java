@@ -578,6 +578,7 @@ public abstract class MagicCommand {
             List<String> optionLongNames = new ArrayList<>();
             boolean isFlag = false;
             List<String> contextArgs = new ArrayList<>();
+            CommandThreading suggestionThreading = CommandThreading.MAIN;
 
             for (Annotation annotation : paramAnnotations[i]) {
                 if (annotation instanceof DefaultValue) {
@@ -593,6 +594,9 @@ public abstract class MagicCommand {
                     if (suggest.contextArgs() != null && suggest.contextArgs().length > 0) {
                         contextArgs.addAll(Arrays.asList(suggest.contextArgs()));
                     }
+                    if (suggest.threading() != null) {
+                        suggestionThreading = suggest.threading();
+                    }
                 }
                 if (annotation instanceof Permission) {
                     Permission perm = (Permission) annotation;
@@ -669,6 +673,7 @@ public abstract class MagicCommand {
                         isFlag);
             }
             builder.contextArgs(contextArgs.toArray(new String[0]));
+            builder.suggestionThreading(suggestionThreading);
 
             args.add(builder.build());
         }
@@ -962,9 +967,10 @@ public abstract class MagicCommand {
     }
 
     private static CommandExecutor<Object> createMethodExecutor(MagicCommand command, Method method) {
+        MethodInvoker invoker = MethodInvoker.of(method);
         return execution -> {
             try {
-                Object result = method.invoke(command, execution.parsedArgs());
+                Object result = invoker.invoke(command, execution.parsedArgs());
                 return resolveResult(result);
             } catch (InvocationTargetException e) {
                 Throwable cause = e.getCause();
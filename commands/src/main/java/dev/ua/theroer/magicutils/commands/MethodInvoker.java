@@ -0,0 +1,61 @@
+package dev.ua.theroer.magicutils.commands;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A command method bound once into a {@link MethodHandle}.
+ *
+ * <p>The handle is unreflected when the command is registered and adapted to
+ * take the receiver and a spread argument array, so each execution skips the
+ * access checks and argument boxing of {@link Method#invoke}. Exceptions keep
+ * the reflective contract: anything thrown by the method arrives wrapped in
+ * {@link InvocationTargetException}. When the method cannot be unreflected
+ * from this module, calls fall back to {@link Method#invoke}.</p>
+ */
+final class MethodInvoker {
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    static MethodInvoker of(Method method) {
+        return new MethodInvoker(method, bind(method));
+    }
+
+    Method method() {
+        return method;
+    }
+
+    Object invoke(Object target, Object[] args) throws IllegalAccessException, InvocationTargetException {
+        if (handle == null) {
+            return method.invoke(target, args);
+        }
+        try {
+            return handle.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static MethodHandle bind(Method method) {
+        try {
+            MethodHandle direct = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                direct = MethodHandles.dropArguments(direct, 0, Object.class);
+            }
+            return direct.asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
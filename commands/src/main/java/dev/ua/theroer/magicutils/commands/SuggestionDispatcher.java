@@ -0,0 +1,73 @@
+package dev.ua.theroer.magicutils.commands;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs tab completion requests on a worker executor.
+ *
+ * <p>Each sender has at most one live request: a newer request cancels the
+ * previous one, and a request that is cancelled or timed out before its task
+ * starts never runs the providers. Senders are matched by the key the platform
+ * resolves for them, not by the sender object, which Brigadier recreates for
+ * every request. A request that outlives the timeout
+ * completes with no suggestions.</p>
+ *
+ * @param <S> sender type
+ */
+final class SuggestionDispatcher<S> {
+    private final Executor executor;
+    private final long timeoutMillis;
+    private final Function<S, Object> senderKeys;
+    private final Map<Object, CompletableFuture<List<String>>> pending = new ConcurrentHashMap<>();
+
+    SuggestionDispatcher(Executor executor, Duration timeout, Function<S, Object> senderKeys) {
+        this.executor = executor;
+        this.senderKeys = senderKeys;
+        this.timeoutMillis = timeout != null && !timeout.isNegative() && !timeout.isZero()
+                ? timeout.toMillis()
+                : 0L;
+    }
+
+    long timeoutMillis() {
+        return timeoutMillis;
+    }
+
+    CompletableFuture<List<String>> dispatch(S sender, Supplier<List<String>> task) {
+        CompletableFuture<List<String>> request = new CompletableFuture<>();
+        Object key = sender != null ? senderKeys.apply(sender) : null;
+        CompletableFuture<List<String>> previous = key != null ? pending.put(key, request) : null;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        if (key != null) {
+            request.whenComplete((result, error) -> pending.remove(key, request));
+        }
+        if (timeoutMillis > 0L) {
+            request.completeOnTimeout(List.of(), timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        try {
+            executor.execute(() -> {
+                if (request.isDone()) {
+                    return;
+                }
+                try {
+                    request.complete(task.get());
+                } catch (Throwable e) {
+                    request.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            request.complete(task.get());
+        }
+        return request;
+    }
+}
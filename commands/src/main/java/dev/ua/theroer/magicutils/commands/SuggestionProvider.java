@@ -0,0 +1,41 @@
+package dev.ua.theroer.magicutils.commands;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One {@code @Suggest} source resolved ahead of tab completion.
+ *
+ * <p>The command manager turns every source of an argument into a provider
+ * when the command is cached: a fixed literal list, a delegate to a special
+ * type-parser source, or a provider method bound through a
+ * {@link MethodInvoker}. Completing an argument then only calls the providers,
+ * without looking up methods or re-reading the source strings.</p>
+ *
+ * @param <S> sender type
+ */
+@FunctionalInterface
+interface SuggestionProvider<S> {
+
+    /**
+     * Produces the raw, unfiltered completions for this source.
+     *
+     * @param sender command sender asking for completions
+     * @param currentInput partially typed word, never {@code null}
+     * @param previousParsedArguments values of the arguments typed so far
+     * @return completions, possibly empty
+     */
+    List<String> suggest(S sender, String currentInput, Map<String, Object> previousParsedArguments);
+
+    /**
+     * Creates a provider that always returns the same values.
+     *
+     * @param values completions to return
+     * @param <S> sender type
+     * @return literal provider
+     */
+    static <S> SuggestionProvider<S> literal(List<String> values) {
+        List<String> copy = List.copyOf(values);
+        return (sender, currentInput, previousParsedArguments) -> copy;
+    }
+}
@@ -146,6 +146,35 @@ public interface TypeParser<S, T> {
         return getSuggestions(sender);
     }
 
+    /**
+     * Parses a special suggestion source for the word being typed. Parsers
+     * backed by large name sets can override this to return only the entries
+     * starting with {@code currentInput} instead of the whole set; the caller
+     * still filters the result.
+     *
+     * @param source the suggestion source
+     * @param sender the command sender for context
+     * @param currentInput the partially typed word, possibly empty
+     * @return list of suggestions from the source
+     */
+    @NotNull
+    default List<String> parseSuggestion(@NotNull String source, @NotNull S sender, @NotNull String currentInput) {
+        return parseSuggestion(source, sender);
+    }
+
+    /**
+     * Where this parser's suggestions may be computed when the registry
+     * completes asynchronously. Parsers that read main-thread-only platform
+     * state (worlds, online players) keep {@link CommandThreading#MAIN};
+     * parsers over immutable data can return {@link CommandThreading#ASYNC}.
+     *
+     * @return suggestion threading policy
+     */
+    @NotNull
+    default CommandThreading getSuggestionThreading() {
+        return CommandThreading.MAIN;
+    }
+
     /**
      * Compare two values under a given mode (parsers may override).
      *
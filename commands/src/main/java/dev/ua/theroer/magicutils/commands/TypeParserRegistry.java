@@ -11,11 +11,12 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -24,8 +25,27 @@ import java.util.stream.Collectors;
  * @param <S> sender type
  */
 public class TypeParserRegistry<S> {
+    /**
+     * Parser classes that only override the two-argument {@code getSuggestions};
+     * resolved once per class instead of by reflection on every completion.
+     */
+    private static final ClassValue<Boolean> LEGACY_SUGGESTIONS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !isOverride(type, "getSuggestions", Object.class, CommandArgument.class, Map.class, String.class)
+                    && isOverride(type, "getSuggestions", Object.class, CommandArgument.class);
+        }
+    };
+
     private final CommandLogger logger;
     private final List<TypeParser<S, ?>> parsers = new CopyOnWriteArrayList<>();
+    /**
+     * Compatible parsers per target type. Held by the registry rather than in a
+     * {@link ClassValue}: entries on JDK classes like {@code String} would keep
+     * the parsers, and the plugin class loader behind them, alive forever.
+     */
+    private volatile Map<Class<?>, List<TypeParser<S, ?>>> parsersByType = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     /**
      * Create a new empty TypeParserRegistry; prefer {@link #createWithDefaults(CommandLogger)}.
@@ -56,7 +76,7 @@ public class TypeParserRegistry<S> {
         register(new BooleanTypeParser<>());
         register(new EnumTypeParser<>());
         register(new ListTypeParser<>());
-        logger.debug("Registered " + parsers.size() + " default type parsers");
+        logger.debug(() -> "Registered " + parsers.size() + " default type parsers");
     }
 
     /**
@@ -64,11 +84,12 @@ public class TypeParserRegistry<S> {
      *
      * @param parser the parser to register
      */
-    public void register(@NotNull TypeParser<S, ?> parser) {
+    public synchronized void register(@NotNull TypeParser<S, ?> parser) {
         parsers.add(Objects.requireNonNull(parser, "parser"));
         // Sort by priority (highest first)
         parsers.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
-        logger.debug("Registered type parser: " + parser.getClass().getSimpleName());
+        invalidate();
+        logger.debug(() -> "Registered type parser: " + parser.getClass().getSimpleName());
     }
 
     /**
@@ -111,43 +132,48 @@ public class TypeParserRegistry<S> {
     @SuppressWarnings("unchecked")
     public <T> TypeParseResult<T> parseDetailed(@Nullable String value, @NotNull Class<T> targetType,
             @NotNull S sender) {
-        logger.debug("Parsing value: '" + value + "' to type: " + targetType.getSimpleName());
-        boolean sawCompatibleParser = false;
+        return parseDetailed(value, targetType, sender, parsersFor(targetType));
+    }
+
+    /**
+     * Parses a value with candidates resolved earlier by {@link #parsersFor(Class)}.
+     */
+    @SuppressWarnings("unchecked")
+    <T> TypeParseResult<T> parseDetailed(@Nullable String value, @NotNull Class<T> targetType,
+            @NotNull S sender, @NotNull List<TypeParser<S, ?>> candidates) {
+        logger.debug("Parsing value: '{}' to type: {}", value, targetType.getSimpleName());
         boolean sawInvalid = false;
 
-        for (TypeParser<S, ?> parser : parsers) {
-            if (parser.canParse(targetType)) {
-                sawCompatibleParser = true;
-                logger.debug("Using parser: " + parser.getClass().getSimpleName());
-                try {
-                    @SuppressWarnings("rawtypes")
-                    TypeParseResult<T> result = ((TypeParser) parser).parseDetailed(value, targetType, sender);
-                    if (result.isSuccess()) {
-                        logger.debug("Successfully parsed to: "
-                                + result.value().getClass().getSimpleName() + "=" + result.value());
-                        return result;
-                    }
-                    if (result.isMissing()) {
-                        logger.debug("Input is missing for type: " + targetType.getSimpleName());
-                        return result;
-                    }
-                    sawInvalid = true;
-                } catch (Exception e) {
-                    sawInvalid = true;
-                    logger.debug("Parser " + parser.getClass().getSimpleName() + " failed: " + e.getMessage());
+        for (TypeParser<S, ?> parser : candidates) {
+            logger.debug("Using parser: {}", parser.getClass().getSimpleName());
+            try {
+                @SuppressWarnings("rawtypes")
+                TypeParseResult<T> result = ((TypeParser) parser).parseDetailed(value, targetType, sender);
+                if (result.isSuccess()) {
+                    logger.debug("Successfully parsed to: {}={}",
+                            result.value().getClass().getSimpleName(), result.value());
+                    return result;
+                }
+                if (result.isMissing()) {
+                    logger.debug("Input is missing for type: {}", targetType.getSimpleName());
+                    return result;
                 }
+                sawInvalid = true;
+            } catch (Exception e) {
+                sawInvalid = true;
+                logger.debug("Parser {} failed: {}", parser.getClass().getSimpleName(), e.getMessage());
             }
         }
 
         if (value == null) {
-            logger.debug("Input is missing for type: " + targetType.getSimpleName());
+            logger.debug("Input is missing for type: {}", targetType.getSimpleName());
             return TypeParseResult.missing();
         }
-        if (sawCompatibleParser || sawInvalid) {
-            logger.debug("Compatible parser rejected value for type: " + targetType.getSimpleName());
+        if (!candidates.isEmpty() || sawInvalid) {
+            logger.debug("Compatible parser rejected value for type: {}", targetType.getSimpleName());
             return TypeParseResult.invalid();
         }
-        logger.debug("No suitable parser found for type: " + targetType.getSimpleName());
+        logger.debug("No suitable parser found for type: {}", targetType.getSimpleName());
         return TypeParseResult.invalid();
     }
 
@@ -184,13 +210,17 @@ public class TypeParserRegistry<S> {
      */
     @NotNull
     public List<String> parseSuggestion(@NotNull String source, @NotNull S sender) {
+        return parseSuggestion(source, sender, "");
+    }
+
+    private List<String> parseSuggestion(@NotNull String source, @NotNull S sender, @NotNull String currentInput) {
         logger.debug(() -> "Parsing suggestion source: '" + source + "'");
 
         for (TypeParser<S, ?> parser : parsers) {
             if (parser.canParseSuggestion(source)) {
                 logger.debug(() -> "Using parser for suggestion: " + parser.getClass().getSimpleName());
                 try {
-                    List<String> result = parser.parseSuggestion(source, sender);
+                    List<String> result = parser.parseSuggestion(source, sender, currentInput);
                     if (!result.isEmpty()) {
                         logger.debug(() -> "Successfully parsed " + result.size() + " suggestions");
                         return result;
@@ -222,7 +252,7 @@ public class TypeParserRegistry<S> {
             @NotNull S sender) {
         logger.debug(() -> "Parsing filtered suggestion source: '" + source + "' with input: '" + currentInput + "'");
 
-        List<String> suggestions = parseSuggestion(source, sender);
+        List<String> suggestions = parseSuggestion(source, sender, currentInput != null ? currentInput : "");
 
         if (currentInput == null || currentInput.isEmpty()) {
             return suggestions;
@@ -282,24 +312,17 @@ public class TypeParserRegistry<S> {
             @Nullable String currentInput) {
         logger.debug(() -> "Getting suggestions for type: " + targetType.getSimpleName());
 
-        for (TypeParser<S, ?> parser : parsers) {
-            if (parser.canParse(targetType)) {
-                logger.debug(() -> "Using parser for suggestions: " + parser.getClass().getSimpleName());
-                try {
-                    List<String> suggestions;
-                    if (overridesSuggestionsWithContext(parser)) {
-                        suggestions = parser.getSuggestions(sender, argument, previousParsedArguments, currentInput);
-                    } else if (overridesSuggestionsLegacy(parser)) {
-                        suggestions = parser.getSuggestions(sender, argument);
-                    } else {
-                        suggestions = parser.getSuggestions(sender, argument, previousParsedArguments, currentInput);
-                    }
-                    logger.debug(() -> "Got " + suggestions.size() + " suggestions");
-                    return suggestions;
-                } catch (Exception e) {
-                    logger.debug(() -> "Parser " + parser.getClass().getSimpleName()
-                            + " failed to get suggestions: " + e.getMessage());
-                }
+        for (TypeParser<S, ?> parser : parsersFor(targetType)) {
+            logger.debug(() -> "Using parser for suggestions: " + parser.getClass().getSimpleName());
+            try {
+                List<String> suggestions = LEGACY_SUGGESTIONS.get(parser.getClass())
+                        ? parser.getSuggestions(sender, argument)
+                        : parser.getSuggestions(sender, argument, previousParsedArguments, currentInput);
+                logger.debug(() -> "Got " + suggestions.size() + " suggestions");
+                return suggestions;
+            } catch (Exception e) {
+                logger.debug(() -> "Parser " + parser.getClass().getSimpleName()
+                        + " failed to get suggestions: " + e.getMessage());
             }
         }
 
@@ -307,17 +330,7 @@ public class TypeParserRegistry<S> {
         return new ArrayList<>();
     }
 
-    private boolean overridesSuggestionsWithContext(@NotNull TypeParser<S, ?> parser) {
-        return isOverride(parser.getClass(), "getSuggestions",
-                Object.class, CommandArgument.class, Map.class, String.class);
-    }
-
-    private boolean overridesSuggestionsLegacy(@NotNull TypeParser<S, ?> parser) {
-        return isOverride(parser.getClass(), "getSuggestions",
-                Object.class, CommandArgument.class);
-    }
-
-    private boolean isOverride(@NotNull Class<?> type, @NotNull String name, @NotNull Class<?>... parameterTypes) {
+    private static boolean isOverride(@NotNull Class<?> type, @NotNull String name, @NotNull Class<?>... parameterTypes) {
         try {
             return !type.getMethod(name, parameterTypes).getDeclaringClass().equals(TypeParser.class);
         } catch (NoSuchMethodException ex) {
@@ -335,6 +348,37 @@ public class TypeParserRegistry<S> {
         return parsers.stream().anyMatch(parser -> parser.canParseSuggestion(source));
     }
 
+    /**
+     * Resolves where the parsers that complete {@code argument} may run: its
+     * type parsers when it declares no suggestion sources, otherwise the
+     * parsers behind its special sources (like {@code @players}).
+     *
+     * @param argument the command argument metadata
+     * @return {@link CommandThreading#MAIN} if any of those parsers needs the main thread
+     */
+    @NotNull
+    public CommandThreading getSuggestionThreading(@NotNull CommandArgument argument) {
+        if (argument.getSuggestions().isEmpty()) {
+            for (TypeParser<S, ?> parser : parsersFor(argument.getType())) {
+                if (parser.getSuggestionThreading() != CommandThreading.ASYNC) {
+                    return CommandThreading.MAIN;
+                }
+            }
+            return CommandThreading.ASYNC;
+        }
+        for (String suggestion : argument.getSuggestions()) {
+            for (String source : suggestion.split("\\|")) {
+                String trimmed = source.trim();
+                for (TypeParser<S, ?> parser : parsers) {
+                    if (parser.canParseSuggestion(trimmed) && parser.getSuggestionThreading() != CommandThreading.ASYNC) {
+                        return CommandThreading.MAIN;
+                    }
+                }
+            }
+        }
+        return CommandThreading.ASYNC;
+    }
+
     /**
      * Gets all registered parsers.
      *
@@ -352,12 +396,29 @@ public class TypeParserRegistry<S> {
      */
     @Nullable
     public TypeParser<S, ?> findParserForType(@NotNull Class<?> targetType) {
-        for (TypeParser<S, ?> parser : parsers) {
-            if (parser.canParse(targetType)) {
-                return parser;
-            }
-        }
-        return null;
+        List<TypeParser<S, ?>> compatible = parsersFor(targetType);
+        return compatible.isEmpty() ? null : compatible.get(0);
+    }
+
+    /**
+     * Returns every parser that can handle the given type, highest priority first.
+     *
+     * @param targetType class to resolve
+     * @return unmodifiable compatible parsers in the order {@link #parseDetailed} tries them
+     */
+    List<TypeParser<S, ?>> parsersFor(@NotNull Class<?> targetType) {
+        return parsersByType.computeIfAbsent(targetType, this::resolveParsers);
+    }
+
+    /**
+     * Returns a counter that changes whenever a parser is registered or removed,
+     * so callers holding results of {@link #parsersFor(Class)} can detect that
+     * they are stale.
+     *
+     * @return registry version
+     */
+    int version() {
+        return version.get();
     }
 
     /**
@@ -366,10 +427,11 @@ public class TypeParserRegistry<S> {
      * @param parser the parser to remove
      * @return true if the parser was removed
      */
-    public boolean unregister(@NotNull TypeParser<S, ?> parser) {
+    public synchronized boolean unregister(@NotNull TypeParser<S, ?> parser) {
         boolean removed = parsers.remove(parser);
         if (removed) {
-            logger.debug("Unregistered type parser: " + parser.getClass().getSimpleName());
+            invalidate();
+            logger.debug(() -> "Unregistered type parser: " + parser.getClass().getSimpleName());
         }
         return removed;
     }
@@ -380,17 +442,43 @@ public class TypeParserRegistry<S> {
      * @param parserClass the class of parsers to remove
      * @return the number of parsers removed
      */
-    public int unregisterByClass(@NotNull Class<? extends TypeParser<S, ?>> parserClass) {
-        int count = 0;
-        Iterator<TypeParser<S, ?>> iterator = parsers.iterator();
-        while (iterator.hasNext()) {
-            TypeParser<S, ?> parser = iterator.next();
+    public synchronized int unregisterByClass(@NotNull Class<? extends TypeParser<S, ?>> parserClass) {
+        List<TypeParser<S, ?>> matching = new ArrayList<>();
+        for (TypeParser<S, ?> parser : parsers) {
             if (parserClass.isInstance(parser)) {
-                iterator.remove();
+                matching.add(parser);
+            }
+        }
+        int count = 0;
+        for (TypeParser<S, ?> parser : matching) {
+            if (parsers.remove(parser)) {
                 count++;
-                logger.debug("Unregistered type parser: " + parser.getClass().getSimpleName());
+                logger.debug(() -> "Unregistered type parser: " + parser.getClass().getSimpleName());
             }
         }
+        if (count > 0) {
+            invalidate();
+        }
         return count;
     }
+
+    /**
+     * Drops every cached type lookup. A fresh map replaces the old one so a
+     * lookup still running against the old parser list cannot repopulate it.
+     * Callers hold the registry lock, so each change gets its own version.
+     */
+    private void invalidate() {
+        parsersByType = new ConcurrentHashMap<>();
+        version.incrementAndGet();
+    }
+
+    private List<TypeParser<S, ?>> resolveParsers(Class<?> type) {
+        List<TypeParser<S, ?>> compatible = new ArrayList<>();
+        for (TypeParser<S, ?> parser : parsers) {
+            if (parser.canParse(type)) {
+                compatible.add(parser);
+            }
+        }
+        return List.copyOf(compatible);
+    }
 }
@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -43,4 +44,10 @@ public class BooleanTypeParser<S> implements TypeParser<S, Boolean> {
     public List<String> getSuggestions(@NotNull S sender) {
         return Arrays.asList("true", "false");
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
@@ -1,6 +1,7 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
 import dev.ua.theroer.magicutils.commands.CommandArgument;
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -69,4 +70,10 @@ public class EnumTypeParser<S> implements TypeParser<S, Enum<?>> {
     public List<String> parseSuggestion(@NotNull String source, @NotNull S sender) {
         return List.of();
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
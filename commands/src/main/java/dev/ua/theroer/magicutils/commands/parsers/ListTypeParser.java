@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -67,4 +68,10 @@ public class ListTypeParser<S> implements TypeParser<S, String> {
     public int getPriority() {
         return 80; // High priority for explicit lists
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -100,4 +101,10 @@ public class NumberTypeParser<S> implements TypeParser<S, Number> {
         }
         return Collections.unmodifiableList(values);
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,4 +40,10 @@ public class StringTypeParser<S> implements TypeParser<S, String> {
     public int getPriority() {
         return -100; // Lowest priority as fallback
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
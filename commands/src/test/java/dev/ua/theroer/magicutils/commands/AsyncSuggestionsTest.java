@@ -0,0 +1,216 @@
+package dev.ua.theroer.magicutils.commands;
+
+import dev.ua.theroer.magicutils.annotations.CommandInfo;
+import dev.ua.theroer.magicutils.annotations.ParamName;
+import dev.ua.theroer.magicutils.annotations.SubCommand;
+import dev.ua.theroer.magicutils.annotations.Suggest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asynchronous completion runs opted-in providers on the configured executor,
+ * drops requests superseded by the same sender, keeps everything else on the
+ * calling thread and gives up after the timeout.
+ */
+class AsyncSuggestionsTest {
+
+    @Test
+    void newerRequestCancelsQueuedOne() {
+        List<Runnable> queued = new ArrayList<>();
+        LookupCommand command = new LookupCommand();
+        CommandManager<TestSender> manager = commandManager(command);
+        manager.configureAsyncSuggestions(queued::add, Duration.ofSeconds(30));
+        TestSender sender = new TestSender("t");
+
+        CompletableFuture<List<String>> first = manager.getSuggestionsAsync("lookup", sender, List.of("remote", ""));
+        CompletableFuture<List<String>> second = manager.getSuggestionsAsync("lookup", sender, List.of("remote", "b"));
+
+        assertTrue(first.isCancelled());
+        assertEquals(2, queued.size());
+        queued.forEach(Runnable::run);
+
+        assertEquals(List.of("beta"), second.join());
+        assertEquals(1, command.remoteCalls);
+    }
+
+    @Test
+    void newerRequestFromAnotherSenderObjectForTheSamePlayerCancelsQueuedOne() {
+        List<Runnable> queued = new ArrayList<>();
+        LookupCommand command = new LookupCommand();
+        CommandManager<TestSender> manager = commandManager(command);
+        manager.configureAsyncSuggestions(queued::add, Duration.ofSeconds(30));
+
+        CompletableFuture<List<String>> first = manager.getSuggestionsAsync("lookup", new TestSender("t"),
+                List.of("remote", ""));
+        CompletableFuture<List<String>> other = manager.getSuggestionsAsync("lookup", new TestSender("u"),
+                List.of("remote", ""));
+        CompletableFuture<List<String>> second = manager.getSuggestionsAsync("lookup", new TestSender("t"),
+                List.of("remote", "a"));
+
+        assertTrue(first.isCancelled());
+        assertFalse(other.isDone());
+        queued.forEach(Runnable::run);
+
+        assertEquals(List.of("alpha"), second.join());
+        assertEquals(List.of("alpha", "beta"), other.join());
+        assertEquals(2, command.remoteCalls);
+    }
+
+    @Test
+    void mainThreadProvidersCompleteOnCallingThread() {
+        List<Runnable> queued = new ArrayList<>();
+        LookupCommand command = new LookupCommand();
+        CommandManager<TestSender> manager = commandManager(command);
+        manager.configureAsyncSuggestions(queued::add, Duration.ofSeconds(30));
+
+        CompletableFuture<List<String>> local = manager.getSuggestionsAsync("lookup", new TestSender("t"),
+                List.of("local", ""));
+
+        assertTrue(queued.isEmpty());
+        assertEquals(List.of("here"), local.join());
+    }
+
+    @Test
+    void timedOutRequestYieldsNoSuggestions() {
+        CommandManager<TestSender> manager = commandManager(new LookupCommand());
+        manager.configureAsyncSuggestions(task -> { }, Duration.ofMillis(20));
+
+        List<String> result = manager.getSuggestionsAsync("lookup", new TestSender("t"),
+                List.of("remote", "")).join();
+
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    void typeParserSuggestionsFollowTheParserPolicy() {
+        List<Runnable> queued = new ArrayList<>();
+        LookupCommand command = new LookupCommand();
+        CommandManager<TestSender> manager = commandManager(command);
+        manager.configureAsyncSuggestions(queued::add, Duration.ofSeconds(30));
+
+        assertEquals(CommandThreading.ASYNC, manager.resolveSuggestionThreading("lookup", List.of("count", "")));
+        assertEquals(CommandThreading.MAIN, manager.resolveSuggestionThreading("lookup", List.of("world", "")));
+
+        CompletableFuture<List<String>> world = manager.getSuggestionsAsync("lookup", new TestSender("t"),
+                List.of("world", ""));
+
+        assertTrue(queued.isEmpty());
+        assertEquals(List.of("overworld"), world.join());
+    }
+
+    @Test
+    void blockingCompletionWaitsAtMostTheTimeout() {
+        CommandManager<TestSender> manager = commandManager(new LookupCommand());
+        manager.configureAsyncSuggestions(task -> { }, Duration.ofMillis(20));
+
+        assertEquals(List.of(), manager.getSuggestionsBlocking("lookup", new TestSender("t"), List.of("remote", "")));
+        assertEquals(List.of("here"), manager.getSuggestionsBlocking("lookup", new TestSender("t"), List.of("local", "")));
+    }
+
+    private static CommandManager<TestSender> commandManager(LookupCommand command) {
+        TypeParserRegistry<TestSender> parsers = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        parsers.register(new WorldParser());
+        CommandManager<TestSender> manager = new CommandManager<>("", "", CommandLogger.noop(),
+                new TestCommandPlatform(), parsers);
+        manager.register(command, command.resolveInfo());
+        return manager;
+    }
+
+    @CommandInfo(name = "lookup")
+    private static final class LookupCommand extends MagicCommand {
+        private int remoteCalls;
+
+        @SubCommand(name = "remote")
+        @SuppressWarnings("unused")
+        public CommandResult remote(
+                @ParamName("name") @Suggest(value = "remoteNames", threading = CommandThreading.ASYNC) String name) {
+            return CommandResult.success("remote");
+        }
+
+        @SubCommand(name = "local")
+        @SuppressWarnings("unused")
+        public CommandResult local(@ParamName("name") @Suggest("{here}") String name) {
+            return CommandResult.success("local");
+        }
+
+        @SubCommand(name = "count")
+        @SuppressWarnings("unused")
+        public CommandResult count(@ParamName("amount") int amount) {
+            return CommandResult.success("count");
+        }
+
+        @SubCommand(name = "world")
+        @SuppressWarnings("unused")
+        public CommandResult world(@ParamName("world") World world) {
+            return CommandResult.success("world");
+        }
+
+        @SuppressWarnings("unused")
+        public List<String> remoteNames() {
+            remoteCalls++;
+            return List.of("alpha", "beta");
+        }
+    }
+
+    private static final class TestCommandPlatform implements CommandPlatform<TestSender> {
+        @Override
+        public Class<?> senderType() {
+            return TestSender.class;
+        }
+
+        @Override
+        public String getName(TestSender sender) {
+            return sender.name;
+        }
+
+        @Override
+        public boolean hasPermission(TestSender sender, String permission, MagicPermissionDefault defaultValue) {
+            return true;
+        }
+
+        @Override
+        public void ensurePermissionRegistered(String node, MagicPermissionDefault defaultValue, String description) {
+        }
+
+        @Override
+        public Object resolveSenderArgument(TestSender sender, CommandArgument argument) {
+            return sender;
+        }
+    }
+
+    private static final class World {
+    }
+
+    private static final class WorldParser implements TypeParser<TestSender, World> {
+        @Override
+        public boolean canParse(Class<?> type) {
+            return type == World.class;
+        }
+
+        @Override
+        public World parse(String value, Class<World> targetType, TestSender sender) {
+            return new World();
+        }
+
+        @Override
+        public List<String> getSuggestions(TestSender sender) {
+            return List.of("overworld");
+        }
+    }
+
+    private static final class TestSender {
+        private final String name;
+
+        private TestSender(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.ua.theroer.magicutils.commands;
+
+import dev.ua.theroer.magicutils.annotations.CommandInfo;
+import dev.ua.theroer.magicutils.annotations.ParamName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandLoggerTest {
+
+    @Test
+    void formatFillsPlaceholdersInOrder() {
+        assertEquals("a=1, b", CommandLogger.format("a={}, {}", 1, "b"));
+        assertEquals("x {}", CommandLogger.format("{} {}", "x"));
+        assertEquals("plain", CommandLogger.format("plain", "unused"));
+    }
+
+    @Test
+    void executeBuildsNoDebugTextWhileDebugIsOff() {
+        RecordingLogger logger = new RecordingLogger();
+        Probe probe = executeProbe(logger);
+
+        assertEquals(0, probe.formatted);
+        assertTrue(logger.messages.stream().noneMatch(message -> message.contains("{}")));
+
+        logger.enabled = true;
+        Probe traced = executeProbe(logger);
+
+        assertTrue(traced.formatted > 0);
+    }
+
+    private static Probe executeProbe(RecordingLogger logger) {
+        TypeParserRegistry<TestSender> parsers = TypeParserRegistry.createWithDefaults(logger);
+        parsers.register(new ProbeParser());
+        CommandManager<TestSender> manager = new CommandManager<>("", "", logger, new TestCommandPlatform(), parsers);
+        ProbeCommand command = new ProbeCommand();
+        manager.register(command, ProbeCommand.class.getAnnotation(CommandInfo.class));
+
+        assertTrue(manager.execute("probe", new TestSender("tester"), List.of("value")).isSuccess());
+        return command.lastProbe;
+    }
+
+    @CommandInfo(name = "probe")
+    private static final class ProbeCommand extends MagicCommand {
+        private Probe lastProbe;
+
+        @SuppressWarnings("unused")
+        public CommandResult execute(@ParamName("probe") Probe probe) {
+            this.lastProbe = probe;
+            return CommandResult.success("ok");
+        }
+    }
+
+    private static final class Probe {
+        private int formatted;
+
+        @Override
+        public String toString() {
+            formatted++;
+            return "probe";
+        }
+    }
+
+    private static final class ProbeParser implements TypeParser<TestSender, Probe> {
+        @Override
+        public boolean canParse(Class<?> type) {
+            return type == Probe.class;
+        }
+
+        @Override
+        public Probe parse(String value, Class<Probe> targetType, TestSender sender) {
+            return value != null ? new Probe() : null;
+        }
+
+        @Override
+        public List<String> getSuggestions(TestSender sender) {
+            return List.of();
+        }
+    }
+
+    private static final class RecordingLogger implements CommandLogger {
+        private final List<String> messages = new ArrayList<>();
+        private boolean enabled;
+
+        @Override
+        public void debug(String message) {
+            messages.add(message);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public void info(String message) {
+        }
+
+        @Override
+        public void warn(String message) {
+        }
+
+        @Override
+        public void error(String message) {
+        }
+    }
+
+    private static final class TestCommandPlatform implements CommandPlatform<TestSender> {
+        @Override
+        public Class<?> senderType() {
+            return TestSender.class;
+        }
+
+        @Override
+        public String getName(TestSender sender) {
+            return sender.name;
+        }
+
+        @Override
+        public boolean hasPermission(TestSender sender, String permission, MagicPermissionDefault defaultValue) {
+            return true;
+        }
+
+        @Override
+        public void ensurePermissionRegistered(String node, MagicPermissionDefault defaultValue, String description) {
+        }
+
+        @Override
+        public Object resolveSenderArgument(TestSender sender, CommandArgument argument) {
+            return sender;
+        }
+    }
+
+    private static final class TestSender {
+        private final String name;
+
+        private TestSender(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -56,13 +56,32 @@ class CommandManagerOptionalArgumentTest {
         assertEquals("Alex", command.lastTarget);
     }
 
+    @Test
+    void executeUsesParserRegisteredAfterCommand() {
+        TypeParserRegistry<TestSender> parsers = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        CommandManager<TestSender> manager = commandManager(parsers);
+        PointCommand command = new PointCommand();
+        manager.register(command, commandInfo(PointCommand.class));
+
+        assertFalse(manager.execute("point", new TestSender("tester"), List.of("1,2")).isSuccess());
+
+        parsers.register(new PointParser());
+
+        assertTrue(manager.execute("point", new TestSender("tester"), List.of("1,2")).isSuccess());
+        assertEquals(new Point(1, 2), command.lastPoint);
+    }
+
     private static CommandManager<TestSender> commandManager() {
+        return commandManager(TypeParserRegistry.createWithDefaults(CommandLogger.noop()));
+    }
+
+    private static CommandManager<TestSender> commandManager(TypeParserRegistry<TestSender> parsers) {
         return new CommandManager<>(
                 "",
                 "",
                 CommandLogger.noop(),
                 new TestCommandPlatform(),
-                TypeParserRegistry.createWithDefaults(CommandLogger.noop())
+                parsers
         );
     }
 
@@ -99,6 +118,45 @@ class CommandManagerOptionalArgumentTest {
         }
     }
 
+    @CommandInfo(name = "point")
+    private static final class PointCommand extends MagicCommand {
+        private Point lastPoint;
+
+        @SuppressWarnings("unused")
+        public CommandResult execute(@ParamName("point") Point point) {
+            this.lastPoint = point;
+            return CommandResult.success("ok");
+        }
+    }
+
+    private record Point(int x, int y) {
+    }
+
+    private static final class PointParser implements TypeParser<TestSender, Point> {
+        @Override
+        public boolean canParse(Class<?> type) {
+            return type == Point.class;
+        }
+
+        @Override
+        public Point parse(String value, Class<Point> targetType, TestSender sender) {
+            String[] parts = value != null ? value.split(",") : new String[0];
+            if (parts.length != 2) {
+                return null;
+            }
+            try {
+                return new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public List<String> getSuggestions(TestSender sender) {
+            return List.of();
+        }
+    }
+
     private enum DemoAction {
         STATUS,
         CHECK
@@ -0,0 +1,50 @@
+package dev.ua.theroer.magicutils.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A bound {@link MethodInvoker} must behave like {@code Method.invoke}: spread
+ * arguments, {@code null} for void methods and the method's own exceptions
+ * wrapped in {@link InvocationTargetException}.
+ */
+class MethodInvokerTest {
+
+    @Test
+    void invokesLikeReflection() throws Exception {
+        Target target = new Target();
+        MethodInvoker join = MethodInvoker.of(Target.class.getMethod("join", String.class, int.class));
+        MethodInvoker touch = MethodInvoker.of(Target.class.getMethod("touch"));
+        MethodInvoker fail = MethodInvoker.of(Target.class.getMethod("fail"));
+
+        assertEquals("a:3", join.invoke(target, new Object[]{"a", 3}));
+        assertNull(touch.invoke(target, new Object[0]));
+        assertEquals(1, target.touched);
+
+        InvocationTargetException thrown = assertThrows(InvocationTargetException.class,
+                () -> fail.invoke(target, new Object[0]));
+        assertSame(IllegalStateException.class, thrown.getCause().getClass());
+    }
+
+    public static final class Target {
+        int touched;
+
+        public String join(String value, int count) {
+            return value + ":" + count;
+        }
+
+        public void touch() {
+            touched++;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.ua.theroer.magicutils.commands;
+
+import dev.ua.theroer.magicutils.annotations.CommandInfo;
+import dev.ua.theroer.magicutils.annotations.ParamName;
+import dev.ua.theroer.magicutils.annotations.SubCommand;
+import dev.ua.theroer.magicutils.annotations.Suggest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@code @Suggest} sources are resolved once per command, yet completions must
+ * keep matching the source forms: provider methods, {@code |}-joined and literal
+ * sources, and special sources that appear when a parser is registered later.
+ */
+class SuggestionProviderTest {
+
+    @Test
+    void resolvedSourcesKeepTheirMeaning() {
+        TypeParserRegistry<TestSender> parsers = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        CommandManager<TestSender> manager = new CommandManager<>("", "", CommandLogger.noop(),
+                new TestCommandPlatform(), parsers);
+        ColorsCommand command = new ColorsCommand();
+        manager.register(command, command.resolveInfo());
+        TestSender sender = new TestSender("t");
+
+        assertEquals(List.of("red", "green", "blue"), manager.getSuggestions("colors", sender,
+                List.of("paint", "")));
+        assertEquals(List.of("green"), manager.getSuggestions("colors", sender, List.of("paint", "g")));
+        assertEquals(2, command.calls);
+        assertEquals(List.of("@palette"), manager.getSuggestions("colors", sender, List.of("mix", "")));
+
+        parsers.register(new PaletteParser());
+
+        assertEquals(List.of("cyan", "magenta"), manager.getSuggestions("colors", sender, List.of("mix", "")));
+    }
+
+    @CommandInfo(name = "colors")
+    private static final class ColorsCommand extends MagicCommand {
+        private int calls;
+
+        @SubCommand(name = "paint")
+        @SuppressWarnings("unused")
+        public CommandResult paint(@ParamName("color") @Suggest("primary|{blue}") String color) {
+            return CommandResult.success("painted");
+        }
+
+        @SubCommand(name = "mix")
+        @SuppressWarnings("unused")
+        public CommandResult mix(@ParamName("color") @Suggest("@palette") String color) {
+            return CommandResult.success("mixed");
+        }
+
+        @SuppressWarnings("unused")
+        public List<String> primary() {
+            calls++;
+            return List.of("red", "green");
+        }
+    }
+
+    private static final class PaletteParser implements TypeParser<TestSender, Object> {
+        @Override
+        public boolean canParse(Class<?> type) {
+            return false;
+        }
+
+        @Override
+        public Object parse(String value, Class<Object> targetType, TestSender sender) {
+            return null;
+        }
+
+        @Override
+        public List<String> getSuggestions(TestSender sender) {
+            return List.of("cyan", "magenta");
+        }
+
+        @Override
+        public boolean canParseSuggestion(String source) {
+            return "@palette".equals(source);
+        }
+    }
+
+    private static final class TestCommandPlatform implements CommandPlatform<TestSender> {
+        @Override
+        public Class<?> senderType() {
+            return TestSender.class;
+        }
+
+        @Override
+        public String getName(TestSender sender) {
+            return sender.name;
+        }
+
+        @Override
+        public boolean hasPermission(TestSender sender, String permission, MagicPermissionDefault defaultValue) {
+            return true;
+        }
+
+        @Override
+        public void ensurePermissionRegistered(String node, MagicPermissionDefault defaultValue, String description) {
+        }
+
+        @Override
+        public Object resolveSenderArgument(TestSender sender, CommandArgument argument) {
+            return sender;
+        }
+    }
+
+    private static final class TestSender {
+        private final String name;
+
+        private TestSender(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.ua.theroer.magicutils.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypeParserRegistryTest {
+
+    @Test
+    void resolvesParsersOncePerTypeUntilRegistryChanges() {
+        TypeParserRegistry<Object> registry = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        CountingParser low = new CountingParser("low", 0);
+        registry.register(low);
+
+        assertEquals(new Token("low:a"), registry.parse("a", Token.class, new Object()));
+        assertEquals(new Token("low:b"), registry.parse("b", Token.class, new Object()));
+        assertEquals(1, low.canParseCalls);
+
+        CountingParser high = new CountingParser("high", 10);
+        registry.register(high);
+
+        assertSame(high, registry.findParserForType(Token.class));
+        assertEquals(new Token("high:c"), registry.parse("c", Token.class, new Object()));
+
+        registry.unregister(high);
+
+        assertEquals(new Token("low:d"), registry.parse("d", Token.class, new Object()));
+    }
+
+    @Test
+    void concurrentChangesEachGetTheirOwnVersion() throws Exception {
+        TypeParserRegistry<Object> registry = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        int before = registry.version();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 250; i++) {
+                    CountingParser parser = new CountingParser("p" + i, i % 5);
+                    registry.register(parser);
+                    registry.unregister(parser);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(before + 2_000, registry.version());
+    }
+
+    @Test
+    void unregisterByClassRemovesEveryMatchingParser() {
+        TypeParserRegistry<Object> registry = TypeParserRegistry.createWithDefaults(CommandLogger.noop());
+        registry.register(new CountingParser("a", 0));
+        registry.register(new CountingParser("b", 1));
+        int before = registry.version();
+
+        assertEquals(2, registry.unregisterByClass(CountingParser.class));
+        assertEquals(before + 1, registry.version());
+        assertNull(registry.findParserForType(Token.class));
+    }
+
+    private record Token(String value) {
+    }
+
+    private static final class CountingParser implements TypeParser<Object, Token> {
+        private final String name;
+        private final int priority;
+        private int canParseCalls;
+
+        private CountingParser(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public boolean canParse(Class<?> type) {
+            if (type == Token.class) {
+                canParseCalls++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Token parse(String value, Class<Token> targetType, Object sender) {
+            return new Token(name + ":" + value);
+        }
+
+        @Override
+        public List<String> getSuggestions(Object sender) {
+            return List.of();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
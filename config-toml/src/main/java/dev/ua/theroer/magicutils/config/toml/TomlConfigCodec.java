@@ -0,0 +1,39 @@
+package dev.ua.theroer.magicutils.config.toml;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.toml.TomlFactory;
+import dev.ua.theroer.magicutils.config.ConfigFormatCodec;
+
+import java.util.Set;
+
+/**
+ * TOML codec contributed to the config manager through {@code ServiceLoader}.
+ * Files are still written by the built-in TOML writer, which keeps
+ * {@code @Comment} text.
+ */
+public final class TomlConfigCodec implements ConfigFormatCodec {
+    private final ObjectMapper mapper = new ObjectMapper(new TomlFactory())
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Creates the codec. Called by {@code ServiceLoader}.
+     */
+    public TomlConfigCodec() {
+    }
+
+    @Override
+    public String name() {
+        return "TOML";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("toml");
+    }
+
+    @Override
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+}
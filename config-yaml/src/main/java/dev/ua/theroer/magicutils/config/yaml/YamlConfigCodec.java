@@ -0,0 +1,42 @@
+package dev.ua.theroer.magicutils.config.yaml;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import dev.ua.theroer.magicutils.config.ConfigFormatCodec;
+
+import java.util.Set;
+
+/**
+ * YAML codec contributed to the config manager through {@code ServiceLoader}.
+ * Files are still written by the built-in YAML writer, which keeps
+ * {@code @Comment} text.
+ */
+public final class YamlConfigCodec implements ConfigFormatCodec {
+    private final ObjectMapper mapper = new ObjectMapper(YAMLFactory.builder()
+            .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+            .build())
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Creates the codec. Called by {@code ServiceLoader}.
+     */
+    public YamlConfigCodec() {
+    }
+
+    @Override
+    public String name() {
+        return "YAML";
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("yml", "yaml");
+    }
+
+    @Override
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+}
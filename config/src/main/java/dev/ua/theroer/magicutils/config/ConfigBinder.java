@@ -0,0 +1,51 @@
+package dev.ua.theroer.magicutils.config;
+
+/**
+ * Direct field access for one class holding {@code @ConfigValue} or
+ * {@code @ConfigSection} fields.
+ *
+ * <p>Implementations are generated at compile time by the MagicUtils
+ * annotation processor as {@code <Outer>_<Nested>_ConfigBinder} next to the
+ * bound class. They read and write fields with plain field access instead of
+ * reflection. Private and final fields cannot be bound this way and are left
+ * out; {@link ConfigManager} reaches those through cached method handles.</p>
+ */
+public interface ConfigBinder {
+    /**
+     * Suffix appended to the flattened class name of the bound type.
+     */
+    String SUFFIX = "_ConfigBinder";
+
+    /**
+     * Class whose declared fields this binder accesses.
+     *
+     * @return bound class
+     */
+    Class<?> type();
+
+    /**
+     * Names of the bound fields; the position of a name is its index for
+     * {@link #get(Object, int)} and {@link #set(Object, int, Object)}.
+     *
+     * @return bound field names
+     */
+    String[] fields();
+
+    /**
+     * Reads a bound field.
+     *
+     * @param instance instance of {@link #type()}
+     * @param index field index
+     * @return current field value (primitives are boxed)
+     */
+    Object get(Object instance, int index);
+
+    /**
+     * Writes a bound field.
+     *
+     * @param instance instance of {@link #type()}
+     * @param index field index
+     * @param value new value (boxed for primitives)
+     */
+    void set(Object instance, int index, Object value);
+}
@@ -0,0 +1,237 @@
+package dev.ua.theroer.magicutils.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A directory of config files sharing one type, indexed by file name.
+ *
+ * <p>Entries are identified by their path relative to the collection
+ * directory without the extension, so {@code arenas/desert.yml} becomes
+ * {@code desert} and {@code arenas/event/lava.yml} becomes {@code event/lava}.
+ * When two files differ only by extension, the first in sorted order wins.</p>
+ *
+ * <p>Each loaded file is a regular {@link ConfigManager} registration: it can
+ * be saved or reloaded through the manager and the file watcher reloads it in
+ * place when it changes. {@link #evict(String)} and
+ * {@link #evictIdle(Duration)} drop loaded entries (writing any queued save
+ * first) so large collections only keep the files in use in memory.</p>
+ *
+ * @param <T> config type
+ * @see ConfigManager#registerCollection(Class, String, String)
+ */
+public final class ConfigCollection<T> {
+    private final ConfigManager manager;
+    private final Class<T> type;
+    private final Path configDir;
+    private final Path directory;
+    private final String relativeDirectory;
+    private final PathMatcher matcher;
+    private volatile Map<String, String> files = Collections.emptyMap();
+    private final Map<String, Loaded<T>> loaded = new ConcurrentHashMap<>();
+
+    ConfigCollection(ConfigManager manager, Class<T> type, Path configDir, String relativeDirectory, String glob) {
+        this.manager = manager;
+        this.type = type;
+        this.configDir = configDir;
+        this.relativeDirectory = relativeDirectory;
+        this.directory = configDir.resolve(relativeDirectory);
+        this.matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        refresh();
+    }
+
+    /**
+     * Returns the config type of the collection.
+     *
+     * @return config type
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns the ids of every indexed file, loaded or not.
+     *
+     * @return sorted entry ids
+     */
+    public Set<String> ids() {
+        return Collections.unmodifiableSet(new TreeSet<>(files.keySet()));
+    }
+
+    /**
+     * Whether a file with the given id was indexed.
+     *
+     * @param id entry id
+     * @return true if the file exists in the index
+     */
+    public boolean contains(String id) {
+        return files.containsKey(id);
+    }
+
+    /**
+     * Returns an entry, loading its file on first access.
+     *
+     * @param id entry id
+     * @return loaded config, or null if no such file is indexed
+     */
+    public T get(String id) {
+        Loaded<T> current = loaded.get(id);
+        if (current == null) {
+            String path = files.get(id);
+            if (path == null) {
+                return null;
+            }
+            Loaded<T> created = new Loaded<>(manager.registerCollectionFile(type, path));
+            current = loaded.putIfAbsent(id, created);
+            if (current == null) {
+                current = created;
+            }
+        }
+        current.lastAccess = System.nanoTime();
+        return current.instance;
+    }
+
+    /**
+     * Returns an entry only if it is already loaded.
+     *
+     * @param id entry id
+     * @return loaded config or null
+     */
+    public T getIfLoaded(String id) {
+        Loaded<T> current = loaded.get(id);
+        return current != null ? current.instance : null;
+    }
+
+    /**
+     * Returns the currently loaded entries.
+     *
+     * @return snapshot of loaded entries by id
+     */
+    public Map<String, T> loadedEntries() {
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String id : new TreeSet<>(loaded.keySet())) {
+            Loaded<T> current = loaded.get(id);
+            if (current != null) {
+                result.put(id, current.instance);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads every indexed file in parallel on the IO executor.
+     *
+     * @return future completing with all entries by id
+     */
+    public CompletableFuture<Map<String, T>> loadAll() {
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (String id : files.keySet()) {
+            futures.add(CompletableFuture.supplyAsync(() -> get(id), manager.ioExecutor()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> loadedEntries());
+    }
+
+    /**
+     * Rescans the directory. New files become available, and loaded entries
+     * whose file disappeared are evicted.
+     */
+    public void refresh() {
+        Map<String, String> scanned = new LinkedHashMap<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> stream = Files.walk(directory)) {
+                stream.filter(Files::isRegularFile)
+                        .map(directory::relativize)
+                        .filter(matcher::matches)
+                        .sorted()
+                        .forEach(relative -> scanned.putIfAbsent(idOf(relative), toConfigPath(relative)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to scan config collection " + relativeDirectory, e);
+            }
+        }
+        files = scanned;
+        for (String id : new ArrayList<>(loaded.keySet())) {
+            if (!scanned.containsKey(id)) {
+                evict(id);
+            }
+        }
+    }
+
+    /**
+     * Unloads one entry. The next {@link #get(String)} loads it from disk again.
+     *
+     * @param id entry id
+     * @return true if the entry was loaded
+     */
+    public boolean evict(String id) {
+        Loaded<T> removed = loaded.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        manager.unload(removed.instance);
+        return true;
+    }
+
+    /**
+     * Unloads every entry not accessed through {@link #get(String)} within
+     * the given time.
+     *
+     * @param idle maximum idle time
+     * @return number of evicted entries
+     */
+    public int evictIdle(Duration idle) {
+        long cutoff = System.nanoTime() - idle.toNanos();
+        int evicted = 0;
+        for (Map.Entry<String, Loaded<T>> entry : loaded.entrySet()) {
+            Loaded<T> current = entry.getValue();
+            if (current.lastAccess - cutoff < 0 && loaded.remove(entry.getKey(), current)) {
+                manager.unload(current.instance);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Unloads every entry. The collection can still be used afterwards.
+     */
+    public void close() {
+        for (String id : new ArrayList<>(loaded.keySet())) {
+            evict(id);
+        }
+    }
+
+    private static String idOf(Path relative) {
+        String name = relative.toString().replace('\\', '/');
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        return dot > slash + 1 ? name.substring(0, dot) : name;
+    }
+
+    private String toConfigPath(Path relative) {
+        return configDir.relativize(directory.resolve(relative)).toString().replace('\\', '/');
+    }
+
+    private static final class Loaded<T> {
+        private final T instance;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Loaded(T instance) {
+            this.instance = instance;
+        }
+    }
+}
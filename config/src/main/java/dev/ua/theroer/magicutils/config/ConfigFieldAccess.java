@@ -0,0 +1,259 @@
+package dev.ua.theroer.magicutils.config;
+
+import dev.ua.theroer.magicutils.config.annotations.ConfigSection;
+import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached, reflection-free access to the config fields of a class.
+ *
+ * <p>The field list of a class (superclasses first, declaration order) is
+ * resolved once per class. Each field gets the cheapest accessor available:
+ * a generated {@link ConfigBinder} when one was compiled for the declaring
+ * class, otherwise a getter/setter {@link MethodHandle} pair, and only as a
+ * last resort (final or static fields, inaccessible modules) plain
+ * {@link Field} reflection.</p>
+ */
+final class ConfigFieldAccess {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<List<BoundField>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<BoundField> computeValue(Class<?> type) {
+            return resolveFields(type);
+        }
+    };
+
+    private static final ClassValue<ConfigBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigBinder computeValue(Class<?> type) {
+            return loadBinder(type);
+        }
+    };
+
+    private ConfigFieldAccess() {
+    }
+
+    /**
+     * Returns the {@code @ConfigValue}/{@code @ConfigSection} fields of a class
+     * and its superclasses, superclass fields first.
+     *
+     * @param type config class
+     * @return cached, unmodifiable field list
+     */
+    static List<BoundField> fields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    private static List<BoundField> resolveFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+
+        List<BoundField> fields = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(ConfigValue.class) || field.isAnnotationPresent(ConfigSection.class)) {
+                    fields.add(bind(field));
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Resolves the accessor of a single field, annotated or not.
+     *
+     * @param field field to bind
+     * @return field with its accessor
+     */
+    static BoundField bind(Field field) {
+        ConfigBinder binder = BINDERS.get(field.getDeclaringClass());
+        Integer index = binderIndexes(binder).get(field.getName());
+        Accessor accessor = index != null
+                ? new BinderAccessor(binder, index, field.getType())
+                : createAccessor(field);
+        return new BoundField(field, accessor);
+    }
+
+    private static Map<String, Integer> binderIndexes(ConfigBinder binder) {
+        if (binder == null) {
+            return Collections.emptyMap();
+        }
+        String[] names = binder.fields();
+        Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+        return indexes;
+    }
+
+    private static ConfigBinder loadBinder(Class<?> type) {
+        String binderName = binderName(type);
+        try {
+            Class<?> binderClass = Class.forName(binderName, true, type.getClassLoader());
+            if (!ConfigBinder.class.isAssignableFrom(binderClass)) {
+                return null;
+            }
+            ConfigBinder binder = (ConfigBinder) binderClass.getDeclaredConstructor().newInstance();
+            return binder.type() == type ? binder : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Name of the generated binder for {@code type}: the binary name with
+     * nested-class separators flattened, plus {@link ConfigBinder#SUFFIX}.
+     */
+    static String binderName(Class<?> type) {
+        return type.getName().replace('$', '_') + ConfigBinder.SUFFIX;
+    }
+
+    private static Accessor createAccessor(Field field) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                        field.getDeclaringClass(), MethodHandles.lookup());
+                return new HandleAccessor(field,
+                        lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                        lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                // Fall through to plain reflection (e.g. package not opened to MagicUtils).
+            }
+        }
+        field.setAccessible(true);
+        return new ReflectionAccessor(field);
+    }
+
+    private static IllegalArgumentException incompatible(Field field, Object value, RuntimeException cause) {
+        String valueType = value != null ? value.getClass().getName() : "null";
+        IllegalArgumentException error = new IllegalArgumentException("Can not set "
+                + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                + field.getName() + " to " + valueType);
+        error.initCause(cause);
+        return error;
+    }
+
+    /**
+     * A config field paired with its resolved accessor.
+     *
+     * @param field reflected field (annotations, generic type, name)
+     * @param accessor value accessor
+     */
+    record BoundField(Field field, Accessor accessor) {
+        Object get(Object instance) throws IllegalAccessException {
+            return accessor.get(instance);
+        }
+
+        /**
+         * Writes the field. Incompatible values raise
+         * {@link IllegalArgumentException}, as {@link Field#set} does.
+         */
+        void set(Object instance, Object value) throws IllegalAccessException {
+            try {
+                accessor.set(instance, value);
+            } catch (ClassCastException | NullPointerException e) {
+                throw incompatible(field, value, e);
+            }
+        }
+    }
+
+    interface Accessor {
+        Object get(Object instance) throws IllegalAccessException;
+
+        void set(Object instance, Object value) throws IllegalAccessException;
+    }
+
+    /**
+     * Applies the primitive widening {@link Field#set} performs (e.g. an
+     * {@code Integer} parsed from YAML into a {@code long} field), which a
+     * generated cast to the field's wrapper type would reject.
+     */
+    private static Object widen(Class<?> primitive, Object value) {
+        if (value instanceof Character character && primitive != char.class) {
+            value = (int) character;
+        }
+        if (!(value instanceof Number number) || value instanceof Double) {
+            return value;
+        }
+        if (primitive == long.class && !(value instanceof Float)) {
+            return number.longValue();
+        }
+        if (primitive == float.class && !(value instanceof Float)) {
+            return number.floatValue();
+        }
+        if (primitive == double.class) {
+            return number.doubleValue();
+        }
+        if (primitive == int.class && (value instanceof Short || value instanceof Byte)) {
+            return number.intValue();
+        }
+        if (primitive == short.class && value instanceof Byte) {
+            return number.shortValue();
+        }
+        return value;
+    }
+
+    private record BinderAccessor(ConfigBinder binder, int index, Class<?> type) implements Accessor {
+        @Override
+        public Object get(Object instance) {
+            return binder.get(instance, index);
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            binder.set(instance, index, type.isPrimitive() ? widen(type, value) : value);
+        }
+    }
+
+    private record HandleAccessor(Field field, MethodHandle getter, MethodHandle setter) implements Accessor {
+        @Override
+        public Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read " + field, e);
+            }
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to write " + field, e);
+            }
+        }
+    }
+
+    private record ReflectionAccessor(Field field) implements Accessor {
+        @Override
+        public Object get(Object instance) throws IllegalAccessException {
+            return field.get(instance);
+        }
+
+        @Override
+        public void set(Object instance, Object value) throws IllegalAccessException {
+            field.set(instance, value);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package dev.ua.theroer.magicutils.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service provider for a config file format.
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/dev.ua.theroer.magicutils.config.ConfigFormatCodec}
+ * the first time a {@link ConfigManager} resolves a format. A codec that
+ * claims the extension of a built-in format ({@code yml}, {@code yaml},
+ * {@code json}, {@code jsonc}, {@code toml}) supplies the parser for that
+ * format, while the built-in writer keeps emitting {@code @Comment} text.
+ * A codec for any other extension adds a new format: its files are found by
+ * the format negotiation like the built-in ones and are written through
+ * {@link #write}.</p>
+ *
+ * <p>Implementations need a public no-argument constructor and must be
+ * thread-safe.</p>
+ */
+public interface ConfigFormatCodec {
+
+    /**
+     * Human readable format name used in log messages.
+     *
+     * @return format name
+     */
+    String name();
+
+    /**
+     * File extensions handled by this codec, lower case and without the dot.
+     *
+     * @return extensions
+     */
+    Set<String> extensions();
+
+    /**
+     * Mapper used to read documents. Also used for streaming loads, so the
+     * mapper's factory must produce a token stream for the format.
+     *
+     * @return shared mapper instance
+     */
+    ObjectMapper mapper();
+
+    /**
+     * Parses a whole file into a tree of maps, lists and scalars.
+     *
+     * @param content file content
+     * @return root object, empty for an empty file
+     * @throws IOException if the content cannot be parsed
+     */
+    default Map<String, Object> read(byte[] content) throws IOException {
+        if (content.length == 0) {
+            return new LinkedHashMap<>();
+        }
+        Map<String, Object> map = mapper().readValue(content, new TypeReference<LinkedHashMap<String, Object>>() {});
+        return map == null ? new LinkedHashMap<>() : map;
+    }
+
+    /**
+     * Writes a whole document. The default ignores header and comments.
+     *
+     * @param file target file; the manager moves it into place afterwards
+     * @param data root object
+     * @param header header comment lines
+     * @param comments comment lines by dotted path
+     * @throws IOException if writing fails
+     */
+    default void write(File file, Map<String, Object> data, List<String> header,
+                       Map<String, List<String>> comments) throws IOException {
+        mapper().writerWithDefaultPrettyPrinter().writeValue(file, data);
+    }
+}
@@ -13,36 +13,58 @@ import dev.ua.theroer.magicutils.platform.Tasks;
 import dev.ua.theroer.magicutils.platform.ThreadContext;
 import lombok.Getter;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -65,6 +87,8 @@ public class ConfigManager {
     private final Map<Class<?>, Object> primaryInstances = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<BiConsumer<Object, Set<String>>>> changeListeners = new ConcurrentHashMap<>();
     private final Map<Class<?>, MigrationChain> migrationChains = new ConcurrentHashMap<>();
+    private final Object[] registrationLocks = createRegistrationLocks();
+    private final DocumentCache documentCache = new DocumentCache();
 
     private final Map<Path, Set<ConfigKey>> fileIndex = new ConcurrentHashMap<>();
     private final Map<Path, WatchKey> directoryWatchKeys = new ConcurrentHashMap<>();
@@ -76,6 +100,14 @@ public class ConfigManager {
     private volatile boolean watchServiceUnavailable = false;
     private volatile boolean watchServiceWarned = false;
     private volatile boolean shuttingDown = false;
+    private volatile long watchDebounceMillis = DEFAULT_WATCH_DEBOUNCE_MILLIS;
+    private final CopyOnWriteArrayList<Consumer<List<Object>>> reloadBatchListeners = new CopyOnWriteArrayList<>();
+    private volatile long writeBehindMillis = 0L;
+    private volatile boolean streamingLoad = false;
+    private volatile boolean validateBeforeReload = false;
+    private final Set<ConfigEntry<?>> dirtyEntries = ConcurrentHashMap.newKeySet();
+    private final CopyOnWriteArrayList<PlayerDataStore<?>> playerStores = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
     /**
      * Guards the {@link #shuttingDown} flag against external reload tasks.
      *
@@ -93,8 +125,12 @@ public class ConfigManager {
     private static final String GLOBAL_FORMAT_PROPERTY = "magicutils.config.format";
     private static final String GLOBAL_FORMAT_ENV = "MAGICUTILS_CONFIG_FORMAT";
     private static final String DEFAULT_EXTENSION = "yml";
+    private static final String BINARY_CACHE_DIRECTORY = ".cache";
     private static final List<String> SUPPORTED_EXTENSIONS = List.of("jsonc", "json", "yml", "yaml", "toml");
     private static final int CLONE_SNAPSHOT_RETRY_LIMIT = 8;
+    private static final int REGISTRATION_LOCK_STRIPES = 64;
+    private static final long DEFAULT_WATCH_DEBOUNCE_MILLIS = 250L;
+    private static final long MAX_WATCH_BATCH_DELAY_MILLIS = 5_000L;
 
     /**
      * Creates a new ConfigManager for the provided platform.
@@ -136,6 +172,169 @@ public class ConfigManager {
      * @return the loaded configuration instance
      */
     public <T> T register(Class<T> configClass, Map<String, String> placeholders) {
+        return registerEntry(configClass, placeholders, false).instance;
+    }
+
+    /**
+     * Registers and loads a configuration class in snapshot mode.
+     *
+     * <p>Instead of mutating one shared instance, every reload loads a fresh
+     * instance off the caller's thread and publishes it atomically through the
+     * returned {@link ConfigRef}. Readers get wait-free, always-consistent
+     * access, which suits configs read from many async threads. A class must
+     * be registered in either live or snapshot mode, not both.</p>
+     *
+     * @param configClass the configuration class
+     * @param <T>         the type of configuration
+     * @return reference to the current snapshot
+     */
+    public <T> ConfigRef<T> registerSnapshot(Class<T> configClass) {
+        return registerSnapshot(configClass, new HashMap<>());
+    }
+
+    /**
+     * Registers and loads a configuration class in snapshot mode with
+     * placeholder replacements.
+     *
+     * @param configClass  the configuration class
+     * @param placeholders placeholder replacements for the file path
+     * @param <T>          the type of configuration
+     * @return reference to the current snapshot
+     * @see #registerSnapshot(Class)
+     */
+    public <T> ConfigRef<T> registerSnapshot(Class<T> configClass, Map<String, String> placeholders) {
+        ConfigEntry<T> entry = registerEntry(configClass, placeholders, true);
+        if (entry.ref == null) {
+            throw new IllegalStateException(configClass.getName() + " (" + entry.metadata.getFilePath()
+                    + ") is already registered in live mode");
+        }
+        return entry.ref;
+    }
+
+    /**
+     * Registers a configuration class on the IO executor.
+     *
+     * @param configClass the configuration class
+     * @param <T>         the type of configuration
+     * @return future completing with the loaded instance
+     */
+    public <T> CompletableFuture<T> registerAsync(Class<T> configClass) {
+        return registerAsync(configClass, new HashMap<>());
+    }
+
+    /**
+     * Registers a configuration class with placeholder replacements on the IO executor.
+     *
+     * @param configClass  the configuration class
+     * @param placeholders placeholder replacements for the file path
+     * @param <T>          the type of configuration
+     * @return future completing with the loaded instance
+     */
+    public <T> CompletableFuture<T> registerAsync(Class<T> configClass, Map<String, String> placeholders) {
+        Map<String, String> placeholdersCopy = placeholders == null ? new HashMap<>() : new HashMap<>(placeholders);
+        return CompletableFuture.supplyAsync(() -> register(configClass, placeholdersCopy), scheduler.io());
+    }
+
+    /**
+     * Registers several configuration classes, loading independent files
+     * concurrently on the IO executor.
+     *
+     * <p>Classes that share a file (the same {@link ConfigFile} path or a
+     * {@link SaveTo} side file) are registered one after another, in argument
+     * order, on a single worker, so their loading, migrations and default
+     * writes stay deterministic. If a class fails to register, the returned
+     * future completes exceptionally; the remaining classes are still
+     * registered.</p>
+     *
+     * @param configClasses configuration classes
+     * @return future completing with the instances, in argument order
+     */
+    public CompletableFuture<List<Object>> registerAll(Class<?>... configClasses) {
+        if (configClasses == null || configClasses.length == 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        List<Class<?>> classes = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(configClasses)));
+        classes.remove(null);
+
+        Object[] instances = new Object[classes.size()];
+        List<CompletableFuture<Void>> groups = new ArrayList<>();
+        for (List<Integer> group : groupBySharedFiles(classes)) {
+            groups.add(CompletableFuture.runAsync(() -> {
+                for (int index : group) {
+                    instances[index] = register(classes.get(index));
+                }
+            }, scheduler.io()));
+        }
+
+        return CompletableFuture.allOf(groups.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> Collections.unmodifiableList(Arrays.asList(instances)));
+    }
+
+    /**
+     * Splits classes into groups whose files overlap, keeping argument order
+     * inside each group.
+     */
+    private static List<List<Integer>> groupBySharedFiles(List<Class<?>> classes) {
+        List<Set<String>> groupFiles = new ArrayList<>();
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int i = 0; i < classes.size(); i++) {
+            Set<String> files = new HashSet<>();
+            ConfigFile configFile = classes.get(i).getAnnotation(ConfigFile.class);
+            if (configFile != null) {
+                files.add(configFile.value());
+            }
+            collectSideFiles(ConfigSchema.of(classes.get(i)), files, new HashSet<>());
+
+            List<Integer> merged = new ArrayList<>();
+            int position = groups.size();
+            for (int g = groups.size() - 1; g >= 0; g--) {
+                if (!Collections.disjoint(groupFiles.get(g), files)) {
+                    files.addAll(groupFiles.remove(g));
+                    merged.addAll(groups.remove(g));
+                    position = g;
+                }
+            }
+            Collections.sort(merged);
+            merged.add(i);
+            groupFiles.add(position, files);
+            groups.add(position, merged);
+        }
+        return groups;
+    }
+
+    private static void collectSideFiles(ConfigSchema schema, Set<String> files, Set<Class<?>> visited) {
+        if (!visited.add(schema.type())) {
+            return;
+        }
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            if (spec.saveTo() != null) {
+                files.add(spec.saveTo());
+            } else if (spec.section()) {
+                collectSideFiles(ConfigSchema.of(spec.type()), files, visited);
+            }
+        }
+    }
+
+    /**
+     * Registration locks are striped by path rather than kept per file, so
+     * player data and collection files that come and go do not leave a lock
+     * behind for every file ever registered.
+     */
+    private static Object[] createRegistrationLocks() {
+        Object[] locks = new Object[REGISTRATION_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private Object registrationLock(Path configPath) {
+        int hash = configPath.toAbsolutePath().normalize().hashCode();
+        return registrationLocks[(hash ^ (hash >>> 16)) & (REGISTRATION_LOCK_STRIPES - 1)];
+    }
+
+    private <T> ConfigEntry<T> registerEntry(Class<T> configClass, Map<String, String> placeholders,
+                                             boolean snapshot) {
         try {
             ConfigFile configFile = configClass.getAnnotation(ConfigFile.class);
             if (configFile == null) {
@@ -146,19 +345,51 @@ public class ConfigManager {
             FormatDecision formatDecision = resolveFormatDecision(configFile, placeholdersCopy);
             ConfigMetadata metadata = new ConfigMetadata(formatDecision.targetPath(), configFile.autoCreate(),
                     configFile.template(), platform.configDir());
-            ConfigKey key = new ConfigKey(configClass, metadata.getFilePath());
+            ConfigMetadata sourceMetadata = formatDecision.sourcePath() != null
+                    ? new ConfigMetadata(formatDecision.sourcePath(), configFile.autoCreate(),
+                            configFile.template(), platform.configDir())
+                    : null;
+            return registerResolved(configClass, metadata, sourceMetadata, snapshot);
+
+        } catch (Exception e) {
+            logger.error("Failed to register config: " + configClass.getName(), e);
+            throw new RuntimeException("Failed to register config", e);
+        }
+    }
+
+    /**
+     * Registers one file of a {@link ConfigCollection} or
+     * {@link PlayerDataStore}. The file path comes from the caller rather than
+     * {@link ConfigFile}, and missing files are not created.
+     */
+    <T> T registerCollectionFile(Class<T> configClass, String relativePath) {
+        try {
+            ConfigMetadata metadata = new ConfigMetadata(relativePath, false, "", platform.configDir());
+            return registerResolved(configClass, metadata, null, false).instance;
+        } catch (Exception e) {
+            logger.error("Failed to register config: " + configClass.getName() + " (" + relativePath + ")", e);
+            throw new RuntimeException("Failed to register config", e);
+        }
+    }
+
+    private <T> ConfigEntry<T> registerResolved(Class<T> configClass, ConfigMetadata metadata,
+                                                ConfigMetadata sourceMetadata, boolean snapshot) throws Exception {
+        ConfigKey key = new ConfigKey(configClass, metadata.getFilePath());
 
+        // Registrations of the same file (possibly from registerAll/registerAsync
+        // workers) are serialized so loading, migration and default writing
+        // happen exactly once per file.
+        Path configPath = platform.configDir().resolve(metadata.getFilePath());
+        synchronized (registrationLock(configPath)) {
             @SuppressWarnings("unchecked")
             ConfigEntry<T> existingEntry = (ConfigEntry<T>) configs.get(key);
             if (existingEntry != null) {
-                return existingEntry.instance;
+                return existingEntry;
             }
 
             T instance = configClass.getDeclaredConstructor().newInstance();
             LoadResult loadResult;
-            if (formatDecision.sourcePath() != null) {
-                ConfigMetadata sourceMetadata = new ConfigMetadata(formatDecision.sourcePath(), configFile.autoCreate(),
-                        configFile.template(), platform.configDir());
+            if (sourceMetadata != null) {
                 loadResult = loadConfig(instance, sourceMetadata);
                 saveConfigToFile(instance, metadata, loadResult.schemaVersion());
                 logger.info("Migrated config " + sourceMetadata.getFilePath()
@@ -167,8 +398,8 @@ public class ConfigManager {
                 loadResult = loadConfig(instance, metadata);
             }
 
-            ConfigEntry<T> entry = new ConfigEntry<>(key, instance, metadata,
-                    platform.configDir().resolve(metadata.getFilePath()).toFile());
+            ConfigEntry<T> entry = new ConfigEntry<>(key, instance, metadata, configPath.toFile(),
+                    snapshot ? new ConfigRef<>(configClass, instance) : null);
             entry.schemaVersion = loadResult.schemaVersion();
             entry.refreshLastModified();
 
@@ -178,12 +409,87 @@ public class ConfigManager {
             primaryInstances.putIfAbsent(configClass, instance);
 
             registerWatcher(entry);
-            return instance;
+            return entry;
+        }
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to register config: " + configClass.getName(), e);
-            throw new RuntimeException("Failed to register config", e);
+    /**
+     * Binds every file matching a glob inside a config sub-directory to a
+     * config type, e.g. one file per arena or shop.
+     *
+     * <p>Files are indexed by name when the collection is created and loaded
+     * lazily on first access (or all at once with
+     * {@link ConfigCollection#loadAll()}). Loaded files are tracked like any
+     * other registered config, so the file watcher reloads only the files that
+     * changed. The config type does not need a {@link ConfigFile} annotation.</p>
+     *
+     * @param configClass config type of every file
+     * @param directory   directory relative to the config directory
+     * @param glob        file name glob relative to {@code directory}, e.g. {@code *.yml}
+     * @param <T>         config type
+     * @return the collection
+     */
+    public <T> ConfigCollection<T> registerCollection(Class<T> configClass, String directory, String glob) {
+        Objects.requireNonNull(configClass, "configClass");
+        Objects.requireNonNull(glob, "glob");
+        String relativeDirectory = new ConfigMetadata(directory, false, "", platform.configDir()).getFilePath();
+        return new ConfigCollection<>(this, configClass, platform.configDir(), relativeDirectory, glob);
+    }
+
+    /**
+     * Creates a store of per-player data files under a config sub-directory,
+     * e.g. {@code playerdata/<uuid>.yml}. The store loads a player's file in
+     * the background on join and unloads it a while after they leave; see
+     * {@link PlayerDataStore} for batching and grace period settings. Files
+     * use the default config format. The store is closed by
+     * {@link #shutdown()}.
+     *
+     * @param dataClass player data type; does not need a {@link ConfigFile} annotation
+     * @param directory directory relative to the config directory
+     * @param <T>       player data type
+     * @return the store
+     */
+    public <T> PlayerDataStore<T> registerPlayerData(Class<T> dataClass, String directory) {
+        Objects.requireNonNull(dataClass, "dataClass");
+        String relativeDirectory = new ConfigMetadata(directory, false, "", platform.configDir()).getFilePath();
+        PlayerDataStore<T> store = new PlayerDataStore<>(this, dataClass, relativeDirectory, resolveDefaultExtension());
+        playerStores.add(store);
+        store.bind(platform.subscribePlayerLifecycle(lifecycle -> {
+            if (lifecycle.isValid()) {
+                store.onLifecycle(lifecycle);
+            }
+        }));
+        return store;
+    }
+
+    void forgetPlayerStore(PlayerDataStore<?> store) {
+        playerStores.remove(store);
+    }
+
+    Executor ioExecutor() {
+        return scheduler.io();
+    }
+
+    ScheduledExecutorService timer() {
+        return scheduler.scheduler();
+    }
+
+    PlatformLogger logger() {
+        return logger;
+    }
+
+    /**
+     * Writes a registered config now, bypassing write-behind.
+     *
+     * @return false if the instance is not registered or the write failed
+     */
+    boolean saveNow(Object configInstance) {
+        ConfigEntry<?> entry = getEntry(configInstance);
+        if (entry == null) {
+            return false;
         }
+        dirtyEntries.remove(entry);
+        return saveEntry(entry);
     }
 
     /**
@@ -293,7 +599,7 @@ public class ConfigManager {
     }
 
     private <T> LoadResult loadConfig(T instance, ConfigMetadata metadata) throws Exception {
-        return loadConfig(instance, metadata, Collections.emptySet());
+        return loadConfig(instance, metadata, Collections.emptySet(), false);
     }
 
     /**
@@ -304,12 +610,13 @@ public class ConfigManager {
      * the second attempt typically succeeds because the new document load replaces
      * the field values before iteration is needed again.
      */
-    private <T> LoadResult loadConfigWithRetry(T instance, ConfigMetadata metadata, Set<String> sections) throws Exception {
+    private <T> LoadResult loadConfigWithRetry(T instance, ConfigMetadata metadata, Set<String> sections,
+                                               boolean candidate) throws Exception {
         try {
-            return loadConfig(instance, metadata, sections);
+            return loadConfig(instance, metadata, sections, candidate);
         } catch (java.util.ConcurrentModificationException firstCme) {
             try {
-                return loadConfig(instance, metadata, sections);
+                return loadConfig(instance, metadata, sections, candidate);
             } catch (java.util.ConcurrentModificationException secondCme) {
                 secondCme.addSuppressed(firstCme);
                 throw secondCme;
@@ -317,7 +624,17 @@ public class ConfigManager {
         }
     }
 
-    private <T> LoadResult loadConfig(T instance, ConfigMetadata metadata, Set<String> sections) throws Exception {
+    /**
+     * Loads values into {@code instance}, then runs the schema's validation
+     * pass; any violation fails the load with a
+     * {@link ConfigValidationException} listing all of them. A required value
+     * is missing when neither the file, the instance nor a default supplies
+     * one, and out-of-range values are clamped. A validate-before-reload
+     * {@code candidate} is checked strictly instead: every required key must
+     * be present in the file, and out-of-range values are reported.
+     */
+    private <T> LoadResult loadConfig(T instance, ConfigMetadata metadata, Set<String> sections,
+                                      boolean candidate) throws Exception {
         File configFile = metadata.resolveFile(platform.configDir());
         boolean created = false;
 
@@ -326,18 +643,144 @@ public class ConfigManager {
             created = true;
         }
 
-        ConfigDocument document = ConfigDocument.load(configFile);
-        MigrationResult migrationResult = applyMigrations(instance.getClass(), document, created);
         Set<String> normalizedSections = normalizeSections(sections);
+        Set<String> missingRequired = candidate ? new HashSet<>() : null;
+        boolean clamp = !candidate;
+        if (streamingLoad && normalizedSections.isEmpty() && configFile.exists()
+                && !hasMigrations(instance.getClass())) {
+            bindStreaming(instance, configFile, missingRequired);
+            validateLoaded(instance, clamp, missingRequired);
+            return new LoadResult(null, false);
+        }
+
+        ConfigDocument document = ConfigDocument.load(configFile, documentCache);
+        MigrationResult migrationResult = applyMigrations(instance.getClass(), document, created);
         boolean fullReload = normalizedSections.isEmpty() || migrationResult.shouldSave();
-        processFields(instance, document, instance.getClass(), "",
-                fullReload ? Collections.emptySet() : normalizedSections);
+        processFields(instance, document, ConfigSchema.of(instance.getClass()),
+                fullReload ? Collections.emptySet() : normalizedSections, "", missingRequired);
+        validateLoaded(instance, clamp, missingRequired);
         if (migrationResult.shouldSave()) {
             saveConfigToFile(instance, metadata, migrationResult.schemaVersion());
         }
         return new LoadResult(migrationResult.schemaVersion(), migrationResult.migrated());
     }
 
+    private void validateLoaded(Object instance, boolean clamp, Set<String> missingRequired)
+            throws IllegalAccessException {
+        List<ConfigViolation> violations = ConfigSchema.of(instance.getClass())
+                .validate(instance, logger, clamp, missingRequired);
+        if (!violations.isEmpty()) {
+            throw new ConfigValidationException(instance.getClass(), violations);
+        }
+    }
+
+    private boolean hasMigrations(Class<?> configClass) {
+        MigrationChain chain = migrationChains.get(configClass);
+        return chain != null && !chain.isEmpty();
+    }
+
+    /**
+     * Full load that reads the parser's token stream straight into the
+     * instance. Keys that map to no field are skipped without being
+     * materialized, and no document tree or path index is built; only the
+     * raw value of each matched field is read, then goes through
+     * {@link #loadFieldValue} like a document value would (adapters,
+     * defaults). Path precedence matches {@link ConfigDocument#find}:
+     * a nested {@code a -> b} wins over a literal {@code "a.b"} key.
+     * Required fields absent from the file are added to {@code missingRequired}
+     * when it is not null.
+     */
+    private void bindStreaming(Object instance, File configFile, Set<String> missingRequired) throws Exception {
+        try (JsonParser parser = ConfigFormat.codecFor(configFile).mapper().createParser(configFile)) {
+            JsonToken root = parser.nextToken();
+            if (root != null && root != JsonToken.START_OBJECT) {
+                throw new IOException("Config root must be an object: " + configFile);
+            }
+            ConfigSchema schema = ConfigSchema.of(instance.getClass());
+            Map<ConfigSchema.FieldSpec, Object> found = new HashMap<>();
+            if (root != null) {
+                bindObject(instance, schema, parser, "", found, "", missingRequired);
+            }
+            applyStreamedFields(instance, schema, found, "", missingRequired);
+        }
+    }
+
+    private void bindObject(Object instance, ConfigSchema schema, JsonParser parser, String prefix,
+                            Map<ConfigSchema.FieldSpec, Object> found, String scope,
+                            Set<String> missingRequired) throws Exception {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            String path = prefix.isEmpty() ? name : prefix + "." + name;
+            JsonToken token = parser.nextToken();
+            ConfigSchema.FieldSpec spec = schema.fieldAt(path);
+            boolean literalDottedKey = name.indexOf('.') >= 0;
+
+            if (spec != null && spec.section()) {
+                if (token == JsonToken.START_OBJECT && !(literalDottedKey && found.containsKey(spec))) {
+                    Object sectionInstance = spec.get(instance);
+                    if (sectionInstance == null) {
+                        sectionInstance = spec.type().getDeclaredConstructor().newInstance();
+                        spec.set(instance, sectionInstance);
+                    }
+                    ConfigSchema sectionSchema = ConfigSchema.of(spec.type());
+                    Map<ConfigSchema.FieldSpec, Object> sectionFound = new HashMap<>();
+                    String sectionScope = scope + spec.path() + ".";
+                    bindObject(sectionInstance, sectionSchema, parser, "", sectionFound, sectionScope,
+                            missingRequired);
+                    applyStreamedFields(sectionInstance, sectionSchema, sectionFound, sectionScope, missingRequired);
+                    found.put(spec, sectionInstance);
+                } else {
+                    parser.skipChildren();
+                }
+                continue;
+            }
+            if (spec != null && spec.saveTo() == null) {
+                Object value = parser.readValueAs(Object.class);
+                if (literalDottedKey) {
+                    found.putIfAbsent(spec, value);
+                } else {
+                    found.put(spec, value);
+                }
+                continue;
+            }
+            if (token == JsonToken.START_OBJECT && schema.hasFieldsUnder(path)) {
+                bindObject(instance, schema, parser, path, found, scope, missingRequired);
+                continue;
+            }
+            parser.skipChildren();
+        }
+    }
+
+    private void applyStreamedFields(Object instance, ConfigSchema schema, Map<ConfigSchema.FieldSpec, Object> found,
+                                     String scope, Set<String> missingRequired) throws Exception {
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            if (spec.section()) {
+                // Absent sections keep their current values, as processFields does.
+                if (!found.containsKey(spec)) {
+                    if (spec.get(instance) == null) {
+                        spec.set(instance, spec.type().getDeclaredConstructor().newInstance());
+                    }
+                    if (missingRequired != null) {
+                        ConfigSchema.of(spec.type()).collectRequired(scope + spec.path() + ".", missingRequired);
+                    }
+                }
+                continue;
+            }
+            Object value;
+            if (spec.saveTo() != null) {
+                File file = new ConfigMetadata(spec.saveTo(), true, null, platform.configDir())
+                        .resolveFile(platform.configDir());
+                value = ConfigDocument.load(file, documentCache).find(spec.path());
+            } else {
+                value = found.containsKey(spec) ? found.get(spec) : ConfigDocument.MISSING;
+            }
+            if (missingRequired != null && spec.required() && (value == ConfigDocument.MISSING || value == null)) {
+                missingRequired.add(scope + spec.path());
+            }
+            loadFieldValue(instance, spec, value);
+        }
+    }
+
     private MigrationResult applyMigrations(Class<?> configClass, ConfigDocument document, boolean createdNew) {
         MigrationChain chain = migrationChains.get(configClass);
         if (chain == null || chain.isEmpty()) {
@@ -427,169 +870,212 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Resolves the file an atomic save should replace: the target of a
+     * symlink rather than the link itself, so the link survives the save.
+     */
+    private static Path resolveSaveTarget(Path target) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        return Files.exists(absolute) ? absolute.toRealPath() : absolute;
+    }
+
+    /**
+     * Creates an empty temporary sibling of {@code target}. Unlike
+     * {@link Files#createTempFile}, which always uses mode 0600, the file gets
+     * the process umask, so a config saved for the first time keeps the
+     * permissions a direct write would have given it.
+     */
+    private static Path createSiblingTemp(Path target) throws IOException {
+        String prefix = "." + target.getFileName() + ".";
+        while (true) {
+            Path temp = target.resolveSibling(
+                    prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            } catch (FileAlreadyExistsException ignored) {
+                // Retry with another name.
+            }
+        }
+    }
+
+    /**
+     * Moves a fully written temporary file over {@code target}, first copying
+     * the target's POSIX permissions (and, where allowed, owner and group) so
+     * a save never changes who can read the file.
+     */
+    private static void replaceWithTemp(Path temp, Path target) throws IOException {
+        copyPosixAttributes(target, temp);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void copyPosixAttributes(Path from, Path to) {
+        PosixFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(from, PosixFileAttributes.class);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Missing target or a non-POSIX file system: nothing to carry over.
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(to, attributes.permissions());
+        } catch (IOException | UnsupportedOperationException ignored) {
+        }
+        PosixFileAttributeView view = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            if (!attributes.group().equals(Files.readAttributes(to, PosixFileAttributes.class).group())) {
+                view.setGroup(attributes.group());
+            }
+            if (!attributes.owner().equals(view.getOwner())) {
+                view.setOwner(attributes.owner());
+            }
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // Changing ownership needs privileges the server usually lacks.
+        }
+    }
+
     private <T> void createDefaultConfig(T instance, File configFile, ConfigMetadata metadata) throws Exception {
         ensureParentDirectory(configFile);
 
         ConfigDocument document = ConfigDocument.empty();
 
-        Comment classComment = instance.getClass().getAnnotation(Comment.class);
-        if (classComment != null) {
-            document.setHeader(Arrays.asList(classComment.value().split("\n")));
+        ConfigSchema schema = ConfigSchema.of(instance.getClass());
+        if (schema.header() != null) {
+            document.setHeader(schema.header());
         }
 
-        writeDefaults(instance, document, instance.getClass(), "");
+        writeDefaults(instance, document, schema);
         document.save(configFile);
-        flushExternalFields(instance, instance.getClass(), "");
+        flushExternalFields(instance, schema);
         logger.info("Created default config: " + configFile.getName());
     }
 
-    private void writeDefaults(Object instance, ConfigDocument document, Class<?> clazz, String prefix) throws Exception {
-        for (Field field : getConfigFields(clazz)) {
-            field.setAccessible(true);
+    private void writeDefaults(Object instance, ConfigDocument document, ConfigSchema schema) throws Exception {
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            String path = spec.path();
 
-            if (!isConfigField(field))
-                continue;
-
-            String path = getFieldPath(field, prefix);
-
-            if (field.getAnnotation(SaveTo.class) != null) {
+            if (spec.saveTo() != null) {
                 continue;
             }
 
-            ConfigSection section = field.getAnnotation(ConfigSection.class);
-            if (section != null) {
-                Object sectionInstance = field.get(instance);
+            if (spec.section()) {
+                Object sectionInstance = spec.get(instance);
                 if (sectionInstance == null) {
-                    Object defaultValue = getDefaultValue(field);
+                    Object defaultValue = spec.defaultValue();
                     if (defaultValue != null) {
                         sectionInstance = defaultValue;
                     } else {
-                        sectionInstance = field.getType().getDeclaredConstructor().newInstance();
+                        sectionInstance = spec.type().getDeclaredConstructor().newInstance();
                     }
-                    field.set(instance, sectionInstance);
+                    spec.set(instance, sectionInstance);
                 }
                 Map<String, Object> sectionData = new LinkedHashMap<>();
                 Map<String, List<String>> comments = new LinkedHashMap<>();
-                writeSectionToMap(sectionInstance, sectionData, "", comments);
-                document.set(path, sectionData, comments.get(path));
+                writeSectionToMap(sectionInstance, sectionData, comments);
+                document.set(path, spec.segments(), sectionData, comments.get(path));
                 document.addComments(comments, path.isEmpty() ? "" : path + ".");
                 continue;
             }
 
-            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
-            if (configValue != null) {
-                Object defaultValue = field.get(instance);
-                if (defaultValue == null) {
-                    defaultValue = getDefaultValue(field);
-                }
-                if (defaultValue == null && field.getType().isPrimitive()) {
-                    defaultValue = getPrimitiveDefault(field.getType());
-                }
+            Object defaultValue = spec.get(instance);
+            if (defaultValue == null) {
+                defaultValue = spec.defaultOrZero();
+            }
 
-                if (defaultValue != null) {
-                    Object valueToSave = prepareForConfig(defaultValue, field);
-                    document.set(path, valueToSave, commentLines(field.getAnnotation(Comment.class)));
-                    field.set(instance, cloneIfNeeded(defaultValue));
-                }
+            if (defaultValue != null) {
+                Object valueToSave = prepareForConfig(defaultValue, spec);
+                document.set(path, spec.segments(), valueToSave, spec.comment());
+                spec.set(instance, cloneIfNeeded(defaultValue));
             }
         }
     }
 
-    private void processFields(Object instance, ConfigDocument document, Class<?> clazz,
-                               String prefix, Set<String> sections) throws Exception {
-        for (Field field : getConfigFields(clazz)) {
-            field.setAccessible(true);
-
-            if (!isConfigField(field))
-                continue;
-
-            String path = getFieldPath(field, prefix);
+    /**
+     * Loads the fields of {@code schema} from {@code document}, limited to
+     * {@code sections} when not empty. Required fields without a value in
+     * the document are added to {@code missingRequired}, prefixed with
+     * {@code scope}, when it is not null.
+     */
+    private void processFields(Object instance, ConfigDocument document, ConfigSchema schema,
+                               Set<String> sections, String scope, Set<String> missingRequired) throws Exception {
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            String path = spec.path();
             if (!shouldProcessPath(path, sections)) {
                 continue;
             }
 
-            ConfigSection section = field.getAnnotation(ConfigSection.class);
-            if (section != null) {
-                Object sectionInstance = field.get(instance);
+            if (spec.section()) {
+                Object sectionInstance = spec.get(instance);
                 if (sectionInstance == null) {
-                    sectionInstance = field.getType().getDeclaredConstructor().newInstance();
-                    field.set(instance, sectionInstance);
+                    sectionInstance = spec.type().getDeclaredConstructor().newInstance();
+                    spec.set(instance, sectionInstance);
                 }
-                ConfigSectionView subsection = document.getConfigurationSection(path);
+                ConfigDocument subsection = document.section(path);
                 if (subsection != null) {
-                    processFields(sectionInstance, new ConfigDocument(subsection.unwrap(), document.header),
-                            field.getType(), "", narrowSections(path, sections));
+                    processFields(sectionInstance, subsection, ConfigSchema.of(spec.type()),
+                            narrowSections(path, sections), scope + path + ".", missingRequired);
+                } else if (missingRequired != null) {
+                    ConfigSchema.of(spec.type()).collectRequired(scope + path + ".", missingRequired);
                 }
                 continue;
             }
 
-            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
-            if (configValue != null) {
-                SaveTo saveTo = field.getAnnotation(SaveTo.class);
-                ConfigDocument source = document;
-                if (saveTo != null) {
-                    File file = new ConfigMetadata(saveTo.value(), true, null, platform.configDir())
-                            .resolveFile(platform.configDir());
-                    source = ConfigDocument.load(file);
-                }
-                loadFieldValue(instance, field, source, path);
+            ConfigDocument source = document;
+            if (spec.saveTo() != null) {
+                File file = new ConfigMetadata(spec.saveTo(), true, null, platform.configDir())
+                        .resolveFile(platform.configDir());
+                source = ConfigDocument.load(file, documentCache);
             }
+            Object value = source.find(path);
+            if (missingRequired != null && spec.required() && (value == ConfigDocument.MISSING || value == null)) {
+                missingRequired.add(scope + path);
+            }
+            loadFieldValue(instance, spec, value);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void loadFieldValue(Object instance, Field field, ConfigDocument document, String path) throws Exception {
-        if (!document.contains(path)) {
-            Object existingValue = field.get(instance);
+    private void loadFieldValue(Object instance, ConfigSchema.FieldSpec spec, Object value) throws Exception {
+        if (value == ConfigDocument.MISSING) {
+            Object existingValue = spec.get(instance);
             if (existingValue != null) {
                 return;
             }
 
-            Object defaultValue = getDefaultValue(field);
-            if (defaultValue == null && field.getType().isPrimitive()) {
-                defaultValue = getPrimitiveDefault(field.getType());
-            }
-
+            // A required value that stays null is reported by the validation pass.
+            Object defaultValue = spec.defaultOrZero();
             if (defaultValue != null) {
-                field.set(instance, cloneIfNeeded(defaultValue));
-            } else if (field.getAnnotation(ConfigValue.class).required()) {
-                throw new IllegalStateException("Required config value missing at path: " + path);
+                spec.set(instance, cloneIfNeeded(defaultValue));
             }
             return;
         }
 
-        Object value = document.get(path);
-
         // If config contains null or explicit null value
         if (value == null) {
-            Object fallback = field.get(instance);
+            Object fallback = spec.get(instance);
             if (fallback == null) {
-                fallback = getDefaultValue(field);
-            }
-            if (fallback == null && field.getType().isPrimitive()) {
-                fallback = getPrimitiveDefault(field.getType());
+                fallback = spec.defaultOrZero();
             }
             if (fallback != null) {
-                field.set(instance, cloneIfNeeded(fallback));
+                spec.set(instance, cloneIfNeeded(fallback));
                 return;
             }
             return;
         }
 
-        Class<?> fieldType = field.getType();
+        Class<?> fieldType = spec.type();
 
         if (List.class.isAssignableFrom(fieldType) && value instanceof List) {
-                Class<?> elementType = null;
-                Type genericType = field.getGenericType();
-                if (genericType instanceof ParameterizedType listType) {
-                    Type[] typeArgs = listType.getActualTypeArguments();
-                    if (typeArgs.length > 0) {
-                        elementType = resolveRawClass(typeArgs[0]);
-                    }
-                }
+                Class<?> elementType = spec.elementType();
 
                 List<?> list = (List<?>) value;
-                if (elementType != null && elementType.isAnnotationPresent(ConfigSerializable.class)) {
+                if (spec.elementSerializable()) {
                     List<Object> deserializedList = new ArrayList<>();
                     for (Object item : list) {
                         if (item instanceof Map) {
@@ -600,9 +1086,8 @@ public class ConfigManager {
                     }
                     value = deserializedList;
                 } else {
-                    ConfigValueAdapter<?> adapter = elementType != null ? ConfigAdapters.get(elementType) : null;
-                    if (adapter != null) {
-                        ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+                    ConfigValueAdapter<Object> typed = spec.elementAdapter().get();
+                    if (typed != null) {
                         List<Object> converted = new ArrayList<>(list.size());
                         for (Object item : list) {
                             converted.add(typed.deserialize(item));
@@ -611,35 +1096,20 @@ public class ConfigManager {
                     }
                 }
 
-                ListProcessor processor = field.getAnnotation(ListProcessor.class);
-                if (processor != null) {
-                    value = processList(field, (List<?>) value);
+                if (spec.listProcessor() != null) {
+                    value = processList(spec, (List<?>) value);
                 }
         } else if (Map.class.isAssignableFrom(fieldType) && value instanceof Map) {
-                Class<?> keyType = String.class;
-                Class<?> valueType = null;
-                Type genericType = field.getGenericType();
-                if (genericType instanceof ParameterizedType mapType) {
-                    Type[] typeArgs = mapType.getActualTypeArguments();
-                    if (typeArgs.length > 0) {
-                        Class<?> resolvedKeyType = resolveRawClass(typeArgs[0]);
-                        if (resolvedKeyType != null) {
-                            keyType = resolvedKeyType;
-                        }
-                    }
-                    if (typeArgs.length > 1) {
-                        valueType = resolveRawClass(typeArgs[1]);
-                    }
-                }
+                Class<?> valueType = spec.valueType();
 
                 Map<Object, Object> map = new LinkedHashMap<>();
-                ConfigValueAdapter<?> keyAdapter = keyType == String.class ? null : ConfigAdapters.get(keyType);
+                ConfigValueAdapter<Object> keyAdapter = spec.keyAdapter().get();
                 for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
                     Object rawKey = entry.getKey();
                     Object typedKey = keyAdapter != null ? keyAdapter.deserialize(rawKey) : String.valueOf(rawKey);
                     map.put(typedKey, entry.getValue());
                 }
-                if (valueType.isAnnotationPresent(ConfigSerializable.class)) {
+                if (spec.valueSerializable()) {
                     Map<Object, Object> deserializedMap = new HashMap<>();
                     for (Map.Entry<Object, Object> entry : map.entrySet()) {
                         Object entryValue = entry.getValue();
@@ -657,9 +1127,8 @@ public class ConfigManager {
                     map.forEach((k, v) -> stringMap.put(String.valueOf(k), v));
                     value = flattenStringMap(stringMap);
                 } else {
-                    ConfigValueAdapter<?> adapter = ConfigAdapters.get(valueType);
-                    if (adapter != null) {
-                        ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+                    ConfigValueAdapter<Object> typed = spec.valueAdapter().get();
+                    if (typed != null) {
                         Map<Object, Object> converted = new LinkedHashMap<>();
                         for (Map.Entry<Object, Object> entry : map.entrySet()) {
                             converted.put(entry.getKey(), typed.deserialize(entry.getValue()));
@@ -669,49 +1138,41 @@ public class ConfigManager {
                         value = map;
                     }
                 }
-        } else if (fieldType.isAnnotationPresent(ConfigSerializable.class) && value instanceof Map) {
+        } else if (spec.serializable() && value instanceof Map) {
                 value = ConfigSerializer.deserialize(logger, (Map<String, Object>) value, fieldType);
         } else {
-            ConfigValueAdapter<?> adapter = ConfigAdapters.get(fieldType);
-            if (adapter != null) {
-                ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+            ConfigValueAdapter<Object> typed = spec.adapter().get();
+            if (typed != null) {
                 value = typed.deserialize(value);
             }
         }
 
         if (value == null) {
-            Object existing = field.get(instance);
+            Object existing = spec.get(instance);
             if (existing != null) {
                 value = existing;
-            } else if (field.getType().isPrimitive()) {
-                value = getPrimitiveDefault(field.getType());
+            } else {
+                value = spec.primitiveDefault();
             }
         }
 
-        // Clamp @MinValue/@MaxValue on plain fields too (no-op without bounds).
-        value = ConfigSerializer.validateNumericBounds(logger, field, value);
-
         try {
-            field.set(instance, cloneIfNeeded(value));
+            spec.set(instance, cloneIfNeeded(value));
         } catch (IllegalArgumentException e) {
-            Object fallback = getDefaultValue(field);
+            Object fallback = spec.defaultValue();
             if (fallback == null) {
-                fallback = field.get(instance);
+                fallback = spec.get(instance);
             }
-            if (fallback == null && field.getType().isPrimitive()) {
-                fallback = getPrimitiveDefault(field.getType());
+            if (fallback == null) {
+                fallback = spec.primitiveDefault();
             }
-            field.set(instance, cloneIfNeeded(fallback));
+            spec.set(instance, cloneIfNeeded(fallback));
         }
     }
 
     @SuppressWarnings("unchecked")
-    private List<?> processList(Field field, List<?> list) throws Exception {
-        ListProcessor processor = field.getAnnotation(ListProcessor.class);
-        if (processor == null)
-            return list;
-
-        ListItemProcessor<Object> itemProcessor = (ListItemProcessor<Object>) processor.value().getDeclaredConstructor().newInstance();
+    private List<?> processList(ConfigSchema.FieldSpec spec, List<?> list) throws Exception {
+        ListItemProcessor<Object> itemProcessor = (ListItemProcessor<Object>) spec.listProcessor().getDeclaredConstructor().newInstance();
         List<Object> result = new ArrayList<>();
 
         for (int i = 0; i < list.size(); i++) {
@@ -719,10 +1180,8 @@ public class ConfigManager {
             ListItemProcessor.ProcessResult<?> processResult = itemProcessor.process(item, i);
 
             if (processResult.shouldUseDefault()) {
-                DefaultValue defaultAnnotation = field.getAnnotation(DefaultValue.class);
-                if (defaultAnnotation != null && defaultAnnotation.provider() != NoDefaultValueProvider.class) {
-                    DefaultValueProvider<?> provider = defaultAnnotation.provider().getDeclaredConstructor().newInstance();
-                    List<?> defaults = (List<?>) provider.provide();
+                if (spec.defaults().hasProvider()) {
+                    List<?> defaults = (List<?>) spec.defaultValue();
                     if (i < defaults.size()) {
                         result.add(defaults.get(i));
                         continue;
@@ -735,21 +1194,14 @@ public class ConfigManager {
         return result;
     }
 
-    private Object prepareForConfig(Object value, Field field) throws Exception {
+    private Object prepareForConfig(Object value, ConfigSchema.FieldSpec spec) throws Exception {
         if (value == null) {
             return null;
         }
 
-        if (value instanceof List && List.class.isAssignableFrom(field.getType())) {
-            Class<?> elementType = null;
-            Type genericType = field.getGenericType();
-            if (genericType instanceof ParameterizedType listType) {
-                Type[] typeArgs = listType.getActualTypeArguments();
-                if (typeArgs.length > 0) {
-                    elementType = resolveRawClass(typeArgs[0]);
-                }
-            }
-            if (elementType != null && elementType.isAnnotationPresent(ConfigSerializable.class)) {
+        if (value instanceof List && List.class.isAssignableFrom(spec.type())) {
+            Class<?> elementType = spec.elementType();
+            if (spec.elementSerializable()) {
                 List<Object> serializedList = new ArrayList<>();
                 for (Object item : (List<?>) value) {
                     if (item == null) {
@@ -763,10 +1215,8 @@ public class ConfigManager {
                 return serializedList;
             }
 
-            ConfigValueAdapter<?> adapter = elementType != null ? ConfigAdapters.get(elementType) : null;
-            if (adapter != null) {
-                @SuppressWarnings("unchecked")
-                ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+            ConfigValueAdapter<Object> typed = spec.elementAdapter().get();
+            if (typed != null) {
                 List<Object> converted = new ArrayList<>(((List<?>) value).size());
                 for (Object item : (List<?>) value) {
                     converted.add(item != null ? typed.serialize(item) : null);
@@ -775,16 +1225,9 @@ public class ConfigManager {
             }
         }
 
-        if (value instanceof Map && Map.class.isAssignableFrom(field.getType())) {
-            Class<?> valueType = null;
-            Type genericType = field.getGenericType();
-            if (genericType instanceof ParameterizedType mapType) {
-                Type[] typeArgs = mapType.getActualTypeArguments();
-                if (typeArgs.length > 1) {
-                    valueType = resolveRawClass(typeArgs[1]);
-                }
-            }
-            if (valueType != null && valueType.isAnnotationPresent(ConfigSerializable.class)) {
+        if (value instanceof Map && Map.class.isAssignableFrom(spec.type())) {
+            Class<?> valueType = spec.valueType();
+            if (spec.valueSerializable()) {
                 Map<String, Object> serializedMap = new LinkedHashMap<>();
                 Map<?, ?> map = (Map<?, ?>) value;
                 for (Map.Entry<?, ?> entry : map.entrySet()) {
@@ -808,10 +1251,8 @@ public class ConfigManager {
                 }
             }
 
-            ConfigValueAdapter<?> adapter = valueType != null ? ConfigAdapters.get(valueType) : null;
-            if (adapter != null) {
-                @SuppressWarnings("unchecked")
-                ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+            ConfigValueAdapter<Object> typed = spec.valueAdapter().get();
+            if (typed != null) {
                 Map<String, Object> converted = new LinkedHashMap<>();
                 Map<?, ?> map = (Map<?, ?>) value;
                 for (Map.Entry<?, ?> entry : map.entrySet()) {
@@ -828,8 +1269,8 @@ public class ConfigManager {
         }
 
         ConfigValueAdapter<?> adapter = ConfigAdapters.get(value.getClass());
-        if (adapter == null && field != null) {
-            adapter = ConfigAdapters.get(field.getType());
+        if (adapter == null) {
+            adapter = spec.adapter().get();
         }
         if (adapter != null) {
             @SuppressWarnings("unchecked")
@@ -840,70 +1281,38 @@ public class ConfigManager {
         return value;
     }
 
-    private void writeSectionToMap(Object instance, Map<String, Object> out, String prefix, Map<String, List<String>> comments) throws Exception {
-        for (Field field : getConfigFields(instance.getClass())) {
-            field.setAccessible(true);
-
-            if (!isConfigField(field))
-                continue;
-
-            String path = getFieldPath(field, prefix);
+    private void writeSectionToMap(Object instance, Map<String, Object> out, Map<String, List<String>> comments) throws Exception {
+        for (ConfigSchema.FieldSpec spec : ConfigSchema.of(instance.getClass()).fields()) {
+            String path = spec.path();
 
-            ConfigSection section = field.getAnnotation(ConfigSection.class);
-            if (section != null) {
-                Object sectionInstance = field.get(instance);
+            if (spec.section()) {
+                Object sectionInstance = spec.get(instance);
                 if (sectionInstance == null) {
-                    Object defaultValue = getDefaultValue(field);
+                    Object defaultValue = spec.defaultValue();
                     if (defaultValue != null) {
                         sectionInstance = defaultValue;
                     } else {
-                        sectionInstance = field.getType().getDeclaredConstructor().newInstance();
+                        sectionInstance = spec.type().getDeclaredConstructor().newInstance();
                     }
-                    field.set(instance, sectionInstance);
+                    spec.set(instance, sectionInstance);
                 }
                 Map<String, Object> nested = new LinkedHashMap<>();
-                writeSectionToMap(sectionInstance, nested, "", comments);
-                comments.put(path, commentLines(field.getAnnotation(Comment.class)));
-                applyPath(out, path, nested);
+                writeSectionToMap(sectionInstance, nested, comments);
+                comments.put(path, spec.comment());
+                ConfigDocument.applyPath(out, spec.segments(), nested);
                 continue;
             }
 
-            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
-            if (configValue != null) {
-                Object value = field.get(instance);
-                if (value == null) {
-                    value = getDefaultValue(field);
-                }
-                if (value == null && field.getType().isPrimitive()) {
-                    value = getPrimitiveDefault(field.getType());
-                }
-                if (value != null) {
-                    Object prepared = prepareForConfig(value, field);
-                    applyPath(out, path, prepared);
-                    comments.put(path, commentLines(field.getAnnotation(Comment.class)));
-                }
+            Object value = spec.get(instance);
+            if (value == null) {
+                value = spec.defaultOrZero();
             }
-        }
-    }
-
-    private void applyPath(Map<String, Object> root, String path, Object value) {
-        String[] parts = path.split("\\.");
-        Map<String, Object> current = root;
-        for (int i = 0; i < parts.length - 1; i++) {
-            String part = parts[i];
-            Object child = current.get(part);
-            if (!(child instanceof Map)) {
-                child = new LinkedHashMap<String, Object>();
-                current.put(part, child);
+            if (value != null) {
+                Object prepared = prepareForConfig(value, spec);
+                ConfigDocument.applyPath(out, spec.segments(), prepared);
+                comments.put(path, spec.comment());
             }
-            current = ConfigDocument.castMap((Map<?, ?>) child);
         }
-        current.put(parts[parts.length - 1], value);
-    }
-
-    private List<String> commentLines(Comment comment) {
-        if (comment == null || comment.value().isEmpty()) return null;
-        return Arrays.asList(comment.value().split("\n"));
     }
 
     private boolean hasDottedKeys(Map<?, ?> map) {
@@ -979,43 +1388,6 @@ public class ConfigManager {
         throw new IllegalStateException("Failed to snapshot mutable config value");
     }
 
-    private Object getPrimitiveDefault(Class<?> type) {
-        if (type == boolean.class)
-            return false;
-        if (type == byte.class)
-            return (byte) 0;
-        if (type == short.class)
-            return (short) 0;
-        if (type == int.class)
-            return 0;
-        if (type == long.class)
-            return 0L;
-        if (type == float.class)
-            return 0F;
-        if (type == double.class)
-            return 0D;
-        if (type == char.class)
-            return '\0';
-        return null;
-    }
-
-    private Object getDefaultValue(Field field) throws Exception {
-        DefaultValue defaultAnnotation = field.getAnnotation(DefaultValue.class);
-        if (defaultAnnotation == null)
-            return null;
-
-        if (defaultAnnotation.provider() != NoDefaultValueProvider.class) {
-            DefaultValueProvider<?> provider = defaultAnnotation.provider().getDeclaredConstructor().newInstance();
-            return provider.provide();
-        }
-
-        String stringValue = defaultAnnotation.value();
-        if (stringValue.isEmpty())
-            return null;
-
-        return parseValue(stringValue, field.getType());
-    }
-
     private Map<String, String> flattenStringMap(Map<String, Object> map) {
         Map<String, String> flat = new LinkedHashMap<>();
         flatten("", map, flat);
@@ -1170,7 +1542,7 @@ public class ConfigManager {
         }
         ConfigFormat format = ConfigFormat.fromExtension(normalized);
         if (format == null) {
-            return null;
+            return FormatCodecs.forExtension(normalized) != null ? normalized : null;
         }
         if (!format.isAvailable()) {
             logger.warn("Config format '" + normalized + "' is not available. " + format.unavailableMessage());
@@ -1189,7 +1561,7 @@ public class ConfigManager {
             return null;
         }
         String ext = path.substring(dot + 1).toLowerCase(Locale.ROOT);
-        if (!SUPPORTED_EXTENSIONS.contains(ext)) {
+        if (!FormatCodecs.supportedExtensions().contains(ext)) {
             return null;
         }
         String basePath = path.substring(0, dot);
@@ -1205,7 +1577,7 @@ public class ConfigManager {
 
     private Map<String, Path> findExistingFormats(String basePath) {
         Map<String, Path> existing = new LinkedHashMap<>();
-        for (String ext : SUPPORTED_EXTENSIONS) {
+        for (String ext : FormatCodecs.supportedExtensions()) {
             Path candidate = platform.configDir().resolve(basePath + "." + ext);
             if (Files.exists(candidate)) {
                 ConfigFormat format = ConfigFormat.fromExtension(ext);
@@ -1224,7 +1596,7 @@ public class ConfigManager {
         if (defaultExt != null && existing.contains(defaultExt)) {
             return defaultExt;
         }
-        for (String ext : SUPPORTED_EXTENSIONS) {
+        for (String ext : FormatCodecs.supportedExtensions()) {
             if (existing.contains(ext)) {
                 return ext;
             }
@@ -1251,58 +1623,9 @@ public class ConfigManager {
         return chosen != null ? chosen : existing.keySet().iterator().next();
     }
 
-    private Object parseValue(String value, Class<?> type) {
-        if (type == String.class)
-            return value;
-        if (type == int.class || type == Integer.class)
-            return Integer.parseInt(value);
-        if (type == long.class || type == Long.class)
-            return Long.parseLong(value);
-        if (type == boolean.class || type == Boolean.class)
-            return Boolean.parseBoolean(value);
-        if (type == double.class || type == Double.class)
-            return Double.parseDouble(value);
-        if (type == float.class || type == Float.class)
-            return Float.parseFloat(value);
-        return value;
-    }
-
-    private boolean isConfigField(Field field) {
-        return field.isAnnotationPresent(ConfigValue.class) ||
-                field.isAnnotationPresent(ConfigSection.class);
-    }
-
-    private String getFieldPath(Field field, String prefix) {
-        ConfigValue configValue = field.getAnnotation(ConfigValue.class);
-        if (configValue != null && !configValue.value().isEmpty()) {
-            return prefix + configValue.value();
-        }
-
-        ConfigSection configSection = field.getAnnotation(ConfigSection.class);
-        if (configSection != null && !configSection.value().isEmpty()) {
-            return prefix + configSection.value();
-        }
-
-        return prefix + field.getName();
-    }
-
-    private List<Field> getConfigFields(Class<?> clazz) {
-        List<Class<?>> hierarchy = new ArrayList<>();
-        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
-            hierarchy.add(current);
-        }
-        Collections.reverse(hierarchy);
-
-        List<Field> fields = new ArrayList<>();
-        for (Class<?> current : hierarchy) {
-            fields.addAll(Arrays.asList(current.getDeclaredFields()));
-        }
-        return fields;
-    }
-
-    private Set<String> normalizeSections(Set<String> sections) {
-        if (sections == null || sections.isEmpty()) {
-            return Collections.emptySet();
+    private Set<String> normalizeSections(Set<String> sections) {
+        if (sections == null || sections.isEmpty()) {
+            return Collections.emptySet();
         }
         Set<String> normalized = new LinkedHashSet<>();
         for (String section : sections) {
@@ -1347,16 +1670,6 @@ public class ConfigManager {
         return nested.isEmpty() ? Collections.emptySet() : nested;
     }
 
-    private Class<?> resolveRawClass(Type type) {
-        if (type instanceof Class<?> clazz) {
-            return clazz;
-        }
-        if (type instanceof ParameterizedType parameterizedType && parameterizedType.getRawType() instanceof Class<?> rawClass) {
-            return rawClass;
-        }
-        return null;
-    }
-
     /**
      * Saves all registered instances of the given config class.
      *
@@ -1365,22 +1678,183 @@ public class ConfigManager {
      */
     public <T> void save(Class<T> configClass) {
         for (ConfigEntry<?> entry : getEntries(configClass)) {
-            saveEntry(entry);
+            requestSave(entry);
         }
     }
 
     /**
-     * Saves the provided configuration instance.
+     * Saves the provided configuration instance. With a write-behind delay
+     * set, the save is queued and written by the background flusher.
      *
      * @param configInstance config instance to persist
+     * @see #setWriteBehindDelay(Duration)
      */
     public void save(Object configInstance) {
         ConfigEntry<?> entry = getEntry(configInstance);
         if (entry != null) {
+            requestSave(entry);
+        }
+    }
+
+    /**
+     * Writes every queued save now, on the calling thread.
+     */
+    public void flush() {
+        Iterator<ConfigEntry<?>> iterator = dirtyEntries.iterator();
+        while (iterator.hasNext()) {
+            ConfigEntry<?> entry = iterator.next();
+            iterator.remove();
             saveEntry(entry);
         }
     }
 
+    /**
+     * Sets the write-behind delay for {@link #save(Object)}. Zero (the
+     * default) writes on every call. A positive delay marks the config dirty
+     * instead; the first save starts the window and one background flush at
+     * its end writes every config saved in the meantime, once each. Queued
+     * saves are always written by {@link #flush()} and {@link #shutdown()}.
+     *
+     * @param delay coalescing window; zero disables write-behind
+     */
+    public void setWriteBehindDelay(Duration delay) {
+        Objects.requireNonNull(delay, "delay");
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Write-behind delay must not be negative");
+        }
+        this.writeBehindMillis = delay.toMillis();
+        if (writeBehindMillis == 0L) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns the write-behind delay.
+     *
+     * @return coalescing window, zero when saves are written immediately
+     */
+    public Duration getWriteBehindDelay() {
+        return Duration.ofMillis(writeBehindMillis);
+    }
+
+    /**
+     * Enables streaming loads: full loads of configs without registered
+     * migrations read the parser's token stream straight into the instance
+     * instead of parsing the whole file into a document first. Unknown keys
+     * are skipped unparsed, which roughly halves load time and memory for
+     * large files. Section-scoped reloads, migrated configs and
+     * {@link SaveTo} side files keep using the (cached) document path.
+     *
+     * @param enabled whether to stream full loads
+     */
+    public void setStreamingLoad(boolean enabled) {
+        this.streamingLoad = enabled;
+    }
+
+    /**
+     * Whether streaming loads are enabled.
+     *
+     * @return true if full loads bind from the token stream
+     */
+    public boolean isStreamingLoad() {
+        return streamingLoad;
+    }
+
+    /**
+     * Validates reloads before applying them. A reload then loads a fresh
+     * candidate instance in full and checks every required field and
+     * {@link MinValue}/{@link MaxValue} bound on it; if anything is off, the
+     * reload fails with all violations logged and the registered instance
+     * (or published snapshot) is left exactly as it was. This mode is
+     * stricter than a plain load: a required key must be present in the
+     * file even if the field has a default, and out-of-range values are
+     * rejected rather than clamped. Section-scoped reloads are validated
+     * against the whole file too, then apply only the requested sections;
+     * snapshot configs always publish a full reload. Initial registration
+     * is unaffected.
+     *
+     * @param enabled whether to validate reload candidates before applying them
+     */
+    public void setValidateBeforeReload(boolean enabled) {
+        this.validateBeforeReload = enabled;
+    }
+
+    /**
+     * Whether reloads are validated before they are applied.
+     *
+     * @return true if reload candidates are validated first
+     */
+    public boolean isValidateBeforeReload() {
+        return validateBeforeReload;
+    }
+
+    /**
+     * Checks a registered or standalone config instance against its required
+     * fields and {@link MinValue}/{@link MaxValue} bounds without modifying it.
+     *
+     * @param configInstance config instance
+     * @return every violation found, empty when valid
+     */
+    public List<ConfigViolation> validate(Object configInstance) {
+        Objects.requireNonNull(configInstance, "configInstance");
+        try {
+            return ConfigSchema.of(configInstance.getClass()).validate(configInstance, logger, false);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to validate config " + configInstance.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Persists parsed documents in a compact binary form under
+     * {@code .cache} in the config directory. On the next start, files whose
+     * size, mtime and checksum still match are read from the binary copy
+     * instead of being parsed again, which mostly pays off for very large
+     * YAML or TOML configs. The human-edited file stays the source of truth:
+     * a stale or unreadable cache entry is ignored and rewritten.
+     *
+     * @param enabled whether to read and write the binary cache
+     */
+    public void setBinaryCache(boolean enabled) {
+        documentCache.binary = enabled
+                ? new BinaryDocumentStore(platform.configDir(), platform.configDir().resolve(BINARY_CACHE_DIRECTORY))
+                : null;
+    }
+
+    /**
+     * Whether the binary document cache is enabled.
+     *
+     * @return true if parsed documents are persisted between starts
+     */
+    public boolean isBinaryCache() {
+        return documentCache.binary != null;
+    }
+
+    private void requestSave(ConfigEntry<?> entry) {
+        long delay = writeBehindMillis;
+        if (delay <= 0L || shuttingDown) {
+            dirtyEntries.remove(entry);
+            saveEntry(entry);
+            return;
+        }
+        dirtyEntries.add(entry);
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.scheduler().schedule(() -> scheduler.io().execute(this::flushScheduled),
+                        delay, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+                logger.warn("Failed to schedule config flush, writing now", e);
+                flush();
+            }
+        }
+    }
+
+    private void flushScheduled() {
+        // Clear the flag first: a save racing with this flush schedules the next one.
+        flushScheduled.set(false);
+        flush();
+    }
+
     /**
      * Reloads the provided configuration instance from disk.
      *
@@ -1431,64 +1905,67 @@ public class ConfigManager {
         }
     }
 
-    private void saveFields(Object instance, ConfigDocument document, Class<?> clazz, String prefix) throws Exception {
-        for (Field field : getConfigFields(clazz)) {
-            field.setAccessible(true);
-
-            if (!isConfigField(field))
-                continue;
+    /**
+     * Resolves the file backing a registered configuration instance.
+     *
+     * @param configInstance registered config instance
+     * @return config file path, or null if the instance is not registered
+     */
+    public Path getConfigPath(Object configInstance) {
+        ConfigEntry<?> entry = getEntry(configInstance);
+        return entry != null ? entry.file.toPath() : null;
+    }
 
-            String path = getFieldPath(field, prefix);
-            Object value = field.get(instance);
+    private void saveFields(Object instance, ConfigDocument document, ConfigSchema schema) throws Exception {
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            String path = spec.path();
+            Object value = spec.get(instance);
             if (value == null) {
-                value = getDefaultValue(field);
-            }
-            if (value == null && field.getType().isPrimitive()) {
-                value = getPrimitiveDefault(field.getType());
+                value = spec.defaultOrZero();
             }
             if (value == null) {
                 continue;
             }
             value = cloneIfNeeded(value);
-            field.set(instance, value);
+            spec.set(instance, value);
 
-            if (field.getAnnotation(SaveTo.class) != null) {
+            if (spec.saveTo() != null) {
                 continue;
             }
 
-            ConfigSection section = field.getAnnotation(ConfigSection.class);
-            if (section != null) {
+            if (spec.section()) {
                 Map<String, Object> sectionData = new LinkedHashMap<>();
                 Map<String, List<String>> comments = new LinkedHashMap<>();
-                writeSectionToMap(value, sectionData, "", comments);
-                document.set(path, sectionData, comments.get(path));
+                writeSectionToMap(value, sectionData, comments);
+                document.set(path, spec.segments(), sectionData, comments.get(path));
                 document.addComments(comments, path.isEmpty() ? "" : path + ".");
                 continue;
             }
 
-            Object valueToSave = prepareForConfig(value, field);
+            Object valueToSave = prepareForConfig(value, spec);
 
-            document.set(path, valueToSave, commentLines(field.getAnnotation(Comment.class)));
+            document.set(path, spec.segments(), valueToSave, spec.comment());
         }
     }
 
     private void saveConfigToFile(Object instance, ConfigMetadata metadata, String schemaVersion) throws Exception {
+        ConfigSchema schema = ConfigSchema.of(instance.getClass());
         ConfigDocument document = ConfigDocument.empty();
-        saveFields(instance, document, instance.getClass(), "");
+        saveFields(instance, document, schema);
         applySchemaVersion(document, schemaVersion);
         File file = metadata.resolveFile(platform.configDir());
         ensureParentDirectory(file);
         document.save(file);
-        flushExternalFields(instance, instance.getClass(), "");
+        flushExternalFields(instance, schema);
     }
 
     /**
      * Writes every {@link SaveTo} field to its own file. Fields sharing a
      * {@code @SaveTo} path go into one document, keyed by the field's config path.
      */
-    private void flushExternalFields(Object instance, Class<?> clazz, String prefix) throws Exception {
+    private void flushExternalFields(Object instance, ConfigSchema schema) throws Exception {
         Map<String, ConfigDocument> externalDocs = new LinkedHashMap<>();
-        collectExternalFields(instance, clazz, prefix, externalDocs);
+        collectExternalFields(instance, schema, externalDocs);
         for (Map.Entry<String, ConfigDocument> entry : externalDocs.entrySet()) {
             File file = new ConfigMetadata(entry.getKey(), true, null, platform.configDir())
                     .resolveFile(platform.configDir());
@@ -1497,40 +1974,27 @@ public class ConfigManager {
         }
     }
 
-    private void collectExternalFields(Object instance, Class<?> clazz, String prefix,
+    private void collectExternalFields(Object instance, ConfigSchema schema,
                                        Map<String, ConfigDocument> externalDocs) throws Exception {
-        for (Field field : getConfigFields(clazz)) {
-            field.setAccessible(true);
-
-            if (!isConfigField(field))
-                continue;
-
-            String path = getFieldPath(field, prefix);
-
-            SaveTo saveTo = field.getAnnotation(SaveTo.class);
-            if (saveTo != null) {
-                Object value = field.get(instance);
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            if (spec.saveTo() != null) {
+                Object value = spec.get(instance);
                 if (value == null) {
-                    value = getDefaultValue(field);
-                }
-                if (value == null && field.getType().isPrimitive()) {
-                    value = getPrimitiveDefault(field.getType());
+                    value = spec.defaultOrZero();
                 }
                 if (value == null) {
                     continue;
                 }
                 ConfigDocument document =
-                        externalDocs.computeIfAbsent(saveTo.value(), k -> ConfigDocument.empty());
-                document.set(path, prepareForConfig(value, field),
-                        commentLines(field.getAnnotation(Comment.class)));
+                        externalDocs.computeIfAbsent(spec.saveTo(), k -> ConfigDocument.empty());
+                document.set(spec.path(), spec.segments(), prepareForConfig(value, spec), spec.comment());
                 continue;
             }
 
-            ConfigSection section = field.getAnnotation(ConfigSection.class);
-            if (section != null) {
-                Object sectionInstance = field.get(instance);
+            if (spec.section()) {
+                Object sectionInstance = spec.get(instance);
                 if (sectionInstance != null) {
-                    collectExternalFields(sectionInstance, field.getType(), "", externalDocs);
+                    collectExternalFields(sectionInstance, ConfigSchema.of(spec.type()), externalDocs);
                 }
             }
         }
@@ -1700,6 +2164,65 @@ public class ConfigManager {
         };
     }
 
+    /**
+     * Subscribes to watcher-driven reload batches. Edits landing within one
+     * debounce window (see {@link #setWatchDebounce(Duration)}) are reloaded
+     * together and reported here once, after the per-class change listeners.
+     *
+     * @param listener callback receiving the instances reloaded in the batch
+     * @return subscription handle that removes the listener when closed
+     */
+    public ListenerSubscription subscribeExternalReloads(Consumer<List<Object>> listener) {
+        Objects.requireNonNull(listener, "listener");
+        reloadBatchListeners.add(listener);
+        return () -> reloadBatchListeners.remove(listener);
+    }
+
+    /**
+     * Sets how long the file watcher waits for changes to settle before
+     * reloading. Every event pushes the deadline of its file back by the
+     * window, and all files pending when the last deadline passes are
+     * reloaded as one batch (capped at five seconds after the first event so
+     * a constantly rewritten file cannot starve reloads). Classes can
+     * override the window with {@link ConfigReloadable#debounceMillis()}.
+     *
+     * @param window quiet period; zero reloads on the next watcher pass
+     */
+    public void setWatchDebounce(Duration window) {
+        Objects.requireNonNull(window, "window");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Debounce window must not be negative");
+        }
+        this.watchDebounceMillis = window.toMillis();
+    }
+
+    /**
+     * Returns the default watcher debounce window.
+     *
+     * @return debounce window
+     */
+    public Duration getWatchDebounce() {
+        return Duration.ofMillis(watchDebounceMillis);
+    }
+
+    /**
+     * Number of config file reads answered from the parsed-document cache.
+     *
+     * @return cache hits since the manager was created
+     */
+    public long getDocumentCacheHits() {
+        return documentCache.hits.sum();
+    }
+
+    /**
+     * Number of config file reads that had to parse the file.
+     *
+     * @return cache misses since the manager was created
+     */
+    public long getDocumentCacheMisses() {
+        return documentCache.misses.sum();
+    }
+
     private void notifyChangeListeners(ConfigEntry<?> entry, Set<String> changedSections) {
         List<BiConsumer<Object, Set<String>>> listeners = changeListeners.get(entry.key.configClass);
         if (listeners == null) {
@@ -1741,12 +2264,19 @@ public class ConfigManager {
         if (configInstance == null) {
             return null;
         }
+        if (configInstance instanceof ConfigRef<?> ref) {
+            configInstance = ref.get();
+        }
 
         ConfigKey key = instanceIndex.get(configInstance);
         return key != null ? configs.get(key) : null;
     }
 
     private void removeEntry(ConfigEntry<?> entry) {
+        if (dirtyEntries.remove(entry)) {
+            saveEntry(entry);
+        }
+        documentCache.invalidate(entry.file);
         configs.remove(entry.key);
         instanceIndex.remove(entry.instance);
 
@@ -1793,7 +2323,7 @@ public class ConfigManager {
         }
     }
 
-    private void saveEntry(ConfigEntry<?> entry) {
+    private boolean saveEntry(ConfigEntry<?> entry) {
         synchronized (entry.monitor) {
             try {
                 long currentFileModified = entry.file.exists() ? entry.file.lastModified() : -1L;
@@ -1804,17 +2334,20 @@ public class ConfigManager {
                     entry.refreshLastModified();
                 }
 
+                ConfigSchema schema = ConfigSchema.of(entry.instance.getClass());
                 ConfigDocument document = ConfigDocument.empty();
-                saveFields(entry.instance, document, entry.instance.getClass(), "");
+                saveFields(entry.instance, document, schema);
                 applySchemaVersion(document, entry.schemaVersion);
 
                 ensureParentDirectory(entry.file);
                 document.save(entry.file);
-                flushExternalFields(entry.instance, entry.instance.getClass(), "");
+                flushExternalFields(entry.instance, schema);
                 entry.refreshLastModified();
+                return true;
             } catch (Exception e) {
             logger.error("Failed to save config " + entry.key.configClass.getName() + " (" + entry.metadata.getFilePath()
                     + ")", e);
+                return false;
             }
         }
     }
@@ -1823,10 +2356,17 @@ public class ConfigManager {
         synchronized (entry.monitor) {
             try {
                 long beforeReload = entry.file.exists() ? entry.file.lastModified() : -1L;
-                // Always mutate in-place: the instance reference returned from register()
-                // is part of the public contract — consumers hold it and expect getter
-                // calls to see live data without re-fetching.
-                LoadResult loadResult = loadConfigWithRetry(entry.instance, entry.metadata, sections);
+                LoadResult loadResult;
+                if (entry.ref != null) {
+                    loadResult = reloadSnapshot(entry, validateBeforeReload);
+                } else if (validateBeforeReload) {
+                    loadResult = reloadValidated(entry, sections);
+                } else {
+                    // Live mode mutates in-place: the instance reference returned from register()
+                    // is part of the public contract — consumers hold it and expect getter
+                    // calls to see live data without re-fetching.
+                    loadResult = loadConfigWithRetry(entry.instance, entry.metadata, sections, false);
+                }
                 entry.schemaVersion = loadResult.schemaVersion();
 
                 entry.lastModified.set(beforeReload);
@@ -1841,6 +2381,62 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Loads a fresh instance for a snapshot entry and swaps it in. Section
+     * scoping is ignored: a snapshot is always loaded in full, since it starts
+     * from the constructor defaults rather than the previous values. Called
+     * with the entry monitor held.
+     */
+    private <T> LoadResult reloadSnapshot(ConfigEntry<T> entry, boolean candidate) throws Exception {
+        @SuppressWarnings("unchecked")
+        T fresh = (T) entry.key.configClass.getDeclaredConstructor().newInstance();
+        LoadResult loadResult = loadConfigWithRetry(fresh, entry.metadata, Collections.emptySet(), candidate);
+
+        T previous = entry.instance;
+        instanceIndex.remove(previous);
+        instanceIndex.put(fresh, entry.key);
+        primaryInstances.replace(entry.key.configClass, previous, fresh);
+        entry.instance = fresh;
+        entry.ref.publish(fresh);
+        return loadResult;
+    }
+
+    /**
+     * Live-mode reload with {@link #setValidateBeforeReload(boolean)}: loads a
+     * fresh candidate in full, validates it, and only then copies its values
+     * into the live instance (section objects are kept and filled in place).
+     * A section-scoped reload validates the whole file the same way but
+     * copies only the requested sections, unless a migration rewrote the
+     * file. A rejected candidate leaves the
+     * live instance untouched. Called with the entry monitor held.
+     */
+    private <T> LoadResult reloadValidated(ConfigEntry<T> entry, Set<String> sections) throws Exception {
+        @SuppressWarnings("unchecked")
+        T candidate = (T) entry.key.configClass.getDeclaredConstructor().newInstance();
+        LoadResult loadResult = loadConfigWithRetry(candidate, entry.metadata, Collections.emptySet(), true);
+        copyFields(ConfigSchema.of(candidate.getClass()), candidate, entry.instance,
+                loadResult.migrated() ? Collections.emptySet() : normalizeSections(sections));
+        return loadResult;
+    }
+
+    private void copyFields(ConfigSchema schema, Object from, Object to, Set<String> sections)
+            throws IllegalAccessException {
+        for (ConfigSchema.FieldSpec spec : schema.fields()) {
+            if (!shouldProcessPath(spec.path(), sections)) {
+                continue;
+            }
+            Object value = spec.get(from);
+            if (spec.section()) {
+                Object target = spec.get(to);
+                if (value != null && target != null) {
+                    copyFields(ConfigSchema.of(spec.type()), value, target, narrowSections(spec.path(), sections));
+                    continue;
+                }
+            }
+            spec.set(to, value);
+        }
+    }
+
     private void registerWatcher(ConfigEntry<?> entry) {
         if (watchServiceUnavailable) {
             return;
@@ -1902,10 +2498,18 @@ public class ConfigManager {
     }
 
     private void watchLoop() {
+        // File -> System.nanoTime() after which it is considered settled.
+        Map<Path, Long> pending = new LinkedHashMap<>();
+        long batchStarted = 0L;
         while (!shuttingDown) {
             WatchKey key;
             try {
-                key = watchService.take();
+                if (pending.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long wait = batchDeadline(pending, batchStarted) - System.nanoTime();
+                    key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : null;
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -1913,48 +2517,101 @@ public class ConfigManager {
                 break;
             }
 
-            Path directory = (Path) key.watchable();
-            Set<Path> changedFiles = new HashSet<>();
-            for (WatchEvent<?> event : key.pollEvents()) {
-                WatchEvent.Kind<?> kind = event.kind();
-                if (kind == StandardWatchEventKinds.OVERFLOW) {
-                    continue;
+            if (key != null) {
+                if (pending.isEmpty()) {
+                    batchStarted = System.nanoTime();
                 }
-
-                Path changed = directory.resolve((Path) event.context()).toAbsolutePath();
-                changedFiles.add(changed);
+                collectWatchEvents(key, pending);
             }
 
-            for (Path changed : changedFiles) {
-                Set<ConfigKey> affectedKeys = fileIndex.get(changed);
-                if (affectedKeys == null || affectedKeys.isEmpty()) {
-                    continue;
+            if (!pending.isEmpty() && System.nanoTime() - batchDeadline(pending, batchStarted) >= 0) {
+                Set<ConfigEntry<?>> batch = new LinkedHashSet<>();
+                for (Path changed : pending.keySet()) {
+                    Set<ConfigKey> affectedKeys = fileIndex.get(changed);
+                    if (affectedKeys == null) {
+                        continue;
+                    }
+                    for (ConfigKey configKey : affectedKeys) {
+                        ConfigEntry<?> entry = configs.get(configKey);
+                        if (entry != null) {
+                            batch.add(entry);
+                        }
+                    }
                 }
+                pending.clear();
+                scheduleExternalReloads(batch);
+            }
+        }
+    }
 
-                for (ConfigKey configKey : affectedKeys) {
-                    ConfigEntry<?> entry = configs.get(configKey);
-                    if (entry != null) {
-                        scheduleExternalReload(entry);
+    private void collectWatchEvents(WatchKey key, Map<Path, Long> pending) {
+        Path directory = (Path) key.watchable();
+        long now = System.nanoTime();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were dropped; treat every watched file in the directory as touched.
+                for (Path watched : fileIndex.keySet()) {
+                    if (directory.equals(watched.getParent())) {
+                        pending.put(watched, now + debounceNanos(watched));
                     }
                 }
+                continue;
+            }
+
+            Path changed = directory.resolve((Path) event.context()).toAbsolutePath();
+            Set<ConfigKey> affectedKeys = fileIndex.get(changed);
+            if (affectedKeys == null || affectedKeys.isEmpty()) {
+                continue;
             }
+            pending.put(changed, now + debounceNanos(changed));
+        }
+
+        boolean valid = key.reset();
+        if (!valid) {
+            synchronized (watcherLock) {
+                directoryWatchKeys.remove(directory);
+                directoryRefCounts.remove(directory);
+            }
+        }
+    }
+
+    private long batchDeadline(Map<Path, Long> pending, long batchStarted) {
+        long deadline = batchStarted;
+        for (long fileDeadline : pending.values()) {
+            if (fileDeadline - deadline > 0) {
+                deadline = fileDeadline;
+            }
+        }
+        long cap = batchStarted + TimeUnit.MILLISECONDS.toNanos(MAX_WATCH_BATCH_DELAY_MILLIS);
+        return deadline - cap > 0 ? cap : deadline;
+    }
 
-            boolean valid = key.reset();
-            if (!valid) {
-                synchronized (watcherLock) {
-                    directoryWatchKeys.remove(directory);
-                    directoryRefCounts.remove(directory);
+    private long debounceNanos(Path file) {
+        long window = -1L;
+        Set<ConfigKey> keys = fileIndex.get(file);
+        if (keys != null) {
+            for (ConfigKey configKey : keys) {
+                ConfigEntry<?> entry = configs.get(configKey);
+                if (entry != null && entry.debounceMillis >= 0) {
+                    window = Math.max(window, entry.debounceMillis);
                 }
             }
         }
+        return TimeUnit.MILLISECONDS.toNanos(window >= 0 ? window : watchDebounceMillis);
     }
 
-    private void scheduleExternalReload(ConfigEntry<?> entry) {
+    private void scheduleExternalReloads(Collection<ConfigEntry<?>> entries) {
         if (shuttingDown) {
             return;
         }
 
-        if (!entry.markReloadScheduled()) {
+        List<ConfigEntry<?>> batch = new ArrayList<>(entries.size());
+        for (ConfigEntry<?> entry : entries) {
+            if (entry.markReloadScheduled()) {
+                batch.add(entry);
+            }
+        }
+        if (batch.isEmpty()) {
             return;
         }
 
@@ -1965,30 +2622,52 @@ public class ConfigManager {
                     if (shuttingDown) {
                         return;
                     }
-                    // Skip reload if the file's mtime matches what we last
-                    // saw — this drops spurious watcher events caused by
-                    // initial registration writes (saveConfig defaults), and
-                    // duplicate ENTRY_CREATE/ENTRY_MODIFY pairs the OS emits
-                    // for the same physical save.
-                    long observed = entry.file.exists() ? entry.file.lastModified() : -1L;
-                    long lastKnown = entry.lastModified.get();
-                    if (lastKnown > 0 && observed == lastKnown) {
-                        return;
+                    List<ConfigEntry<?>> reloaded = new ArrayList<>(batch.size());
+                    for (ConfigEntry<?> entry : batch) {
+                        // Skip files whose content matches what we last loaded
+                        // or saved: our own writes, editors that rewrite
+                        // unchanged files, and duplicate CREATE/MODIFY pairs.
+                        // Checked under the monitor so a save still between
+                        // its write and refreshLastModified() is waited for.
+                        synchronized (entry.monitor) {
+                            if (entry.matchesDisk()) {
+                                continue;
+                            }
+                            if (reloadEntry(entry, Collections.emptySet(), true)) {
+                                reloaded.add(entry);
+                            }
+                        }
                     }
-                    if (reloadEntry(entry, Collections.emptySet(), true)) {
-                        notifyChangeListenersOnMain(entry, Collections.emptySet());
+                    if (!reloaded.isEmpty()) {
+                        notifyReloadBatchOnMain(reloaded);
                     }
                 }
             } finally {
-                entry.reloadComplete();
+                for (ConfigEntry<?> entry : batch) {
+                    entry.reloadComplete();
+                }
             }
         });
     }
 
-    private void notifyChangeListenersOnMain(ConfigEntry<?> entry, Set<String> sections) {
-        Tasks.runOnMain(platform, () -> notifyChangeListeners(entry, sections)).whenComplete((ignored, error) -> {
+    private void notifyReloadBatchOnMain(List<ConfigEntry<?>> reloaded) {
+        Tasks.runOnMain(platform, () -> {
+            List<Object> instances = new ArrayList<>(reloaded.size());
+            for (ConfigEntry<?> entry : reloaded) {
+                notifyChangeListeners(entry, Collections.emptySet());
+                instances.add(entry.instance);
+            }
+            List<Object> view = Collections.unmodifiableList(instances);
+            for (Consumer<List<Object>> listener : reloadBatchListeners) {
+                try {
+                    listener.accept(view);
+                } catch (Throwable error) {
+                    logger.error("Failed to notify config reload batch listener", error);
+                }
+            }
+        }).whenComplete((ignored, error) -> {
             if (error != null) {
-                logger.warn("Failed to notify config change listeners for " + entry.key.filePath, error);
+                logger.warn("Failed to notify config change listeners for " + reloaded.size() + " reloaded configs", error);
             }
         });
     }
@@ -2015,6 +2694,13 @@ public class ConfigManager {
      * Stops the watcher service and releases associated resources.
      */
     public void shutdown() {
+        // Player stores write their dirty players through save(), so close them
+        // before queued write-behind saves are flushed.
+        for (PlayerDataStore<?> store : playerStores) {
+            store.close();
+        }
+        // Queued write-behind saves must reach disk before the manager goes quiet.
+        flush();
         synchronized (shutdownLock) {
             shuttingDown = true;
         }
@@ -2179,19 +2865,26 @@ public class ConfigManager {
 
     private static final class ConfigEntry<T> {
         private final ConfigKey key;
-        private final T instance;
+        private volatile T instance;
+        private final ConfigRef<T> ref;
         private final ConfigMetadata metadata;
         private final File file;
         private String schemaVersion;
         private final Object monitor = new Object();
         private final AtomicBoolean reloadScheduled = new AtomicBoolean(false);
         private final AtomicLong lastModified = new AtomicLong(-1L);
+        private final long debounceMillis;
+        private volatile long knownSize = -1L;
+        private volatile long knownHash = -1L;
 
-        private ConfigEntry(ConfigKey key, T instance, ConfigMetadata metadata, File file) {
+        private ConfigEntry(ConfigKey key, T instance, ConfigMetadata metadata, File file, ConfigRef<T> ref) {
             this.key = key;
             this.instance = instance;
+            this.ref = ref;
             this.metadata = metadata;
             this.file = file;
+            ConfigReloadable reloadable = key.configClass.getAnnotation(ConfigReloadable.class);
+            this.debounceMillis = reloadable != null ? reloadable.debounceMillis() : -1L;
         }
 
         private boolean markReloadScheduled() {
@@ -2205,6 +2898,41 @@ public class ConfigManager {
         private void refreshLastModified() {
             long modified = file.exists() ? file.lastModified() : -1L;
             this.lastModified.set(modified);
+            this.knownSize = file.exists() ? file.length() : -1L;
+            this.knownHash = contentHash(file);
+        }
+
+        /**
+         * Whether the file still holds what was last loaded or saved: same
+         * mtime and size, or failing that, the same content checksum.
+         */
+        private boolean matchesDisk() {
+            long modified = file.exists() ? file.lastModified() : -1L;
+            long size = file.exists() ? file.length() : -1L;
+            long lastKnown = lastModified.get();
+            if (lastKnown > 0 && modified == lastKnown && size == knownSize) {
+                return true;
+            }
+            long hash = contentHash(file);
+            if (hash != -1L && hash == knownHash) {
+                lastModified.set(modified);
+                knownSize = size;
+                return true;
+            }
+            return false;
+        }
+
+        private static long contentHash(File file) {
+            if (!file.isFile()) {
+                return -1L;
+            }
+            try {
+                CRC32C crc = new CRC32C();
+                crc.update(Files.readAllBytes(file.toPath()));
+                return crc.getValue();
+            } catch (IOException e) {
+                return -1L;
+            }
         }
 
         private long getLastModified() {
@@ -2212,6 +2940,299 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Parsed config trees keyed by file, so reloading an unchanged file costs
+     * a stat instead of a parse.
+     *
+     * <p>A cached tree is reused while the file keeps its size and mtime.
+     * Because mtime granularity can hide a same-size rewrite made right after
+     * the file was read, a tree read less than {@link #RACY_WINDOW_MILLIS}
+     * after the file's mtime is confirmed by content checksum before reuse.
+     * Callers always get a deep copy, since migrations and config fields
+     * mutate the tree.</p>
+     */
+    private static final class DocumentCache {
+        private static final long RACY_WINDOW_MILLIS = 2000L;
+        private final Map<Path, Cached> entries = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private volatile BinaryDocumentStore binary;
+
+        Map<String, Object> read(File file) throws IOException {
+            Path path = file.toPath().toAbsolutePath();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+
+            Cached cached = entries.get(path);
+            BinaryDocumentStore store = binary;
+            if (cached == null && store != null) {
+                cached = store.read(path);
+                if (cached != null) {
+                    entries.putIfAbsent(path, cached);
+                }
+            }
+            if (cached != null && cached.size == size && cached.modified == modified
+                    && cached.readAt - modified > RACY_WINDOW_MILLIS) {
+                hits.increment();
+                return deepCopy(cached.data);
+            }
+
+            long readAt = System.currentTimeMillis();
+            byte[] content = Files.readAllBytes(path);
+            CRC32C crc = new CRC32C();
+            crc.update(content);
+            long hash = crc.getValue();
+            if (cached != null && cached.size == content.length && cached.hash == hash) {
+                Cached confirmed = new Cached(content.length, modified, hash, readAt, cached.data);
+                entries.put(path, confirmed);
+                if (store != null) {
+                    store.write(path, confirmed);
+                }
+                hits.increment();
+                return deepCopy(cached.data);
+            }
+
+            Map<String, Object> data = ConfigFormat.codecFor(file).read(content);
+            Cached parsed = new Cached(content.length, modified, hash, readAt, deepCopy(data));
+            entries.put(path, parsed);
+            if (store != null) {
+                store.write(path, parsed);
+            }
+            misses.increment();
+            return data;
+        }
+
+        void invalidate(File file) {
+            entries.remove(file.toPath().toAbsolutePath());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> V deepCopy(V value) {
+            if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>(Math.max(4, (int) (map.size() / 0.75f) + 1));
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    copy.put(entry.getKey(), deepCopy(entry.getValue()));
+                }
+                return (V) copy;
+            }
+            if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                for (Object element : list) {
+                    copy.add(deepCopy(element));
+                }
+                return (V) copy;
+            }
+            return value;
+        }
+
+        private record Cached(long size, long modified, long hash, long readAt, Map<String, Object> data) {
+        }
+    }
+
+    /**
+     * Parsed documents persisted in a compact binary encoding, so a cold
+     * start skips parsing large human-edited files that did not change since
+     * the previous run.
+     *
+     * <p>Each entry lives at {@code <cache dir>/<config path>.bin} and records
+     * the size, mtime and checksum of the source file it was parsed from;
+     * {@link DocumentCache} validates it exactly like an in-memory entry.
+     * Entries are written to a temporary sibling and moved into place, and a
+     * missing, stale or unreadable entry is simply a cache miss, so the
+     * directory can be deleted at any time. Files outside the config
+     * directory are not persisted.</p>
+     */
+    private static final class BinaryDocumentStore {
+        private static final int MAGIC = 0x4D554443;
+        private static final int VERSION = 1;
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private static final int TAG_NULL = 0;
+        private static final int TAG_TRUE = 1;
+        private static final int TAG_FALSE = 2;
+        private static final int TAG_INT = 3;
+        private static final int TAG_LONG = 4;
+        private static final int TAG_DOUBLE = 5;
+        private static final int TAG_FLOAT = 6;
+        private static final int TAG_BIG_INTEGER = 7;
+        private static final int TAG_BIG_DECIMAL = 8;
+        private static final int TAG_STRING = 9;
+        private static final int TAG_LIST = 10;
+        private static final int TAG_MAP = 11;
+
+        private final Path root;
+        private final Path directory;
+
+        BinaryDocumentStore(Path root, Path directory) {
+            this.root = root.toAbsolutePath().normalize();
+            this.directory = directory.toAbsolutePath().normalize();
+        }
+
+        @SuppressWarnings("unchecked")
+        DocumentCache.Cached read(Path source) {
+            Path file = locate(source);
+            if (file == null || !Files.isRegularFile(file)) {
+                return null;
+            }
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+                if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                    return null;
+                }
+                long size = in.readLong();
+                long modified = in.readLong();
+                long hash = in.readLong();
+                long readAt = in.readLong();
+                Object data = readValue(in);
+                return data instanceof Map<?, ?> map
+                        ? new DocumentCache.Cached(size, modified, hash, readAt, (Map<String, Object>) map)
+                        : null;
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        void write(Path source, DocumentCache.Cached cached) {
+            Path file = locate(source);
+            if (file == null) {
+                return;
+            }
+            Path target = file;
+            Path temp = null;
+            try {
+                Files.createDirectories(file.getParent());
+                target = resolveSaveTarget(file);
+                temp = createSiblingTemp(target);
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                    out.writeInt(MAGIC);
+                    out.writeByte(VERSION);
+                    out.writeLong(cached.size);
+                    out.writeLong(cached.modified);
+                    out.writeLong(cached.hash);
+                    out.writeLong(cached.readAt);
+                    writeValue(out, cached.data);
+                }
+                replaceWithTemp(temp, target);
+            } catch (IOException e) {
+                // Unsupported value types or an unwritable cache dir only cost the next cold start a parse.
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException ignored) {
+                }
+            } finally {
+                if (temp != null) {
+                    try {
+                        Files.deleteIfExists(temp);
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        private Path locate(Path source) {
+            Path normalized = source.toAbsolutePath().normalize();
+            if (!normalized.startsWith(root) || normalized.startsWith(directory)) {
+                return null;
+            }
+            return directory.resolve(root.relativize(normalized) + ".bin");
+        }
+
+        private static void writeValue(DataOutputStream out, Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer number) {
+                out.writeByte(TAG_INT);
+                out.writeInt(number);
+            } else if (value instanceof Long number) {
+                out.writeByte(TAG_LONG);
+                out.writeLong(number);
+            } else if (value instanceof Double number) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(number);
+            } else if (value instanceof Float number) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat(number);
+            } else if (value instanceof BigInteger number) {
+                out.writeByte(TAG_BIG_INTEGER);
+                writeString(out, number.toString());
+            } else if (value instanceof BigDecimal number) {
+                out.writeByte(TAG_BIG_DECIMAL);
+                writeString(out, number.toString());
+            } else if (value instanceof String text) {
+                out.writeByte(TAG_STRING);
+                writeString(out, text);
+            } else if (value instanceof List<?> list) {
+                out.writeByte(TAG_LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(out, element);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                out.writeByte(TAG_MAP);
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeString(out, String.valueOf(entry.getKey()));
+                    writeValue(out, entry.getValue());
+                }
+            } else {
+                throw new IOException("Unsupported value type " + value.getClass().getName());
+            }
+        }
+
+        private static Object readValue(DataInputStream in) throws IOException {
+            int tag = in.readUnsignedByte();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_INT -> in.readInt();
+                case TAG_LONG -> in.readLong();
+                case TAG_DOUBLE -> in.readDouble();
+                case TAG_FLOAT -> in.readFloat();
+                case TAG_BIG_INTEGER -> new BigInteger(readString(in));
+                case TAG_BIG_DECIMAL -> new BigDecimal(readString(in));
+                case TAG_STRING -> readString(in);
+                case TAG_LIST -> readList(in);
+                case TAG_MAP -> readMap(in);
+                default -> throw new IOException("Unknown value tag " + tag);
+            };
+        }
+
+        private static List<Object> readList(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(in));
+            }
+            return list;
+        }
+
+        private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            Map<String, Object> map = new LinkedHashMap<>(Math.max(4, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++) {
+                String key = readString(in);
+                map.put(key, readValue(in));
+            }
+            return map;
+        }
+
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
     private static final class ConfigMetadata {
         @Getter
         private final String filePath;
@@ -2254,13 +3275,28 @@ public class ConfigManager {
     }
 
     /**
-     * Minimal config document helper backed by Jackson.
+     * Parsed config tree plus a flattened index of every node by its dotted
+     * path. The index is built on the first lookup (after migrations have had
+     * their chance to rewrite the tree), so {@link #find} is a single hash
+     * probe instead of a regex split and a walk per field. Writes go straight
+     * into the nested map using pre-split segments.
      */
     private static class ConfigDocument extends ConfigSectionView {
         private static final ObjectMapper SCALAR_MAPPER = createScalarMapper();
+        private static final Object MISSING = new Object();
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+        private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+        private static final String[] INDENTS = new String[16];
+
+        static {
+            for (int i = 0; i < INDENTS.length; i++) {
+                INDENTS[i] = "  ".repeat(i);
+            }
+        }
         private final Map<String, Object> data;
         private final Map<String, List<String>> comments;
         private List<String> header;
+        private Map<String, Object> index;
 
         private ConfigDocument(Map<String, Object> backing, List<String> header) {
             super(backing);
@@ -2279,13 +3315,11 @@ public class ConfigManager {
             return mapper;
         }
 
-        static ConfigDocument load(File file) throws IOException {
+        static ConfigDocument load(File file, DocumentCache cache) throws IOException {
             if (file == null || !file.exists()) {
                 return empty();
             }
-            ConfigFormat format = ConfigFormat.fromFile(file);
-            Map<String, Object> map = format.read(file);
-            return new ConfigDocument(map, null);
+            return new ConfigDocument(cache.read(file), null);
         }
 
         void addComments(Map<String, List<String>> map, String prefix) {
@@ -2303,62 +3337,125 @@ public class ConfigManager {
         }
 
         void set(String path, Object value, List<String> comment) {
-            applyPath(data, path, value);
+            set(path, splitPath(path), value, comment);
+        }
+
+        void set(String path, String[] segments, Object value, List<String> comment) {
+            applyPath(data, segments, value);
+            index = null;
             if (comment != null && !comment.isEmpty()) {
                 comments.put(path, comment);
             }
         }
 
+        /**
+         * Looks up a node by dotted path.
+         *
+         * @param path dotted path
+         * @return node value (possibly null), or {@link #MISSING} when absent
+         */
+        Object find(String path) {
+            Map<String, Object> current = index;
+            if (current == null) {
+                current = new HashMap<>();
+                indexNode(current, "", data);
+                index = current;
+            }
+            Object value = current.get(path);
+            if (value == null && !current.containsKey(path)) {
+                return MISSING;
+            }
+            return value;
+        }
+
         boolean contains(String path) {
-            return navigate(data, path).found;
+            return find(path) != MISSING;
         }
 
-        ConfigSectionView getConfigurationSection(String path) {
-            NavigateResult res = navigate(data, path);
-            if (res.found && res.value instanceof Map) {
-                return new ConfigSectionView(castMap((Map<?, ?>) res.value));
+        Object get(String path) {
+            Object value = find(path);
+            return value != MISSING ? value : null;
+        }
+
+        /**
+         * Sub-document for a nested section, sharing the header.
+         *
+         * @param path dotted section path
+         * @return section document, or null when the path is not a map
+         */
+        ConfigDocument section(String path) {
+            Object value = find(path);
+            if (value instanceof Map<?, ?> map) {
+                return new ConfigDocument(castMap(map), header);
             }
             return null;
         }
 
-        Object get(String path) {
-            NavigateResult res = navigate(data, path);
-            return res.found ? res.value : null;
+        /**
+         * Writes the document to a temporary sibling and moves it over the
+         * target, so a crash mid-write never leaves a truncated config. A
+         * symlinked config is saved through the link, and the file keeps its
+         * permissions.
+         */
+        void save(File file) throws IOException {
+            ConfigFormatCodec format = ConfigFormat.codecFor(file);
+            ensureParentDirectory(file);
+            Path target = resolveSaveTarget(file.toPath());
+            Path temp = createSiblingTemp(target);
+            try {
+                format.write(temp.toFile(), data, header, comments);
+                replaceWithTemp(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
         }
 
-        void save(File file) throws IOException {
-            ConfigFormat.fromFile(file).write(file, data, header, comments);
+        private static void indexNode(Map<String, Object> index, String prefix, Map<?, ?> node) {
+            for (Map.Entry<?, ?> entry : node.entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                String path = prefix.isEmpty() ? key : prefix + key;
+                Object value = entry.getValue();
+                // A nested a -> b wins over a literal "a.b" key, as the old walk did.
+                if (key.indexOf('.') >= 0) {
+                    index.putIfAbsent(path, value);
+                } else {
+                    index.put(path, value);
+                }
+                if (value instanceof Map<?, ?> child) {
+                    indexNode(index, path + ".", child);
+                }
+            }
         }
 
-        private static void applyPath(Map<String, Object> root, String path, Object value) {
-            String[] parts = path.split("\\.");
+        static String[] splitPath(String path) {
+            int dot = path.indexOf('.');
+            if (dot < 0) {
+                return new String[]{path};
+            }
+            List<String> parts = new ArrayList<>();
+            int start = 0;
+            while (dot >= 0) {
+                parts.add(path.substring(start, dot));
+                start = dot + 1;
+                dot = path.indexOf('.', start);
+            }
+            parts.add(path.substring(start));
+            return parts.toArray(new String[0]);
+        }
+
+        @SuppressWarnings("unchecked")
+        static void applyPath(Map<String, Object> root, String[] segments, Object value) {
             Map<String, Object> current = root;
-            for (int i = 0; i < parts.length - 1; i++) {
-                String part = parts[i];
+            for (int i = 0; i < segments.length - 1; i++) {
+                String part = segments[i];
                 Object child = current.get(part);
                 if (!(child instanceof Map)) {
                     child = new LinkedHashMap<String, Object>();
                     current.put(part, child);
                 }
-                current = castMap((Map<?, ?>) child);
-            }
-            current.put(parts[parts.length - 1], value);
-        }
-
-        private static NavigateResult navigate(Map<String, Object> root, String path) {
-            String[] parts = path.split("\\.");
-            Map<String, Object> current = root;
-            for (int i = 0; i < parts.length; i++) {
-                Object value = current.get(parts[i]);
-                if (i == parts.length - 1) {
-                    return new NavigateResult(true, value);
-                }
-                if (!(value instanceof Map)) {
-                    return new NavigateResult(false, null);
-                }
-                current = castMap((Map<?, ?>) value);
+                current = (Map<String, Object>) child;
             }
-            return new NavigateResult(false, null);
+            current.put(segments[segments.length - 1], value);
         }
 
         static Map<String, Object> castMap(Map<?, ?> map) {
@@ -2369,20 +3466,20 @@ public class ConfigManager {
             return out;
         }
 
-        private record NavigateResult(boolean found, Object value) {
+        private static Writer openWriter(File file) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
         }
 
         private static void writeYamlWithComments(File file,
                                                   Map<String, Object> map,
                                                   List<String> header,
                                                   Map<String, List<String>> comments) throws IOException {
-            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
-                if (header != null && !header.isEmpty()) {
-                    for (String line : header) {
-                        writer.write("# " + line + System.lineSeparator());
-                    }
-                }
-                writeWithComments(writer, map, comments, "", 0);
+            CommentLookup lookup = CommentLookup.of(comments);
+            try (Writer writer = openWriter(file)) {
+                writeCommentLines(writer, header, "# ", 0);
+                writeWithComments(writer, map, lookup, lookup.rootPath(), 0);
             }
         }
 
@@ -2390,14 +3487,11 @@ public class ConfigManager {
                                                   Map<String, Object> map,
                                                   List<String> header,
                                                   Map<String, List<String>> comments) throws IOException {
-            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
-                if (header != null && !header.isEmpty()) {
-                    for (String line : header) {
-                        writer.write("// " + line + System.lineSeparator());
-                    }
-                }
-                writeJsonObject(writer, map, comments, "", 0);
-                writer.write(System.lineSeparator());
+            CommentLookup lookup = CommentLookup.of(comments);
+            try (Writer writer = openWriter(file)) {
+                writeCommentLines(writer, header, "// ", 0);
+                writeJsonObject(writer, map, lookup, lookup.rootPath(), 0);
+                writer.write(LINE_SEPARATOR);
             }
         }
 
@@ -2405,239 +3499,272 @@ public class ConfigManager {
                                                   Map<String, Object> map,
                                                   List<String> header,
                                                   Map<String, List<String>> comments) throws IOException {
-            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
-                if (header != null && !header.isEmpty()) {
-                    for (String line : header) {
-                        writer.write("# " + line + System.lineSeparator());
-                    }
-                }
-                writeTomlTableBody(writer, map, comments, "");
+            CommentLookup lookup = CommentLookup.of(comments);
+            try (Writer writer = openWriter(file)) {
+                writeCommentLines(writer, header, "# ", 0);
+                writeTomlTableBody(writer, map, lookup, "");
             }
         }
 
         private static void writeWithComments(Writer writer,
-                                              Map<String, Object> map,
-                                              Map<String, List<String>> comments,
+                                              Map<?, ?> map,
+                                              CommentLookup comments,
                                               String pathPrefix,
                                               int indentLevel) throws IOException {
-            String indent = "  ".repeat(indentLevel);
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String indent = indent(indentLevel);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
                 String key = String.valueOf(entry.getKey());
-                String currentPath = pathPrefix.isEmpty() ? key : pathPrefix + "." + key;
-                List<String> commentLines = comments != null ? comments.get(currentPath) : null;
-                if (commentLines != null) {
-                    for (String line : commentLines) {
-                        writer.write(indent + "# " + line + System.lineSeparator());
-                    }
-                }
+                String currentPath = CommentLookup.child(pathPrefix, key);
+                writeCommentLines(writer, comments.get(currentPath), "# ", indentLevel);
                 Object value = entry.getValue();
-                if (value instanceof Map) {
-                    writer.write(indent + key + ":" + System.lineSeparator());
-                    writeWithComments(writer, castMap((Map<?, ?>) value), comments, currentPath, indentLevel + 1);
-                } else if (value instanceof List) {
-                    writer.write(indent + key + ":" + System.lineSeparator());
-                    writeList(writer, (List<?>) value, comments, currentPath, indentLevel + 1);
-                } else if (value instanceof String str && str.contains("\n")) {
-                    writer.write(indent + key + ": |" + System.lineSeparator());
+                writer.write(indent);
+                writer.write(key);
+                if (value instanceof Map<?, ?> child) {
+                    writer.write(':');
+                    writer.write(LINE_SEPARATOR);
+                    writeWithComments(writer, child, comments, currentPath, indentLevel + 1);
+                } else if (value instanceof List<?> list) {
+                    writer.write(':');
+                    writer.write(LINE_SEPARATOR);
+                    writeList(writer, list, comments, currentPath, indentLevel + 1);
+                } else if (value instanceof String str && str.indexOf('\n') >= 0) {
+                    writer.write(": |");
+                    writer.write(LINE_SEPARATOR);
                     writeMultilineValue(writer, str, indentLevel + 1);
                 } else {
-                    writer.write(indent + key + ": " + formatScalar(value) + System.lineSeparator());
+                    writer.write(": ");
+                    writeScalar(writer, value);
+                    writer.write(LINE_SEPARATOR);
                 }
             }
         }
 
         private static void writeJsonObject(Writer writer,
-                                            Map<String, Object> map,
-                                            Map<String, List<String>> comments,
+                                            Map<?, ?> map,
+                                            CommentLookup comments,
                                             String pathPrefix,
                                             int indentLevel) throws IOException {
-            writer.write("{");
+            writer.write('{');
             if (map.isEmpty()) {
-                writer.write("}");
+                writer.write('}');
                 return;
             }
-            writer.write(System.lineSeparator());
-            int index = 0;
-            int size = map.size();
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writer.write(LINE_SEPARATOR);
+            String indent = indent(indentLevel + 1);
+            int remaining = map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
                 String key = String.valueOf(entry.getKey());
-                String currentPath = pathPrefix.isEmpty() ? key : pathPrefix + "." + key;
-                List<String> commentLines = comments != null ? comments.get(currentPath) : null;
-                writeCommentLines(writer, commentLines, "// ", indentLevel + 1);
-                String indent = "  ".repeat(indentLevel + 1);
-                writer.write(indent + formatJsonKey(key) + ": ");
+                String currentPath = CommentLookup.child(pathPrefix, key);
+                writeCommentLines(writer, comments.get(currentPath), "// ", indentLevel + 1);
+                writer.write(indent);
+                writer.write(formatJsonKey(key));
+                writer.write(": ");
                 writeJsonValue(writer, entry.getValue(), comments, currentPath, indentLevel + 1);
-                if (index < size - 1) {
-                    writer.write(",");
+                if (--remaining > 0) {
+                    writer.write(',');
                 }
-                writer.write(System.lineSeparator());
-                index++;
+                writer.write(LINE_SEPARATOR);
             }
-            writer.write("  ".repeat(indentLevel) + "}");
+            writer.write(indent(indentLevel));
+            writer.write('}');
         }
 
         private static void writeJsonArray(Writer writer,
                                            List<?> list,
-                                           Map<String, List<String>> comments,
+                                           CommentLookup comments,
                                            String pathPrefix,
                                            int indentLevel) throws IOException {
-            writer.write("[");
+            writer.write('[');
             if (list.isEmpty()) {
-                writer.write("]");
+                writer.write(']');
                 return;
             }
-            writer.write(System.lineSeparator());
-            for (int i = 0; i < list.size(); i++) {
-                Object elem = list.get(i);
-                String currentPath = pathPrefix + "[" + i + "]";
-                List<String> commentLines = comments != null ? comments.get(currentPath) : null;
-                writeCommentLines(writer, commentLines, "// ", indentLevel + 1);
-                String indent = "  ".repeat(indentLevel + 1);
+            writer.write(LINE_SEPARATOR);
+            String indent = indent(indentLevel + 1);
+            int size = list.size();
+            int i = 0;
+            for (Object elem : list) {
+                String currentPath = comments.element(pathPrefix, i);
+                writeCommentLines(writer, comments.get(currentPath), "// ", indentLevel + 1);
                 writer.write(indent);
                 writeJsonValue(writer, elem, comments, currentPath, indentLevel + 1);
-                if (i < list.size() - 1) {
-                    writer.write(",");
+                if (++i < size) {
+                    writer.write(',');
                 }
-                writer.write(System.lineSeparator());
+                writer.write(LINE_SEPARATOR);
             }
-            writer.write("  ".repeat(indentLevel) + "]");
+            writer.write(indent(indentLevel));
+            writer.write(']');
         }
 
         private static void writeJsonValue(Writer writer,
                                            Object value,
-                                           Map<String, List<String>> comments,
+                                           CommentLookup comments,
                                            String pathPrefix,
                                            int indentLevel) throws IOException {
-            if (value instanceof Map) {
-                writeJsonObject(writer, castMap((Map<?, ?>) value), comments, pathPrefix, indentLevel);
-            } else if (value instanceof List) {
-                writeJsonArray(writer, (List<?>) value, comments, pathPrefix, indentLevel);
+            if (value instanceof Map<?, ?> map) {
+                writeJsonObject(writer, map, comments, pathPrefix, indentLevel);
+            } else if (value instanceof List<?> list) {
+                writeJsonArray(writer, list, comments, pathPrefix, indentLevel);
             } else {
-                writer.write(formatScalar(value));
+                writeScalar(writer, value);
             }
         }
 
         private static void writeTomlTable(Writer writer,
-                                           Map<String, Object> map,
-                                           Map<String, List<String>> comments,
+                                           Map<?, ?> map,
+                                           CommentLookup comments,
                                            String pathPrefix) throws IOException {
             if (!pathPrefix.isEmpty()) {
-                List<String> commentLines = comments != null ? comments.get(pathPrefix) : null;
-                writeCommentLines(writer, commentLines, "# ", 0);
-                writer.write("[" + formatTomlPath(pathPrefix) + "]" + System.lineSeparator());
+                writeCommentLines(writer, comments.get(pathPrefix), "# ", 0);
+                writer.write('[');
+                writer.write(formatTomlPath(pathPrefix));
+                writer.write(']');
+                writer.write(LINE_SEPARATOR);
             }
             writeTomlTableBody(writer, map, comments, pathPrefix);
         }
 
         private static void writeTomlArrayTable(Writer writer,
                                                 List<?> list,
-                                                Map<String, List<String>> comments,
+                                                CommentLookup comments,
                                                 String pathPrefix) throws IOException {
             if (list.isEmpty()) {
                 return;
             }
+            String header = "[[" + formatTomlPath(pathPrefix) + "]]";
             boolean first = true;
-            for (int i = 0; i < list.size(); i++) {
-                Object elem = list.get(i);
-                if (!(elem instanceof Map)) {
+            int size = list.size();
+            int i = 0;
+            for (Object elem : list) {
+                i++;
+                if (!(elem instanceof Map<?, ?> table)) {
                     continue;
                 }
                 if (first) {
-                    List<String> commentLines = comments != null ? comments.get(pathPrefix) : null;
-                    writeCommentLines(writer, commentLines, "# ", 0);
+                    writeCommentLines(writer, comments.get(pathPrefix), "# ", 0);
                 }
-                writer.write("[[" + formatTomlPath(pathPrefix) + "]]" + System.lineSeparator());
-                writeTomlTableBody(writer, castMap((Map<?, ?>) elem), comments, pathPrefix);
-                if (i < list.size() - 1) {
-                    writer.write(System.lineSeparator());
+                writer.write(header);
+                writer.write(LINE_SEPARATOR);
+                writeTomlTableBody(writer, table, comments, pathPrefix);
+                if (i < size) {
+                    writer.write(LINE_SEPARATOR);
                 }
                 first = false;
             }
         }
 
         private static void writeTomlTableBody(Writer writer,
-                                               Map<String, Object> map,
-                                               Map<String, List<String>> comments,
+                                               Map<?, ?> map,
+                                               CommentLookup comments,
                                                String pathPrefix) throws IOException {
-            Map<String, Map<String, Object>> tables = new LinkedHashMap<>();
-            Map<String, List<?>> arrayTables = new LinkedHashMap<>();
+            // Scalars first, then sub-tables, then arrays of tables, as TOML requires.
+            // Only keys are collected here; values stay in the source map.
+            List<String> tables = null;
+            List<String> arrayTables = null;
             boolean wroteValue = false;
 
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
                 String key = String.valueOf(entry.getKey());
                 Object value = entry.getValue();
                 if (value instanceof Map) {
-                    tables.put(key, castMap((Map<?, ?>) value));
+                    tables = addKey(tables, key);
                     continue;
                 }
                 if (value instanceof List<?> list && isListOfMaps(list)) {
-                    arrayTables.put(key, list);
+                    arrayTables = addKey(arrayTables, key);
                     continue;
                 }
-                String formatted = formatTomlValue(value);
-                if (formatted == null) {
+                if (value == null) {
                     continue;
                 }
-                String currentPath = pathPrefix.isEmpty() ? key : pathPrefix + "." + key;
-                List<String> commentLines = comments != null ? comments.get(currentPath) : null;
-                writeCommentLines(writer, commentLines, "# ", 0);
-                writer.write(formatTomlKey(key) + " = " + formatted + System.lineSeparator());
+                writeCommentLines(writer, comments.get(CommentLookup.child(pathPrefix, key)), "# ", 0);
+                writer.write(formatTomlKey(key));
+                writer.write(" = ");
+                writeTomlValue(writer, value);
+                writer.write(LINE_SEPARATOR);
                 wroteValue = true;
             }
 
             boolean wroteBlock = wroteValue;
-            for (Map.Entry<String, Map<String, Object>> entry : tables.entrySet()) {
-                if (wroteBlock) {
-                    writer.write(System.lineSeparator());
+            if (tables != null) {
+                for (String key : tables) {
+                    if (wroteBlock) {
+                        writer.write(LINE_SEPARATOR);
+                    }
+                    writeTomlTable(writer, (Map<?, ?>) tomlValue(map, key), comments,
+                            pathPrefix.isEmpty() ? key : pathPrefix + "." + key);
+                    wroteBlock = true;
                 }
-                String tablePath = pathPrefix.isEmpty() ? entry.getKey() : pathPrefix + "." + entry.getKey();
-                writeTomlTable(writer, entry.getValue(), comments, tablePath);
-                wroteBlock = true;
             }
-            for (Map.Entry<String, List<?>> entry : arrayTables.entrySet()) {
-                if (wroteBlock) {
-                    writer.write(System.lineSeparator());
+            if (arrayTables != null) {
+                for (String key : arrayTables) {
+                    if (wroteBlock) {
+                        writer.write(LINE_SEPARATOR);
+                    }
+                    writeTomlArrayTable(writer, (List<?>) tomlValue(map, key), comments,
+                            pathPrefix.isEmpty() ? key : pathPrefix + "." + key);
+                    wroteBlock = true;
+                }
+            }
+        }
+
+        private static List<String> addKey(List<String> keys, String key) {
+            List<String> target = keys != null ? keys : new ArrayList<>();
+            target.add(key);
+            return target;
+        }
+
+        private static Object tomlValue(Map<?, ?> map, String key) {
+            Object value = map.get(key);
+            if (value != null) {
+                return value;
+            }
+            // Non-string keys (e.g. integers from a parsed document) were stringified above.
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (key.equals(String.valueOf(entry.getKey()))) {
+                    return entry.getValue();
                 }
-                String tablePath = pathPrefix.isEmpty() ? entry.getKey() : pathPrefix + "." + entry.getKey();
-                writeTomlArrayTable(writer, entry.getValue(), comments, tablePath);
-                wroteBlock = true;
             }
+            return null;
         }
 
         private static void writeList(Writer writer, List<?> list,
-                                      Map<String, List<String>> comments,
+                                      CommentLookup comments,
                                       String pathPrefix,
                                       int indentLevel) throws IOException {
-            String indent = "  ".repeat(indentLevel);
-            for (int i = 0; i < list.size(); i++) {
-                Object elem = list.get(i);
-                String currentPath = pathPrefix + "[" + i + "]";
-                List<String> commentLines = comments != null ? comments.get(currentPath) : null;
-                if (commentLines != null) {
-                    for (String line : commentLines) {
-                        writer.write(indent + "# " + line + System.lineSeparator());
-                    }
-                }
-                if (elem instanceof Map) {
-                    writer.write(indent + "- " + System.lineSeparator());
-                    writeWithComments(writer, castMap((Map<?, ?>) elem), comments, currentPath, indentLevel + 1);
-                } else if (elem instanceof List) {
-                    writer.write(indent + "- " + System.lineSeparator());
-                    writeList(writer, (List<?>) elem, comments, currentPath, indentLevel + 1);
-                } else if (elem instanceof String str && str.contains("\n")) {
-                    writer.write(indent + "- |" + System.lineSeparator());
+            String indent = indent(indentLevel);
+            int i = 0;
+            for (Object elem : list) {
+                String currentPath = comments.element(pathPrefix, i++);
+                writeCommentLines(writer, comments.get(currentPath), "# ", indentLevel);
+                writer.write(indent);
+                if (elem instanceof Map<?, ?> map) {
+                    writer.write("- ");
+                    writer.write(LINE_SEPARATOR);
+                    writeWithComments(writer, map, comments, currentPath, indentLevel + 1);
+                } else if (elem instanceof List<?> nested) {
+                    writer.write("- ");
+                    writer.write(LINE_SEPARATOR);
+                    writeList(writer, nested, comments, currentPath, indentLevel + 1);
+                } else if (elem instanceof String str && str.indexOf('\n') >= 0) {
+                    writer.write("- |");
+                    writer.write(LINE_SEPARATOR);
                     writeMultilineValue(writer, str, indentLevel + 2);
                 } else {
-                    writer.write(indent + "- " + formatScalar(elem) + System.lineSeparator());
+                    writer.write("- ");
+                    writeScalar(writer, elem);
+                    writer.write(LINE_SEPARATOR);
                 }
             }
         }
 
         private static void writeMultilineValue(Writer writer, String value, int indentLevel) throws IOException {
-            String indent = "  ".repeat(indentLevel);
-            String[] lines = value.split("\\r?\\n", -1);
-            for (String line : lines) {
-                writer.write(indent + line + System.lineSeparator());
+            String indent = indent(indentLevel);
+            for (String line : value.split("\\r?\\n", -1)) {
+                writer.write(indent);
+                writer.write(line);
+                writer.write(LINE_SEPARATOR);
             }
         }
 
@@ -2648,12 +3775,19 @@ public class ConfigManager {
             if (lines == null || lines.isEmpty()) {
                 return;
             }
-            String indent = "  ".repeat(indentLevel);
+            String indent = indent(indentLevel);
             for (String line : lines) {
-                writer.write(indent + prefix + line + System.lineSeparator());
+                writer.write(indent);
+                writer.write(prefix);
+                writer.write(line);
+                writer.write(LINE_SEPARATOR);
             }
         }
 
+        private static String indent(int level) {
+            return level < INDENTS.length ? INDENTS[level] : "  ".repeat(level);
+        }
+
         private static boolean isListOfMaps(List<?> list) {
             if (list == null || list.isEmpty()) {
                 return false;
@@ -2666,38 +3800,40 @@ public class ConfigManager {
             return true;
         }
 
-        private static String formatTomlValue(Object value) {
-            if (value == null) {
-                return null;
-            }
+        private static void writeTomlValue(Writer writer, Object value) throws IOException {
             if (value instanceof Map<?, ?> map) {
-                return formatTomlInlineTable(castMap(map));
-            }
-            if (value instanceof List<?> list) {
-                List<String> parts = new ArrayList<>();
-                for (Object item : list) {
-                    String formatted = formatTomlValue(item);
-                    if (formatted != null) {
-                        parts.add(formatted);
+                writer.write('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getValue() == null) {
+                        continue;
+                    }
+                    if (!first) {
+                        writer.write(", ");
                     }
+                    writer.write(formatTomlKey(String.valueOf(entry.getKey())));
+                    writer.write(" = ");
+                    writeTomlValue(writer, entry.getValue());
+                    first = false;
                 }
-                return "[" + String.join(", ", parts) + "]";
-            }
-            return formatScalar(value);
-        }
-
-        private static String formatTomlInlineTable(Map<String, Object> map) {
-            if (map == null || map.isEmpty()) {
-                return "{}";
-            }
-            List<String> parts = new ArrayList<>();
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
-                String formatted = formatTomlValue(entry.getValue());
-                if (formatted != null) {
-                    parts.add(formatTomlKey(entry.getKey()) + " = " + formatted);
+                writer.write('}');
+            } else if (value instanceof List<?> list) {
+                writer.write('[');
+                boolean first = true;
+                for (Object item : list) {
+                    if (item == null) {
+                        continue;
+                    }
+                    if (!first) {
+                        writer.write(", ");
+                    }
+                    writeTomlValue(writer, item);
+                    first = false;
                 }
+                writer.write(']');
+            } else {
+                writeScalar(writer, value);
             }
-            return "{" + String.join(", ", parts) + "}";
         }
 
         private static String formatJsonKey(String key) {
@@ -2718,7 +3854,7 @@ public class ConfigManager {
             if (path == null || path.isEmpty()) {
                 return "";
             }
-            String[] parts = path.split("\\.");
+            String[] parts = splitPath(path);
             StringBuilder builder = new StringBuilder();
             for (int i = 0; i < parts.length; i++) {
                 if (i > 0) {
@@ -2729,6 +3865,15 @@ public class ConfigManager {
             return builder.toString();
         }
 
+        private static void writeScalar(Writer writer, Object value) throws IOException {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte || value instanceof Boolean) {
+                writer.write(value.toString());
+            } else {
+                writer.write(formatScalar(value));
+            }
+        }
+
         private static String formatScalar(Object value) {
             if (value == null) {
                 return "null";
@@ -2741,7 +3886,64 @@ public class ConfigManager {
         }
     }
 
-    private enum ConfigFormat {
+    /**
+     * Comment lookup used while writing a document. Child paths are only built
+     * when a comment could exist below them: not at all for documents without
+     * comments, and not for list elements unless some comment targets an
+     * element ({@code path[i]}), which keeps large lists allocation-free.
+     */
+    private static final class CommentLookup {
+        private static final CommentLookup NONE = new CommentLookup(Collections.emptyMap(), false);
+        private final Map<String, List<String>> comments;
+        private final boolean elementComments;
+
+        private CommentLookup(Map<String, List<String>> comments, boolean elementComments) {
+            this.comments = comments;
+            this.elementComments = elementComments;
+        }
+
+        static CommentLookup of(Map<String, List<String>> comments) {
+            if (comments == null || comments.isEmpty()) {
+                return NONE;
+            }
+            boolean elements = false;
+            for (String path : comments.keySet()) {
+                if (path.indexOf('[') >= 0) {
+                    elements = true;
+                    break;
+                }
+            }
+            return new CommentLookup(comments, elements);
+        }
+
+        /** Path of the document root, or null when nothing can be looked up. */
+        String rootPath() {
+            return comments.isEmpty() ? null : "";
+        }
+
+        List<String> get(String path) {
+            return path != null ? comments.get(path) : null;
+        }
+
+        static String child(String prefix, String key) {
+            if (prefix == null) {
+                return null;
+            }
+            return prefix.isEmpty() ? key : prefix + "." + key;
+        }
+
+        String element(String prefix, int index) {
+            return prefix != null && elementComments ? prefix + "[" + index + "]" : null;
+        }
+    }
+
+    /**
+     * Built-in formats. Each one implements {@link ConfigFormatCodec} so that
+     * codecs contributed through service files and the built-ins are used
+     * through the same interface; a contributed codec for a built-in
+     * extension supplies that format's mapper.
+     */
+    private enum ConfigFormat implements ConfigFormatCodec {
         YAML(Set.of("yml", "yaml"), "YAML",
                 "com.fasterxml.jackson.dataformat.yaml.YAMLFactory",
                 "com.fasterxml.jackson.dataformat:jackson-dataformat-yaml",
@@ -2770,17 +3972,36 @@ public class ConfigManager {
         }
 
         static ConfigFormat fromFile(File file) {
+            String ext = extensionOf(file);
+            ConfigFormat format = ext != null ? fromExtension(ext) : null;
+            return format != null ? format : defaultFormat();
+        }
+
+        /**
+         * Resolves the codec for a file: a built-in format, then a contributed
+         * codec for the extension, then the default format.
+         */
+        static ConfigFormatCodec codecFor(File file) {
+            String ext = extensionOf(file);
+            if (ext != null && fromExtension(ext) == null) {
+                ConfigFormatCodec codec = FormatCodecs.forExtension(ext);
+                if (codec != null) {
+                    return codec;
+                }
+            }
+            return fromFile(file);
+        }
+
+        private static String extensionOf(File file) {
             if (file == null) {
-                return defaultFormat();
+                return null;
             }
             String name = file.getName().toLowerCase(Locale.ROOT);
             int dot = name.lastIndexOf('.');
             if (dot <= 0 || dot == name.length() - 1) {
-                return defaultFormat();
+                return null;
             }
-            String ext = name.substring(dot + 1);
-            ConfigFormat format = fromExtension(ext);
-            return format != null ? format : defaultFormat();
+            return name.substring(dot + 1);
         }
 
         static ConfigFormat fromExtension(String extension) {
@@ -2795,8 +4016,14 @@ public class ConfigManager {
             return null;
         }
 
+        @Override
+        public Set<String> extensions() {
+            return extensions;
+        }
+
         boolean isAvailable() {
-            return requiredClass == null || isClassPresent(resolveJacksonClass(requiredClass));
+            return requiredClass == null || FormatCodecs.forFormat(this) != null
+                    || isClassPresent(resolveJacksonClass(requiredClass));
         }
 
         String unavailableMessage() {
@@ -2806,16 +4033,18 @@ public class ConfigManager {
             return displayName + " support is not available (missing " + dependency + ").";
         }
 
-        Map<String, Object> read(File file) throws IOException {
-            if (file == null || !file.exists() || file.length() == 0) {
+        @Override
+        public Map<String, Object> read(byte[] content) throws IOException {
+            if (content.length == 0) {
                 return new LinkedHashMap<>();
             }
-            Map<String, Object> map = mapper().readValue(file, new TypeReference<>() {});
+            Map<String, Object> map = mapper().readValue(content, new TypeReference<>() {});
             return map == null ? new LinkedHashMap<>() : ConfigDocument.castMap(map);
         }
 
-        void write(File file, Map<String, Object> data, List<String> header,
-                   Map<String, List<String>> comments) throws IOException {
+        @Override
+        public void write(File file, Map<String, Object> data, List<String> header,
+                          Map<String, List<String>> comments) throws IOException {
             ensureParentDirectory(file);
             if (this == YAML) {
                 ConfigDocument.writeYamlWithComments(file, data, header, comments);
@@ -2833,7 +4062,8 @@ public class ConfigManager {
             writer.writeValue(file, data);
         }
 
-        private ObjectMapper mapper() {
+        @Override
+        public ObjectMapper mapper() {
             ObjectMapper local = mapper;
             if (local != null) {
                 return local;
@@ -2845,7 +4075,8 @@ public class ConfigManager {
                 local = mapper;
                 if (local == null) {
                     try {
-                        local = mapperSupplier.get();
+                        ConfigFormatCodec codec = FormatCodecs.forFormat(this);
+                        local = codec != null ? codec.mapper() : mapperSupplier.get();
                     } catch (RuntimeException | LinkageError e) {
                         throw new IllegalStateException(initFailedMessage(), e);
                     }
@@ -2976,6 +4207,66 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Codecs contributed through {@link ConfigFormatCodec} service files,
+     * discovered once on first use. The first codec to claim an extension
+     * wins; a provider that fails to load (typically because its format
+     * library is missing) is skipped.
+     */
+    private static final class FormatCodecs {
+        private static final Map<String, ConfigFormatCodec> BY_EXTENSION = new LinkedHashMap<>();
+        private static final List<String> SUPPORTED;
+
+        static {
+            try {
+                ServiceLoader<ConfigFormatCodec> loader =
+                        ServiceLoader.load(ConfigFormatCodec.class, ConfigManager.class.getClassLoader());
+                for (ServiceLoader.Provider<ConfigFormatCodec> provider : loader.stream().toList()) {
+                    try {
+                        ConfigFormatCodec codec = provider.get();
+                        for (String extension : codec.extensions()) {
+                            BY_EXTENSION.putIfAbsent(extension.toLowerCase(Locale.ROOT), codec);
+                        }
+                    } catch (ServiceConfigurationError | LinkageError ignored) {
+                    }
+                }
+            } catch (ServiceConfigurationError ignored) {
+            }
+            List<String> supported = new ArrayList<>(SUPPORTED_EXTENSIONS);
+            for (String extension : BY_EXTENSION.keySet()) {
+                if (!supported.contains(extension)) {
+                    supported.add(extension);
+                }
+            }
+            SUPPORTED = List.copyOf(supported);
+        }
+
+        private FormatCodecs() {
+        }
+
+        static ConfigFormatCodec forExtension(String extension) {
+            return BY_EXTENSION.get(extension);
+        }
+
+        static ConfigFormatCodec forFormat(ConfigFormat format) {
+            for (String extension : format.extensions) {
+                ConfigFormatCodec codec = BY_EXTENSION.get(extension);
+                if (codec != null) {
+                    return codec;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Built-in extensions in negotiation priority order, followed by the
+         * extensions only contributed codecs handle.
+         */
+        static List<String> supportedExtensions() {
+            return SUPPORTED;
+        }
+    }
+
     /**
      * Lightweight view over a configuration section (backed by a map).
      */
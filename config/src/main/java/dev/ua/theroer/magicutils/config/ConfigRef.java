@@ -0,0 +1,64 @@
+package dev.ua.theroer.magicutils.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Handle to a config registered in snapshot mode.
+ *
+ * <p>Each reload builds a fresh, fully loaded instance and publishes it here
+ * in a single volatile write, so {@link #get()} never blocks and never sees a
+ * half-applied reload. Instances handed out by {@link #get()} are treated as
+ * immutable snapshots: keep the reference for as long as a consistent view is
+ * needed and call {@link #get()} again to pick up later reloads.</p>
+ *
+ * @param <T> config type
+ * @see ConfigManager#registerSnapshot(Class)
+ */
+public final class ConfigRef<T> implements Supplier<T> {
+    private final Class<T> type;
+    private volatile T value;
+    private volatile long version;
+
+    ConfigRef(Class<T> type, T initial) {
+        this.type = type;
+        this.value = initial;
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return latest published config instance
+     */
+    @Override
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Returns the config class this reference was registered for.
+     *
+     * @return config type
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Number of snapshots published since registration; {@code 0} for the
+     * initially loaded instance.
+     *
+     * @return publication counter
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Publishes a new snapshot. Called by the manager with the entry monitor
+     * held, so writers never race each other.
+     */
+    void publish(T snapshot) {
+        version++;
+        value = snapshot;
+    }
+}
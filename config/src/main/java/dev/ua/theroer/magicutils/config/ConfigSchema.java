@@ -0,0 +1,700 @@
+package dev.ua.theroer.magicutils.config;
+
+import dev.ua.theroer.magicutils.config.annotations.Comment;
+import dev.ua.theroer.magicutils.config.annotations.ConfigSection;
+import dev.ua.theroer.magicutils.config.annotations.ConfigSerializable;
+import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
+import dev.ua.theroer.magicutils.config.annotations.DefaultValue;
+import dev.ua.theroer.magicutils.config.annotations.DefaultValueProvider;
+import dev.ua.theroer.magicutils.config.annotations.ListItemProcessor;
+import dev.ua.theroer.magicutils.config.annotations.ListProcessor;
+import dev.ua.theroer.magicutils.config.annotations.MaxValue;
+import dev.ua.theroer.magicutils.config.annotations.MinValue;
+import dev.ua.theroer.magicutils.config.annotations.NoDefaultValueProvider;
+import dev.ua.theroer.magicutils.config.annotations.SaveTo;
+import dev.ua.theroer.magicutils.config.serialization.ConfigAdapters;
+import dev.ua.theroer.magicutils.config.serialization.ConfigValueAdapter;
+import dev.ua.theroer.magicutils.platform.PlatformLogger;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable description of how one class maps onto a config document.
+ *
+ * <p>Built once per class on first use and cached in a {@link ClassValue}.
+ * Everything the load/save paths used to re-derive from reflection on every
+ * call is resolved here: field order and accessors, dotted paths (pre-split
+ * into segments), comments, defaults, generic element types, value adapters
+ * and {@link MinValue}/{@link MaxValue} bounds. Hot reloads then only walk the
+ * descriptor list.</p>
+ */
+final class ConfigSchema {
+    private static final ClassValue<ConfigSchema> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected ConfigSchema computeValue(Class<?> type) {
+            return new ConfigSchema(type);
+        }
+    };
+
+    private static final AdapterSlot NO_ADAPTER = new AdapterSlot(null);
+
+    private final Class<?> type;
+    private final List<String> header;
+    private final List<FieldSpec> fields;
+    private volatile List<FieldSpec> serializableFields;
+    private volatile PathIndex pathIndex;
+    private volatile Checks checks;
+
+    private ConfigSchema(Class<?> type) {
+        this.type = type;
+        Comment classComment = type.getAnnotation(Comment.class);
+        this.header = classComment != null ? List.of(classComment.value().split("\n")) : null;
+        List<FieldSpec> resolved = new ArrayList<>();
+        for (ConfigFieldAccess.BoundField bound : ConfigFieldAccess.fields(type)) {
+            resolved.add(FieldSpec.configField(bound));
+        }
+        this.fields = Collections.unmodifiableList(resolved);
+    }
+
+    /**
+     * Returns the cached schema of a class.
+     *
+     * @param type config or serializable class
+     * @return schema, built on first request
+     */
+    static ConfigSchema of(Class<?> type) {
+        return SCHEMAS.get(type);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Header lines from the class-level {@link Comment}, or null.
+     */
+    List<String> header() {
+        return header;
+    }
+
+    /**
+     * {@code @ConfigValue}/{@code @ConfigSection} fields, superclass fields
+     * first, in declaration order.
+     */
+    List<FieldSpec> fields() {
+        return fields;
+    }
+
+    /**
+     * Every non-transient field of the class hierarchy, keyed the way
+     * {@link ConfigSerializer} writes them. Resolved lazily because most
+     * config classes are never passed through the serializer.
+     */
+    List<FieldSpec> serializableFields() {
+        List<FieldSpec> current = serializableFields;
+        if (current == null) {
+            current = resolveSerializableFields(type);
+            serializableFields = current;
+        }
+        return current;
+    }
+
+    /**
+     * Field declared at exactly {@code path}, or null.
+     */
+    FieldSpec fieldAt(String path) {
+        return pathIndex().fields.get(path);
+    }
+
+    /**
+     * Whether some field path continues below {@code path}, i.e. a nested
+     * object at {@code path} may hold config values.
+     */
+    boolean hasFieldsUnder(String path) {
+        return pathIndex().prefixes.contains(path);
+    }
+
+    private PathIndex pathIndex() {
+        PathIndex current = pathIndex;
+        if (current == null) {
+            Map<String, FieldSpec> byPath = new HashMap<>();
+            Set<String> prefixes = new HashSet<>();
+            for (FieldSpec spec : fields) {
+                byPath.putIfAbsent(spec.path(), spec);
+                String[] segments = spec.segments();
+                StringBuilder prefix = new StringBuilder();
+                for (int i = 0; i < segments.length - 1; i++) {
+                    if (i > 0) {
+                        prefix.append('.');
+                    }
+                    prefix.append(segments[i]);
+                    prefixes.add(prefix.toString());
+                }
+            }
+            current = new PathIndex(byPath, prefixes);
+            pathIndex = current;
+        }
+        return current;
+    }
+
+    private record PathIndex(Map<String, FieldSpec> fields, Set<String> prefixes) {
+    }
+
+    /**
+     * Checks an instance that is not tied to a loaded document; a required
+     * field counts as missing when its value is {@code null}.
+     *
+     * @param instance config instance
+     * @param logger logger for clamp warnings
+     * @param clamp clamp out-of-range values in place instead of reporting them
+     * @return violations with paths relative to the instance, empty when valid
+     */
+    List<ConfigViolation> validate(Object instance, PlatformLogger logger, boolean clamp)
+            throws IllegalAccessException {
+        return validate(instance, logger, clamp, null);
+    }
+
+    /**
+     * Checks required fields and {@link MinValue}/{@link MaxValue} bounds of
+     * an instance and its sections in one pass, collecting every violation.
+     * Only fields that carry a check are visited; the list is compiled on
+     * first use.
+     *
+     * <p>Whether a required field is present is a property of the document,
+     * not of the bound value: a primitive never reads back as {@code null},
+     * and a constructor default would hide a missing key. The loader
+     * therefore passes the paths it found no value for.</p>
+     *
+     * @param instance loaded instance
+     * @param logger logger for clamp warnings
+     * @param clamp clamp out-of-range values in place (warning as the bound
+     *              annotation asks) instead of reporting them
+     * @param missingRequired paths of required fields the document had no
+     *                        value for, or {@code null} to treat {@code null}
+     *                        values as missing
+     * @return violations with paths relative to the instance, empty when valid
+     */
+    List<ConfigViolation> validate(Object instance, PlatformLogger logger, boolean clamp,
+                                   Set<String> missingRequired) throws IllegalAccessException {
+        List<ConfigViolation> violations = new ArrayList<>();
+        validate(instance, "", logger, clamp, missingRequired, violations);
+        return violations;
+    }
+
+    /**
+     * Adds the path of every required field of this schema and its sections,
+     * prefixed with {@code prefix}; used when a whole section is absent.
+     *
+     * @param prefix path prefix of this schema's instance
+     * @param target set receiving the paths
+     */
+    void collectRequired(String prefix, Set<String> target) {
+        Checks current = checks();
+        for (FieldSpec spec : current.checked) {
+            if (spec.required()) {
+                target.add(prefix + spec.path());
+            }
+        }
+        for (FieldSpec spec : current.sections) {
+            of(spec.type()).collectRequired(prefix + spec.path() + ".", target);
+        }
+    }
+
+    private void validate(Object instance, String prefix, PlatformLogger logger, boolean clamp,
+                          Set<String> missingRequired, List<ConfigViolation> violations)
+            throws IllegalAccessException {
+        Checks current = checks();
+        for (FieldSpec spec : current.checked) {
+            Object value = spec.get(instance);
+            String path = prefix + spec.path();
+            if (spec.required() && (missingRequired != null ? missingRequired.contains(path) : value == null)) {
+                violations.add(new ConfigViolation(path, value, "Required config value missing"));
+                continue;
+            }
+            if (value == null || spec.bounds() == null) {
+                continue;
+            }
+            if (clamp) {
+                Object clamped = spec.bounds().apply(logger, value);
+                if (clamped != value) {
+                    spec.set(instance, clamped);
+                }
+                continue;
+            }
+            String message = spec.bounds().check(value);
+            if (message != null) {
+                violations.add(new ConfigViolation(path, value, message));
+            }
+        }
+        for (FieldSpec spec : current.sections) {
+            Object section = spec.get(instance);
+            if (section != null) {
+                of(spec.type()).validate(section, prefix + spec.path() + ".", logger, clamp, missingRequired,
+                        violations);
+            }
+        }
+    }
+
+    private Checks checks() {
+        Checks current = checks;
+        if (current == null) {
+            List<FieldSpec> checked = new ArrayList<>();
+            List<FieldSpec> sections = new ArrayList<>();
+            for (FieldSpec spec : fields) {
+                if (spec.section()) {
+                    if (!of(spec.type()).checks().isEmpty()) {
+                        sections.add(spec);
+                    }
+                } else if (spec.required() || spec.bounds() != null) {
+                    checked.add(spec);
+                }
+            }
+            current = new Checks(List.copyOf(checked), List.copyOf(sections));
+            checks = current;
+        }
+        return current;
+    }
+
+    private record Checks(List<FieldSpec> checked, List<FieldSpec> sections) {
+
+        boolean isEmpty() {
+            return checked.isEmpty() && sections.isEmpty();
+        }
+    }
+
+    private static List<FieldSpec> resolveSerializableFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+
+        List<FieldSpec> resolved = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                resolved.add(FieldSpec.serializableField(ConfigFieldAccess.bind(field)));
+            }
+        }
+        return Collections.unmodifiableList(resolved);
+    }
+
+    static List<String> commentLines(Comment comment) {
+        if (comment == null || comment.value().isEmpty()) {
+            return null;
+        }
+        return List.of(comment.value().split("\n"));
+    }
+
+    static Class<?> resolveRawClass(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterizedType && parameterizedType.getRawType() instanceof Class<?> rawClass) {
+            return rawClass;
+        }
+        return null;
+    }
+
+    private static Class<?> typeArgument(Field field, int index) {
+        if (field.getGenericType() instanceof ParameterizedType parameterizedType) {
+            Type[] typeArgs = parameterizedType.getActualTypeArguments();
+            if (typeArgs.length > index) {
+                return resolveRawClass(typeArgs[index]);
+            }
+        }
+        return null;
+    }
+
+    static AdapterSlot adapterSlot(Class<?> type) {
+        return type != null ? new AdapterSlot(type) : NO_ADAPTER;
+    }
+
+    private static boolean isSerializable(Class<?> type) {
+        return type != null && type.isAnnotationPresent(ConfigSerializable.class);
+    }
+
+    /**
+     * Resolved metadata of one field.
+     *
+     * @param bound field with its accessor
+     * @param path dotted document path (relative to the owning section)
+     * @param segments {@code path} split on dots
+     * @param section whether the field is a {@code @ConfigSection}
+     * @param saveTo external file path from {@link SaveTo}, or null
+     * @param comment comment lines, or null
+     * @param required whether a missing value fails the load
+     * @param serializable whether the field type is {@code @ConfigSerializable}
+     * @param elementType list element type, or null
+     * @param keyType map key type ({@code String} when unresolved)
+     * @param valueType map value type, or null
+     * @param elementSerializable whether the element type is {@code @ConfigSerializable}
+     * @param valueSerializable whether the map value type is {@code @ConfigSerializable}
+     * @param adapter adapter for the field type
+     * @param elementAdapter adapter for list elements
+     * @param keyAdapter adapter for non-string map keys
+     * @param valueAdapter adapter for map values
+     * @param listProcessor {@link ListProcessor} implementation, or null
+     * @param defaults {@link DefaultValue} source
+     * @param primitiveDefault zero value for primitive fields, null otherwise
+     * @param bounds numeric bounds, or null when unbounded
+     */
+    record FieldSpec(ConfigFieldAccess.BoundField bound,
+                     String path,
+                     String[] segments,
+                     boolean section,
+                     String saveTo,
+                     List<String> comment,
+                     boolean required,
+                     boolean serializable,
+                     Class<?> elementType,
+                     Class<?> keyType,
+                     Class<?> valueType,
+                     boolean elementSerializable,
+                     boolean valueSerializable,
+                     AdapterSlot adapter,
+                     AdapterSlot elementAdapter,
+                     AdapterSlot keyAdapter,
+                     AdapterSlot valueAdapter,
+                     Class<? extends ListItemProcessor<?>> listProcessor,
+                     DefaultSource defaults,
+                     Object primitiveDefault,
+                     NumericBounds bounds) {
+
+        private static FieldSpec configField(ConfigFieldAccess.BoundField bound) {
+            Field field = bound.field();
+            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
+            ConfigSection configSection = field.getAnnotation(ConfigSection.class);
+            String path = field.getName();
+            if (configValue != null && !configValue.value().isEmpty()) {
+                path = configValue.value();
+            } else if (configSection != null && !configSection.value().isEmpty()) {
+                path = configSection.value();
+            }
+            SaveTo saveTo = field.getAnnotation(SaveTo.class);
+            ListProcessor listProcessor = field.getAnnotation(ListProcessor.class);
+            return create(bound, path,
+                    configSection != null,
+                    saveTo != null ? saveTo.value() : null,
+                    commentLines(field.getAnnotation(Comment.class)),
+                    configSection == null && configValue != null && configValue.required(),
+                    listProcessor != null ? listProcessor.value() : null);
+        }
+
+        private static FieldSpec serializableField(ConfigFieldAccess.BoundField bound) {
+            Field field = bound.field();
+            ConfigValue configValue = field.getAnnotation(ConfigValue.class);
+            String key = configValue != null && !configValue.value().isEmpty() ? configValue.value() : field.getName();
+            return create(bound, key, false, null, null, false, null);
+        }
+
+        private static FieldSpec create(ConfigFieldAccess.BoundField bound, String path, boolean section,
+                                        String saveTo, List<String> comment, boolean required,
+                                        Class<? extends ListItemProcessor<?>> listProcessor) {
+            Field field = bound.field();
+            Class<?> fieldType = field.getType();
+            Class<?> elementType = null;
+            Class<?> keyType = String.class;
+            Class<?> valueType = null;
+            if (List.class.isAssignableFrom(fieldType)) {
+                elementType = typeArgument(field, 0);
+            } else if (Map.class.isAssignableFrom(fieldType)) {
+                Class<?> resolvedKeyType = typeArgument(field, 0);
+                if (resolvedKeyType != null) {
+                    keyType = resolvedKeyType;
+                }
+                valueType = typeArgument(field, 1);
+            }
+            return new FieldSpec(bound, path, path.split("\\."), section, saveTo, comment, required,
+                    isSerializable(fieldType),
+                    elementType, keyType, valueType,
+                    isSerializable(elementType), isSerializable(valueType),
+                    adapterSlot(fieldType), adapterSlot(elementType),
+                    keyType == String.class ? NO_ADAPTER : adapterSlot(keyType),
+                    adapterSlot(valueType),
+                    listProcessor,
+                    new DefaultSource(field.getAnnotation(DefaultValue.class), fieldType),
+                    zeroValue(fieldType),
+                    NumericBounds.of(field));
+        }
+
+        Field field() {
+            return bound.field();
+        }
+
+        Class<?> type() {
+            return bound.field().getType();
+        }
+
+        String name() {
+            return bound.field().getName();
+        }
+
+        Object get(Object instance) throws IllegalAccessException {
+            return bound.get(instance);
+        }
+
+        void set(Object instance, Object value) throws IllegalAccessException {
+            bound.set(instance, value);
+        }
+
+        /**
+         * Value from {@link DefaultValue}, or null when the field has none.
+         */
+        Object defaultValue() throws Exception {
+            return defaults.get();
+        }
+
+        /**
+         * Default value falling back to the primitive zero value.
+         */
+        Object defaultOrZero() throws Exception {
+            Object value = defaults.get();
+            return value != null ? value : primitiveDefault;
+        }
+
+        /**
+         * Clamps a numeric value to the field's bounds; other values pass through.
+         */
+        Object clamp(PlatformLogger logger, Object value) {
+            return bounds != null ? bounds.apply(logger, value) : value;
+        }
+    }
+
+    /**
+     * Adapter lookup for one type, cached until {@link ConfigAdapters}
+     * registrations change.
+     */
+    static final class AdapterSlot {
+        private final Class<?> type;
+        private volatile Resolved resolved;
+
+        private AdapterSlot(Class<?> type) {
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        ConfigValueAdapter<Object> get() {
+            if (type == null) {
+                return null;
+            }
+            int revision = ConfigAdapters.revision();
+            Resolved current = resolved;
+            if (current == null || current.revision != revision) {
+                current = new Resolved(revision, (ConfigValueAdapter<Object>) ConfigAdapters.get(type));
+                resolved = current;
+            }
+            return current.adapter;
+        }
+
+        private record Resolved(int revision, ConfigValueAdapter<Object> adapter) {
+        }
+    }
+
+    /**
+     * Source of a field's {@link DefaultValue}: a provider (instantiated per
+     * call, since providers may hand out mutable values) or a literal parsed
+     * against the field type.
+     */
+    static final class DefaultSource {
+        private final Class<? extends DefaultValueProvider<?>> providerType;
+        private final String literal;
+        private final Class<?> type;
+        private volatile Constructor<? extends DefaultValueProvider<?>> provider;
+
+        private DefaultSource(DefaultValue annotation, Class<?> type) {
+            this.type = type;
+            if (annotation == null) {
+                this.providerType = null;
+                this.literal = null;
+            } else if (annotation.provider() != NoDefaultValueProvider.class) {
+                this.providerType = annotation.provider();
+                this.literal = null;
+            } else {
+                this.providerType = null;
+                this.literal = annotation.value().isEmpty() ? null : annotation.value();
+            }
+        }
+
+        boolean hasProvider() {
+            return providerType != null;
+        }
+
+        Object get() throws Exception {
+            if (providerType != null) {
+                return provider().newInstance().provide();
+            }
+            return literal != null ? parseLiteral(literal, type) : null;
+        }
+
+        private Constructor<? extends DefaultValueProvider<?>> provider() throws NoSuchMethodException {
+            Constructor<? extends DefaultValueProvider<?>> current = provider;
+            if (current == null) {
+                current = providerType.getDeclaredConstructor();
+                provider = current;
+            }
+            return current;
+        }
+
+        private static Object parseLiteral(String value, Class<?> type) {
+            if (type == String.class)
+                return value;
+            if (type == int.class || type == Integer.class)
+                return Integer.parseInt(value);
+            if (type == long.class || type == Long.class)
+                return Long.parseLong(value);
+            if (type == boolean.class || type == Boolean.class)
+                return Boolean.parseBoolean(value);
+            if (type == double.class || type == Double.class)
+                return Double.parseDouble(value);
+            if (type == float.class || type == Float.class)
+                return Float.parseFloat(value);
+            return value;
+        }
+    }
+
+    /**
+     * {@link MinValue}/{@link MaxValue} bounds of a numeric field.
+     *
+     * @param name field name used in warnings
+     * @param type numeric field type
+     * @param min lower bound, or null
+     * @param max upper bound, or null
+     */
+    record NumericBounds(String name, Class<?> type, MinValue min, MaxValue max) {
+
+        private static NumericBounds of(Field field) {
+            if (!isNumericType(field.getType())) {
+                return null;
+            }
+            MinValue min = field.getAnnotation(MinValue.class);
+            MaxValue max = field.getAnnotation(MaxValue.class);
+            if (min == null && max == null) {
+                return null;
+            }
+            return new NumericBounds(field.getName(), field.getType(), min, max);
+        }
+
+        /**
+         * Clamps a value into range, converting back to the field type.
+         *
+         * @param logger logger for clamp warnings
+         * @param value loaded value
+         * @return clamped value, or {@code value} when in range
+         */
+        Object apply(PlatformLogger logger, Object value) {
+            if (!(value instanceof Number number)) {
+                return value;
+            }
+
+            double numValue = number.doubleValue();
+            double original = numValue;
+            boolean clamped = false;
+
+            if (min != null && numValue < min.value()) {
+                numValue = min.value();
+                clamped = true;
+                if (min.warn()) {
+                    logger.warn(String.format(
+                        "Config value for field '%s' (%s) is below minimum (%s). Clamped to %s.",
+                        name, original, min.value(), numValue
+                    ));
+                }
+            }
+
+            if (max != null && numValue > max.value()) {
+                numValue = max.value();
+                clamped = true;
+                if (max.warn()) {
+                    logger.warn(String.format(
+                        "Config value for field '%s' (%s) exceeds maximum (%s). Clamped to %s.",
+                        name, original, max.value(), numValue
+                    ));
+                }
+            }
+
+            if (!clamped) {
+                return value;
+            }
+
+            // Convert back to the original type
+            if (type == int.class || type == Integer.class) {
+                return (int) numValue;
+            } else if (type == long.class || type == Long.class) {
+                return (long) numValue;
+            } else if (type == double.class || type == Double.class) {
+                return numValue;
+            } else if (type == float.class || type == Float.class) {
+                return (float) numValue;
+            } else if (type == byte.class || type == Byte.class) {
+                return (byte) numValue;
+            } else if (type == short.class || type == Short.class) {
+                return (short) numValue;
+            }
+
+            return value;
+        }
+
+        /**
+         * Describes why a value is out of range.
+         *
+         * @param value loaded value
+         * @return violation message, or null when in range or not numeric
+         */
+        String check(Object value) {
+            if (!(value instanceof Number number)) {
+                return null;
+            }
+            double numValue = number.doubleValue();
+            if (min != null && numValue < min.value()) {
+                return "Value is below minimum (" + min.value() + ")";
+            }
+            if (max != null && numValue > max.value()) {
+                return "Value exceeds maximum (" + max.value() + ")";
+            }
+            return null;
+        }
+
+        private static boolean isNumericType(Class<?> type) {
+            return type == int.class || type == Integer.class ||
+                    type == long.class || type == Long.class ||
+                    type == double.class || type == Double.class ||
+                    type == float.class || type == Float.class ||
+                    type == byte.class || type == Byte.class ||
+                    type == short.class || type == Short.class;
+        }
+    }
+
+    private static Object zeroValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == short.class)
+            return (short) 0;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        if (type == float.class)
+            return 0F;
+        if (type == double.class)
+            return 0D;
+        if (type == char.class)
+            return '\0';
+        return null;
+    }
+}
@@ -1,22 +1,36 @@
 package dev.ua.theroer.magicutils.config;
 
 import dev.ua.theroer.magicutils.config.annotations.ConfigSerializable;
-import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
-import dev.ua.theroer.magicutils.config.annotations.MinValue;
-import dev.ua.theroer.magicutils.config.annotations.MaxValue;
 import dev.ua.theroer.magicutils.config.serialization.ConfigAdapters;
 import dev.ua.theroer.magicutils.config.serialization.ConfigValueAdapter;
 import dev.ua.theroer.magicutils.platform.PlatformLogger;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
+import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles serialization and deserialization of complex config objects.
+ *
+ * <p>Everything derived from a class (the {@link ConfigSerializable} flag,
+ * the security check, field accessors, the no-arg constructor and adapter
+ * lookup) is resolved once into a cached {@link Plan}, so lists and maps of
+ * serializable objects only pay for the per-element work.</p>
+ *
+ * <p>Plans for classes that outlive the library (JDK types such as
+ * {@code String} or {@code UUID}, or anything from a parent class loader) are
+ * kept in a map owned by this class rather than in the {@link ClassValue}: a
+ * {@code ClassValue} entry on such a class would pin the plugin class loader
+ * that defined {@link Plan} after the plugin is unloaded.</p>
  */
 public class ConfigSerializer {
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return new Plan(type);
+        }
+    };
+    private static final Map<Class<?>, Plan> SHARED_PLANS = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -32,23 +46,16 @@ public class ConfigSerializer {
     public static Map<String, Object> serialize(Object obj) {
         if (obj == null)
             return null;
+        return serialize(obj, plan(obj.getClass()));
+    }
 
-        Map<String, Object> result = new LinkedHashMap<>();
-        Class<?> clazz = obj.getClass();
-
-        // Check if class is serializable
-        ConfigSerializable serializable = clazz.getAnnotation(ConfigSerializable.class);
-        boolean includeNulls = serializable != null && serializable.includeNulls();
-
-        // Process all fields
-        for (Field field : getSerializableFields(clazz)) {
-            field.setAccessible(true);
-
-            // Skip transient fields
-            if (Modifier.isTransient(field.getModifiers())) {
-                continue;
-            }
+    private static Map<String, Object> serialize(Object obj, Plan plan) {
+        ConfigSchema.FieldSpec[] fields = plan.fields();
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(4, (int) (fields.length / 0.75f) + 1));
+        boolean includeNulls = plan.includeNulls;
 
+        // Process all non-transient fields
+        for (ConfigSchema.FieldSpec field : fields) {
             try {
                 Object value = field.get(obj);
 
@@ -56,7 +63,7 @@ public class ConfigSerializer {
                 if (value == null && !includeNulls)
                     continue;
 
-                String key = resolveKey(field);
+                String key = field.path();
 
                 // Handle different types
                 if (value == null) {
@@ -64,21 +71,17 @@ public class ConfigSerializer {
                 } else if (isPrimitiveOrWrapper(value.getClass()) || value instanceof String) {
                     result.put(key, value);
                 } else if (value instanceof List) {
-                    Class<?> elementType = extractListElementType(field);
-                    result.put(key, serializeList((List<?>) value, elementType));
+                    result.put(key, serializeList((List<?>) value, planOf(field.elementType())));
                 } else if (value instanceof Map) {
-                    Class<?> valueType = extractMapValueType(field);
-                    result.put(key, serializeMap((Map<?, ?>) value, valueType));
-                } else if (value.getClass().isAnnotationPresent(ConfigSerializable.class)) {
-                    result.put(key, serialize(value));
+                    result.put(key, serializeMap((Map<?, ?>) value, planOf(field.valueType())));
+                } else if (plan(value.getClass()).serializable) {
+                    result.put(key, serialize(value, plan(value.getClass())));
                 } else {
-                    ConfigValueAdapter<?> adapter = ConfigAdapters.get(field.getType());
-                    if (adapter == null) {
-                        adapter = ConfigAdapters.get(value.getClass());
+                    ConfigValueAdapter<Object> typed = field.adapter().get();
+                    if (typed == null) {
+                        typed = plan(value.getClass()).adapter.get();
                     }
-                    if (adapter != null) {
-                        @SuppressWarnings("unchecked")
-                        ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+                    if (typed != null) {
                         result.put(key, typed.serialize(value));
                     } else {
                         // Try toString for other types
@@ -104,77 +107,63 @@ public class ConfigSerializer {
      * @return the deserialized object
      * @throws SecurityException if the class is not marked as @ConfigSerializable
      */
-    @SuppressWarnings("unchecked")
     public static <T> T deserialize(PlatformLogger logger, Map<String, Object> data, Class<T> clazz) {
-        // Security check: only allow deserialization of classes marked with @ConfigSerializable
-        if (!clazz.isAnnotationPresent(ConfigSerializable.class)) {
-            throw new SecurityException(
-                "Deserialization is only allowed for classes annotated with @ConfigSerializable. " +
-                "Class '" + clazz.getName() + "' is not marked as serializable."
-            );
-        }
-        
-        // Additional security: check package to prevent deserialization of system classes
-        String packageName = clazz.getPackage() != null ? clazz.getPackage().getName() : "";
-        if (packageName.startsWith("java.") || 
-            packageName.startsWith("javax.") || 
-            packageName.startsWith("sun.") ||
-            packageName.startsWith("com.sun.")) {
-            throw new SecurityException(
-                "Deserialization of system classes is not allowed. " +
-                "Attempted to deserialize: " + clazz.getName()
-            );
+        return deserialize(logger, data, clazz, plan(clazz));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(PlatformLogger logger, Map<String, Object> data, Class<T> clazz, Plan plan) {
+        // Security check, resolved once per class: only @ConfigSerializable
+        // classes outside the system packages may be instantiated.
+        if (plan.rejection != null) {
+            throw new SecurityException(plan.rejection);
         }
-        
-        try {
-            T instance = clazz.getDeclaredConstructor().newInstance();
 
-            for (Field field : getSerializableFields(clazz)) {
-                field.setAccessible(true);
+        try {
+            T instance = (T) plan.constructor().newInstance();
 
-                String key = resolveKey(field);
+            for (ConfigSchema.FieldSpec field : plan.fields()) {
+                String key = field.path();
                 if (!data.containsKey(key))
                     continue;
 
                 Object value = data.get(key);
                 if (value == null) {
-                    if (!field.getType().isPrimitive()) {
+                    if (!field.type().isPrimitive()) {
                         field.set(instance, null);
                     }
                     continue;
                 }
 
                 try {
-                    Class<?> fieldType = field.getType();
+                    Class<?> fieldType = field.type();
                     Object deserializedValue = null;
 
                     // Handle different types
-                    ConfigValueAdapter<?> adapter = ConfigAdapters.get(fieldType);
-                    if (adapter != null) {
-                        ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
+                    ConfigValueAdapter<Object> typed = field.adapter().get();
+                    if (typed != null) {
                         deserializedValue = typed.deserialize(value);
                     } else if (isPrimitiveOrWrapper(fieldType) || fieldType == String.class) {
                         deserializedValue = convertValue(value, fieldType);
                     } else if (List.class.isAssignableFrom(fieldType) && value instanceof List) {
-                        Class<?> elementType = extractListElementType(field);
-                        deserializedValue = deserializeList(logger, (List<?>) value, elementType);
+                        deserializedValue = deserializeList(logger, (List<?>) value, planOf(field.elementType()));
                     } else if (Map.class.isAssignableFrom(fieldType) && value instanceof Map) {
-                        Class<?> valueType = extractMapValueType(field);
-                        deserializedValue = deserializeMap(logger, (Map<?, ?>) value, valueType);
-                    } else if (fieldType.isAnnotationPresent(ConfigSerializable.class) && value instanceof Map) {
+                        deserializedValue = deserializeMap(logger, (Map<?, ?>) value, planOf(field.valueType()));
+                    } else if (field.serializable() && value instanceof Map) {
                         // Recursive deserialization - security check is already in deserialize method
-                        deserializedValue = deserialize(logger, (Map<String, Object>) value, fieldType);
+                        deserializedValue = deserialize(logger, (Map<String, Object>) value, fieldType,
+                                plan(fieldType));
                     }
 
                     // Validate numeric bounds before setting
                     if (deserializedValue != null) {
-                        deserializedValue = validateNumericBounds(logger, field, deserializedValue);
+                        deserializedValue = field.clamp(logger, deserializedValue);
                     }
 
                     field.set(instance, deserializedValue);
                 } catch (ReflectiveOperationException | ClassCastException | IllegalArgumentException e) {
                     if (logger != null) {
-                        logger.warn("Failed to deserialize field '" + field.getName()
+                        logger.warn("Failed to deserialize field '" + field.name()
                                 + "' in " + clazz.getName() + ". Keeping current/default value.", e);
                     }
                 }
@@ -188,27 +177,20 @@ public class ConfigSerializer {
     }
 
     /**
-     * Serializes a list.
+     * Serializes a list. The element adapter is resolved once per list.
      */
-    private static List<Object> serializeList(List<?> list, Class<?> elementType) {
-        List<Object> result = new ArrayList<>();
+    private static List<Object> serializeList(List<?> list, Plan elementPlan) {
+        List<Object> result = new ArrayList<>(list.size());
+        ConfigValueAdapter<Object> adapter = elementPlan != null ? elementPlan.adapter.get() : null;
+        Plan nested = adapter == null && elementPlan != null && elementPlan.serializable ? elementPlan : null;
 
         for (Object item : list) {
             if (item == null) {
                 result.add(null);
-            } else if (elementType != null) {
-                ConfigValueAdapter<?> adapter = ConfigAdapters.get(elementType);
-                if (adapter != null) {
-                    @SuppressWarnings("unchecked")
-                    ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
-                    result.add(typed.serialize(item));
-                } else if (elementType.isAnnotationPresent(ConfigSerializable.class)
-                        && elementType.isInstance(item)
-                        && !(item instanceof Map)) {
-                    result.add(serialize(item));
-                } else {
-                    result.add(serializeDynamic(item));
-                }
+            } else if (adapter != null) {
+                result.add(adapter.serialize(item));
+            } else if (nested != null && nested.type.isInstance(item) && !(item instanceof Map)) {
+                result.add(serialize(item, item.getClass() == nested.type ? nested : plan(item.getClass())));
             } else {
                 result.add(serializeDynamic(item));
             }
@@ -221,24 +203,26 @@ public class ConfigSerializer {
      * Deserializes a list.
      */
     @SuppressWarnings("unchecked")
-    private static <T> List<T> deserializeList(PlatformLogger logger, List<?> data, Class<T> elementType) {
-        List<T> result = new ArrayList<>();
+    private static List<Object> deserializeList(PlatformLogger logger, List<?> data, Plan elementPlan) {
+        List<Object> result = new ArrayList<>(data.size());
 
-        ConfigValueAdapter<?> adapter = elementType != null ? ConfigAdapters.get(elementType) : null;
+        ConfigValueAdapter<Object> adapter = elementPlan != null ? elementPlan.adapter.get() : null;
+        Class<?> elementType = elementPlan != null ? elementPlan.type : null;
+        boolean scalar = elementType != null && (isPrimitiveOrWrapper(elementType) || elementType == String.class);
+        boolean nested = elementPlan != null && elementPlan.serializable;
 
         for (Object item : data) {
             if (item == null) {
                 result.add(null);
             } else if (adapter != null) {
-                ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
-                result.add((T) typed.deserialize(item));
-            } else if (elementType != null && (isPrimitiveOrWrapper(elementType) || elementType == String.class)) {
-                result.add((T) convertValue(item, elementType));
-            } else if (elementType != null && elementType.isAnnotationPresent(ConfigSerializable.class) && item instanceof Map) {
+                result.add(adapter.deserialize(item));
+            } else if (scalar) {
+                result.add(convertValue(item, elementType));
+            } else if (nested && item instanceof Map) {
                 // Recursive deserialization - security check is already in deserialize method
-                result.add(deserialize(logger, (Map<String, Object>) item, elementType));
+                result.add(deserialize(logger, (Map<String, Object>) item, elementType, elementPlan));
             } else {
-                result.add((T) item);
+                result.add(item);
             }
         }
 
@@ -246,10 +230,12 @@ public class ConfigSerializer {
     }
 
     /**
-     * Serializes a map.
+     * Serializes a map. The value adapter is resolved once per map.
      */
-    private static Map<String, Object> serializeMap(Map<?, ?> map, Class<?> valueType) {
-        Map<String, Object> result = new LinkedHashMap<>();
+    private static Map<String, Object> serializeMap(Map<?, ?> map, Plan valuePlan) {
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(4, (int) (map.size() / 0.75f) + 1));
+        ConfigValueAdapter<Object> adapter = valuePlan != null ? valuePlan.adapter.get() : null;
+        Plan nested = adapter == null && valuePlan != null && valuePlan.serializable ? valuePlan : null;
 
         for (Map.Entry<?, ?> entry : map.entrySet()) {
             String key = entry.getKey().toString();
@@ -257,19 +243,10 @@ public class ConfigSerializer {
 
             if (value == null) {
                 result.put(key, null);
-            } else if (valueType != null) {
-                ConfigValueAdapter<?> adapter = ConfigAdapters.get(valueType);
-                if (adapter != null) {
-                    @SuppressWarnings("unchecked")
-                    ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
-                    result.put(key, typed.serialize(value));
-                } else if (valueType.isAnnotationPresent(ConfigSerializable.class)
-                        && valueType.isInstance(value)
-                        && !(value instanceof Map)) {
-                    result.put(key, serialize(value));
-                } else {
-                    result.put(key, serializeDynamic(value));
-                }
+            } else if (adapter != null) {
+                result.put(key, adapter.serialize(value));
+            } else if (nested != null && nested.type.isInstance(value) && !(value instanceof Map)) {
+                result.put(key, serialize(value, value.getClass() == nested.type ? nested : plan(value.getClass())));
             } else {
                 result.put(key, serializeDynamic(value));
             }
@@ -289,60 +266,27 @@ public class ConfigSerializer {
         if (value instanceof Map) {
             return serializeMap((Map<?, ?>) value, null);
         }
-        if (value.getClass().isAnnotationPresent(ConfigSerializable.class)) {
-            return serialize(value);
+        Plan plan = plan(value.getClass());
+        if (plan.serializable) {
+            return serialize(value, plan);
         }
-        ConfigValueAdapter<?> adapter = ConfigAdapters.get(value.getClass());
+        ConfigValueAdapter<Object> adapter = plan.adapter.get();
         if (adapter != null) {
-            @SuppressWarnings("unchecked")
-            ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
-            return typed.serialize(value);
+            return adapter.serialize(value);
         }
         return value.toString();
     }
 
-    private static Class<?> extractListElementType(Field field) {
-        if (field == null) return null;
-        if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) return null;
-        Type arg = parameterizedType.getActualTypeArguments()[0];
-        if (arg instanceof Class<?> cls) {
-            return cls;
-        }
-        if (arg instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> raw) {
-            return raw;
-        }
-        return null;
-    }
-
-    private static Class<?> extractMapValueType(Field field) {
-        if (field == null) return null;
-        if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) return null;
-        Type arg = parameterizedType.getActualTypeArguments()[1];
-        if (arg instanceof Class<?> cls) {
-            return cls;
-        }
-        if (arg instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> raw) {
-            return raw;
-        }
-        return null;
-    }
-
-    private static String resolveKey(Field field) {
-        ConfigValue cv = field.getAnnotation(ConfigValue.class);
-        if (cv != null && !cv.value().isEmpty()) {
-            return cv.value();
-        }
-        return field.getName();
-    }
-
     /**
      * Deserializes a map using adapters/serializable types for values.
      */
     @SuppressWarnings("unchecked")
-    private static Map<String, Object> deserializeMap(PlatformLogger logger, Map<?, ?> data, Class<?> valueType) {
-        Map<String, Object> result = new LinkedHashMap<>();
+    private static Map<String, Object> deserializeMap(PlatformLogger logger, Map<?, ?> data, Plan valuePlan) {
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(4, (int) (data.size() / 0.75f) + 1));
 
-        ConfigValueAdapter<?> adapter = valueType != null ? ConfigAdapters.get(valueType) : null;
+        ConfigValueAdapter<Object> adapter = valuePlan != null ? valuePlan.adapter.get() : null;
+        Class<?> valueType = valuePlan != null ? valuePlan.type : null;
+        boolean nested = valuePlan != null && valuePlan.serializable;
 
         for (Map.Entry<?, ?> entry : data.entrySet()) {
             String key = String.valueOf(entry.getKey());
@@ -354,10 +298,9 @@ public class ConfigSerializer {
             }
 
             if (adapter != null) {
-                ConfigValueAdapter<Object> typed = (ConfigValueAdapter<Object>) adapter;
-                result.put(key, typed.deserialize(raw));
-            } else if (valueType != null && valueType.isAnnotationPresent(ConfigSerializable.class) && raw instanceof Map) {
-                result.put(key, deserialize(logger, (Map<String, Object>) raw, valueType));
+                result.put(key, adapter.deserialize(raw));
+            } else if (nested && raw instanceof Map) {
+                result.put(key, deserialize(logger, (Map<String, Object>) raw, valueType, valuePlan));
             } else {
                 if (valueType != null) { // Only warn if a specific type was expected
                     if (logger != null) {
@@ -372,20 +315,6 @@ public class ConfigSerializer {
         return result;
     }
 
-    private static List<Field> getSerializableFields(Class<?> clazz) {
-        List<Class<?>> hierarchy = new ArrayList<>();
-        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
-            hierarchy.add(current);
-        }
-        Collections.reverse(hierarchy);
-
-        List<Field> fields = new ArrayList<>();
-        for (Class<?> current : hierarchy) {
-            fields.addAll(Arrays.asList(current.getDeclaredFields()));
-        }
-        return fields;
-    }
-
     /**
      * Converts value to target type.
      */
@@ -416,102 +345,101 @@ public class ConfigSerializer {
     }
 
     /**
-     * Validates and clamps a numeric value based on @MinValue and @MaxValue annotations.
-     *
-     * @param logger the platform logger for warnings
-     * @param field  the field being validated
-     * @param value  the value to validate
-     * @return the clamped value, or the original if no clamping is needed
+     * Checks if type is primitive or wrapper.
      */
-    static Object validateNumericBounds(PlatformLogger logger, Field field, Object value) {
-        if (value == null) {
-            return null;
-        }
+    private static boolean isPrimitiveOrWrapper(Class<?> type) {
+        return type.isPrimitive() ||
+                type == Integer.class ||
+                type == Long.class ||
+                type == Boolean.class ||
+                type == Double.class ||
+                type == Float.class ||
+                type == Byte.class ||
+                type == Short.class ||
+                type == Character.class;
+    }
 
-        Class<?> fieldType = field.getType();
-        if (!isNumericType(fieldType)) {
-            return value;
-        }
+    private static Plan planOf(Class<?> type) {
+        return type != null ? plan(type) : null;
+    }
 
-        MinValue minValue = field.getAnnotation(MinValue.class);
-        MaxValue maxValue = field.getAnnotation(MaxValue.class);
+    private static Plan plan(Class<?> type) {
+        return outlivesLibrary(type) ? SHARED_PLANS.computeIfAbsent(type, Plan::new) : PLANS.get(type);
+    }
 
-        if (minValue == null && maxValue == null) {
-            return value;
+    /**
+     * Whether {@code type} was defined by the bootstrap loader or a strict
+     * ancestor of the loader that defined this class.
+     */
+    static boolean outlivesLibrary(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;
         }
-
-        double numValue = ((Number) value).doubleValue();
-        double original = numValue;
-        boolean clamped = false;
-
-        if (minValue != null && numValue < minValue.value()) {
-            numValue = minValue.value();
-            clamped = true;
-            if (minValue.warn()) {
-                logger.warn(String.format(
-                    "Config value for field '%s' (%s) is below minimum (%s). Clamped to %s.",
-                    field.getName(), original, minValue.value(), numValue
-                ));
+        ClassLoader own = ConfigSerializer.class.getClassLoader();
+        for (ClassLoader parent = own != null ? own.getParent() : null; parent != null; parent = parent.getParent()) {
+            if (parent == loader) {
+                return true;
             }
         }
+        return false;
+    }
 
-        if (maxValue != null && numValue > maxValue.value()) {
-            numValue = maxValue.value();
-            clamped = true;
-            if (maxValue.warn()) {
-                logger.warn(String.format(
-                    "Config value for field '%s' (%s) exceeds maximum (%s). Clamped to %s.",
-                    field.getName(), original, maxValue.value(), numValue
-                ));
-            }
+    /**
+     * Per-class serializer metadata. Field accessors and the constructor are
+     * resolved on first use, so plans of scalar element types stay cheap.
+     */
+    private static final class Plan {
+        private final Class<?> type;
+        private final boolean serializable;
+        private final boolean includeNulls;
+        private final String rejection;
+        private final ConfigSchema.AdapterSlot adapter;
+        private volatile ConfigSchema.FieldSpec[] fields;
+        private volatile Constructor<?> constructor;
+
+        private Plan(Class<?> type) {
+            this.type = type;
+            ConfigSerializable annotation = type.getAnnotation(ConfigSerializable.class);
+            this.serializable = annotation != null;
+            this.includeNulls = annotation != null && annotation.includeNulls();
+            this.rejection = rejection(type, serializable);
+            this.adapter = ConfigSchema.adapterSlot(type);
         }
 
-        if (!clamped) {
-            return value;
+        ConfigSchema.FieldSpec[] fields() {
+            ConfigSchema.FieldSpec[] current = fields;
+            if (current == null) {
+                current = ConfigSchema.of(type).serializableFields().toArray(new ConfigSchema.FieldSpec[0]);
+                fields = current;
+            }
+            return current;
         }
 
-        // Convert back to the original type
-        if (fieldType == int.class || fieldType == Integer.class) {
-            return (int) numValue;
-        } else if (fieldType == long.class || fieldType == Long.class) {
-            return (long) numValue;
-        } else if (fieldType == double.class || fieldType == Double.class) {
-            return numValue;
-        } else if (fieldType == float.class || fieldType == Float.class) {
-            return (float) numValue;
-        } else if (fieldType == byte.class || fieldType == Byte.class) {
-            return (byte) numValue;
-        } else if (fieldType == short.class || fieldType == Short.class) {
-            return (short) numValue;
+        Constructor<?> constructor() throws NoSuchMethodException {
+            Constructor<?> current = constructor;
+            if (current == null) {
+                current = type.getDeclaredConstructor();
+                constructor = current;
+            }
+            return current;
         }
 
-        return value;
-    }
-
-    /**
-     * Checks if type is a numeric type.
-     */
-    private static boolean isNumericType(Class<?> type) {
-        return type == int.class || type == Integer.class ||
-                type == long.class || type == Long.class ||
-                type == double.class || type == Double.class ||
-                type == float.class || type == Float.class ||
-                type == byte.class || type == Byte.class ||
-                type == short.class || type == Short.class;
-    }
-
-    /**
-     * Checks if type is primitive or wrapper.
-     */
-    private static boolean isPrimitiveOrWrapper(Class<?> type) {
-        return type.isPrimitive() ||
-                type == Integer.class ||
-                type == Long.class ||
-                type == Boolean.class ||
-                type == Double.class ||
-                type == Float.class ||
-                type == Byte.class ||
-                type == Short.class ||
-                type == Character.class;
+        private static String rejection(Class<?> type, boolean serializable) {
+            if (!serializable) {
+                return "Deserialization is only allowed for classes annotated with @ConfigSerializable. "
+                        + "Class '" + type.getName() + "' is not marked as serializable.";
+            }
+            // Additional security: check package to prevent deserialization of system classes
+            String packageName = type.getPackage() != null ? type.getPackage().getName() : "";
+            if (packageName.startsWith("java.")
+                    || packageName.startsWith("javax.")
+                    || packageName.startsWith("sun.")
+                    || packageName.startsWith("com.sun.")) {
+                return "Deserialization of system classes is not allowed. "
+                        + "Attempted to deserialize: " + type.getName();
+            }
+            return null;
+        }
     }
 }
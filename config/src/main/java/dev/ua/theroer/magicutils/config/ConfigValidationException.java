@@ -0,0 +1,52 @@
+package dev.ua.theroer.magicutils.config;
+
+import java.util.List;
+
+/**
+ * Thrown when a loaded config breaks its declared constraints. Carries every
+ * violation found, not just the first.
+ */
+public class ConfigValidationException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+    private final Class<?> configClass;
+    private final List<ConfigViolation> violations;
+
+    /**
+     * Creates an exception for a set of violations.
+     *
+     * @param configClass validated config type
+     * @param violations violations found
+     */
+    public ConfigValidationException(Class<?> configClass, List<ConfigViolation> violations) {
+        super(describe(configClass, violations));
+        this.configClass = configClass;
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * Returns the validated config type.
+     *
+     * @return config type
+     */
+    public Class<?> getConfigClass() {
+        return configClass;
+    }
+
+    /**
+     * Returns every violation found.
+     *
+     * @return violations in field order
+     */
+    public List<ConfigViolation> getViolations() {
+        return violations;
+    }
+
+    private static String describe(Class<?> configClass, List<ConfigViolation> violations) {
+        StringBuilder message = new StringBuilder("Invalid config ").append(configClass.getSimpleName())
+                .append(" (").append(violations.size()).append(violations.size() == 1 ? " violation)" : " violations)");
+        for (ConfigViolation violation : violations) {
+            message.append(System.lineSeparator()).append("  ").append(violation);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package dev.ua.theroer.magicutils.config;
+
+/**
+ * One failed constraint of a loaded config.
+ *
+ * @param path dotted path of the value, relative to the config root
+ * @param value offending value, or null for a missing value
+ * @param message description of the violated constraint
+ */
+public record ConfigViolation(String path, Object value, String message) {
+
+    @Override
+    public String toString() {
+        return value != null ? path + ": " + message + " (was " + value + ")" : path + ": " + message;
+    }
+}
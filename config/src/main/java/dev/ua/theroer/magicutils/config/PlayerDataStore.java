@@ -0,0 +1,350 @@
+package dev.ua.theroer.magicutils.config;
+
+import dev.ua.theroer.magicutils.platform.ListenerSubscription;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycle;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-player data files, one {@code <directory>/<uuid>.<ext>} file per player,
+ * loaded on join and unloaded after quit.
+ *
+ * <p>Player files are regular {@link ConfigManager} registrations, so they use
+ * the same annotations, adapters, atomic writes and file watching as any other
+ * config. Loading happens on the IO pool: a join event only starts the load,
+ * and {@link #load(UUID)} hands out the pending future. A file that does not
+ * exist yet yields an instance with default values, written on first save.</p>
+ *
+ * <p>Changes are persisted by calling {@link #markDirty(UUID)}; dirty players
+ * are written in one batch on the IO pool once the save delay elapses. On quit
+ * a player's data stays cached for the unload grace period, so a quick rejoin
+ * does not reload the file; after that it is written if dirty and dropped. The
+ * cache therefore holds only online players and players who left within the
+ * grace period.</p>
+ *
+ * @param <T> player data type
+ * @see ConfigManager#registerPlayerData(Class, String)
+ */
+public final class PlayerDataStore<T> implements AutoCloseable {
+    private static final long DEFAULT_SAVE_DELAY_MILLIS = 5000L;
+    private static final long DEFAULT_UNLOAD_GRACE_MILLIS = 30000L;
+
+    private final ConfigManager manager;
+    private final Class<T> type;
+    private final String directory;
+    private final String extension;
+    private final Map<UUID, Slot<T>> slots = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
+    private volatile long unloadGraceMillis = DEFAULT_UNLOAD_GRACE_MILLIS;
+    private volatile ListenerSubscription subscription = ListenerSubscription.noop();
+    private volatile boolean closed;
+
+    PlayerDataStore(ConfigManager manager, Class<T> type, String directory, String extension) {
+        this.manager = manager;
+        this.type = type;
+        this.directory = directory;
+        this.extension = extension;
+    }
+
+    void bind(ListenerSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Returns the player data type.
+     *
+     * @return data type
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns a player's data, starting an asynchronous load if it is not
+     * cached. Concurrent calls share one load.
+     *
+     * @param playerId player id
+     * @return future completing with the loaded data
+     */
+    public CompletableFuture<T> load(UUID playerId) {
+        Objects.requireNonNull(playerId, "playerId");
+        if (closed) {
+            throw new IllegalStateException("Player data store is closed");
+        }
+        return acquire(playerId).future;
+    }
+
+    /**
+     * Returns a player's data only if it is already loaded.
+     *
+     * @param playerId player id
+     * @return loaded data or null
+     */
+    public T getIfLoaded(UUID playerId) {
+        Slot<T> slot = slots.get(playerId);
+        if (slot == null) {
+            return null;
+        }
+        CompletableFuture<T> future = slot.future;
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Returns the ids of cached players, including players inside the unload
+     * grace period and pending loads.
+     *
+     * @return cached player ids
+     */
+    public Set<UUID> cachedPlayers() {
+        return Collections.unmodifiableSet(slots.keySet());
+    }
+
+    /**
+     * Queues a player's data for the next batched write.
+     *
+     * @param playerId player id
+     */
+    public void markDirty(UUID playerId) {
+        if (!slots.containsKey(playerId)) {
+            return;
+        }
+        dirty.add(playerId);
+        long delay = saveDelayMillis;
+        if (delay <= 0L) {
+            flush();
+            return;
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            manager.timer().schedule(() -> manager.ioExecutor().execute(this::writeDirty),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes every dirty player on the IO pool now.
+     *
+     * @return future completing once the batch is written
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(this::writeDirty, manager.ioExecutor());
+    }
+
+    /**
+     * Writes a player's data if dirty and drops it from the cache immediately,
+     * ignoring the grace period.
+     *
+     * @param playerId player id
+     */
+    public void unload(UUID playerId) {
+        Slot<T> slot = slots.get(playerId);
+        if (slot != null) {
+            expire(playerId, slot, true);
+        }
+    }
+
+    /**
+     * Sets how long dirty players are collected before one batched write.
+     * Zero writes on every {@link #markDirty(UUID)}.
+     *
+     * @param delay batching window
+     */
+    public void setSaveDelay(Duration delay) {
+        Objects.requireNonNull(delay, "delay");
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Save delay must not be negative");
+        }
+        this.saveDelayMillis = delay.toMillis();
+    }
+
+    /**
+     * Returns the batching window for dirty players.
+     *
+     * @return save delay
+     */
+    public Duration getSaveDelay() {
+        return Duration.ofMillis(saveDelayMillis);
+    }
+
+    /**
+     * Sets how long a player's data stays cached after they leave.
+     *
+     * @param grace unload grace period
+     */
+    public void setUnloadGrace(Duration grace) {
+        Objects.requireNonNull(grace, "grace");
+        if (grace.isNegative()) {
+            throw new IllegalArgumentException("Unload grace must not be negative");
+        }
+        this.unloadGraceMillis = grace.toMillis();
+    }
+
+    /**
+     * Returns how long a player's data stays cached after they leave.
+     *
+     * @return unload grace period
+     */
+    public Duration getUnloadGrace() {
+        return Duration.ofMillis(unloadGraceMillis);
+    }
+
+    /**
+     * Stops listening for joins and quits, writes dirty players and unloads
+     * everything. Called by {@link ConfigManager#shutdown()}.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        subscription.close();
+        writeDirty();
+        for (Map.Entry<UUID, Slot<T>> entry : new ArrayList<>(slots.entrySet())) {
+            expire(entry.getKey(), entry.getValue(), true);
+        }
+        manager.forgetPlayerStore(this);
+    }
+
+    void onLifecycle(PlayerLifecycle lifecycle) {
+        UUID playerId = lifecycle.playerId();
+        if (closed || playerId == null || lifecycle.type() == null) {
+            return;
+        }
+        if (lifecycle.type() == PlayerLifecycleType.JOIN) {
+            acquire(playerId);
+            return;
+        }
+        Slot<T> slot = slots.get(playerId);
+        if (slot == null) {
+            return;
+        }
+        synchronized (slot) {
+            if (slot.closed) {
+                return;
+            }
+            cancelUnload(slot);
+            slot.pendingUnload = manager.timer().schedule(
+                    () -> manager.ioExecutor().execute(() -> expire(playerId, slot, false)),
+                    unloadGraceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Slot<T> acquire(UUID playerId) {
+        while (true) {
+            Slot<T> slot = slots.computeIfAbsent(playerId, this::open);
+            synchronized (slot) {
+                if (!slot.closed) {
+                    cancelUnload(slot);
+                    return slot;
+                }
+            }
+            slots.remove(playerId, slot);
+        }
+    }
+
+    private Slot<T> open(UUID playerId) {
+        String path = directory + "/" + playerId + "." + extension;
+        return new Slot<>(CompletableFuture.supplyAsync(
+                () -> manager.registerCollectionFile(type, path), manager.ioExecutor()));
+    }
+
+    /**
+     * Writes and unloads a slot. A scheduled unload is skipped when the player
+     * rejoined in the meantime; holding the slot monitor keeps a rejoin from
+     * reading the file before the final write reaches it. If the final write
+     * fails, the player stays dirty and cached, and a scheduled unload is
+     * retried after another grace period.
+     */
+    private void expire(UUID playerId, Slot<T> slot, boolean force) {
+        synchronized (slot) {
+            if (slot.closed || (!force && slot.pendingUnload == null)) {
+                return;
+            }
+            cancelUnload(slot);
+            T instance = loaded(playerId, slot);
+            if (instance != null && dirty.remove(playerId) && !manager.saveNow(instance)) {
+                dirty.add(playerId);
+                manager.logger().warn("Keeping unsaved player data for " + playerId + " cached after a failed write");
+                if (!force && !closed) {
+                    slot.pendingUnload = manager.timer().schedule(
+                            () -> manager.ioExecutor().execute(() -> expire(playerId, slot, false)),
+                            unloadGraceMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+            slot.closed = true;
+            slots.remove(playerId, slot);
+            if (instance != null) {
+                manager.unload(instance);
+            }
+        }
+    }
+
+    private void writeDirty() {
+        flushScheduled.set(false);
+        List<UUID> batch = new ArrayList<>(dirty);
+        for (UUID playerId : batch) {
+            Slot<T> slot = slots.get(playerId);
+            if (slot == null || !dirty.remove(playerId)) {
+                continue;
+            }
+            synchronized (slot) {
+                if (slot.closed) {
+                    continue;
+                }
+                T instance = loaded(playerId, slot);
+                if (instance != null && !manager.saveNow(instance)) {
+                    // The manager logged the cause; keep the changes for the next flush.
+                    dirty.add(playerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the slot's data, or null after logging if the load failed and
+     * there is nothing to write.
+     */
+    private T loaded(UUID playerId, Slot<T> slot) {
+        try {
+            return slot.future.join();
+        } catch (RuntimeException e) {
+            dirty.remove(playerId);
+            manager.logger().error("Failed to load player data for " + playerId, e);
+            return null;
+        }
+    }
+
+    private static void cancelUnload(Slot<?> slot) {
+        ScheduledFuture<?> pending = slot.pendingUnload;
+        if (pending != null) {
+            pending.cancel(false);
+            slot.pendingUnload = null;
+        }
+    }
+
+    private static final class Slot<T> {
+        private final CompletableFuture<T> future;
+        private ScheduledFuture<?> pendingUnload;
+        private boolean closed;
+
+        private Slot(CompletableFuture<T> future) {
+            this.future = future;
+        }
+    }
+}
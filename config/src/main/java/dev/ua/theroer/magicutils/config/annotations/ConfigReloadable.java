@@ -23,4 +23,13 @@ public @interface ConfigReloadable {
      * @return true to trigger listeners
      */
     boolean notifyOnChange() default true;
+
+    /**
+     * Quiet period, in milliseconds, the file watcher waits after the last
+     * change to this config's file before reloading it.
+     * Negative means the ConfigManager default.
+     * 
+     * @return debounce window in milliseconds
+     */
+    long debounceMillis() default -1;
 }
\ No newline at end of file
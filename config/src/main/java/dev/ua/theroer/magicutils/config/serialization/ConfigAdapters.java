@@ -5,12 +5,14 @@ import dev.ua.theroer.magicutils.config.adapters.EnumAdapter;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simple registry for config value adapters.
  */
 public final class ConfigAdapters {
     private static final Map<Class<?>, ConfigValueAdapter<?>> ADAPTERS = new ConcurrentHashMap<>();
+    private static final AtomicInteger REVISION = new AtomicInteger();
 
     private ConfigAdapters() {
     }
@@ -25,6 +27,17 @@ public final class ConfigAdapters {
     public static <T> void register(Class<T> type, ConfigValueAdapter<T> adapter) {
         if (type == null || adapter == null) return;
         ADAPTERS.put(type, adapter);
+        REVISION.incrementAndGet();
+    }
+
+    /**
+     * Counter bumped on every {@link #register}; callers caching lookups
+     * re-resolve when it changes.
+     *
+     * @return current registration revision
+     */
+    public static int revision() {
+        return REVISION.get();
     }
 
     /**
@@ -0,0 +1,72 @@
+package dev.ua.theroer.magicutils.config;
+
+import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigFieldAccessTest {
+
+    @Test
+    void picksBinderThenMethodHandleThenReflection() throws Exception {
+        List<ConfigFieldAccess.BoundField> fields = ConfigFieldAccess.fields(Counter.class);
+
+        assertEquals(List.of("count", "label", "fixed"), fields.stream().map(f -> f.field().getName()).toList());
+        assertEquals("BinderAccessor", accessorName(fields.get(0)));
+        assertEquals("HandleAccessor", accessorName(fields.get(1)));
+        assertEquals("ReflectionAccessor", accessorName(fields.get(2)));
+
+        Counter counter = new Counter();
+        int writes = ConfigFieldAccessTest_Counter_ConfigBinder.writes;
+        fields.get(0).set(counter, 7L);
+        fields.get(1).set(counter, "renamed");
+
+        assertEquals(writes + 1, ConfigFieldAccessTest_Counter_ConfigBinder.writes);
+        assertEquals(7L, fields.get(0).get(counter));
+        assertEquals("renamed", fields.get(1).get(counter));
+        assertEquals("fixed", fields.get(2).get(counter));
+    }
+
+    @Test
+    void binderWritesWidenPrimitivesLikeFieldSet() throws Exception {
+        ConfigFieldAccess.BoundField count = ConfigFieldAccess.fields(Counter.class).get(0);
+        Counter counter = new Counter();
+
+        count.set(counter, 42);
+        assertEquals(42L, counter.count);
+
+        count.set(counter, 'A');
+        assertEquals(65L, counter.count);
+
+        count.set(counter, (short) 3);
+        assertEquals(3L, counter.count);
+    }
+
+    @Test
+    void incompatibleValuesRaiseIllegalArgumentOnEveryPath() {
+        List<ConfigFieldAccess.BoundField> fields = ConfigFieldAccess.fields(Counter.class);
+        Counter counter = new Counter();
+
+        assertThrows(IllegalArgumentException.class, () -> fields.get(0).set(counter, "seven"));
+        assertThrows(IllegalArgumentException.class, () -> fields.get(0).set(counter, 1.5d));
+        assertThrows(IllegalArgumentException.class, () -> fields.get(1).set(counter, 5));
+    }
+
+    private static String accessorName(ConfigFieldAccess.BoundField field) {
+        return field.accessor().getClass().getSimpleName();
+    }
+
+    static final class Counter {
+        @ConfigValue("count")
+        long count;
+
+        @ConfigValue("label")
+        private String label = "label";
+
+        @ConfigValue("fixed")
+        private final String fixed = "fixed";
+    }
+}
@@ -0,0 +1,31 @@
+package dev.ua.theroer.magicutils.config;
+
+/**
+ * Hand-written stand-in for the binder the annotation processor would
+ * generate for {@link ConfigFieldAccessTest.Counter}; it binds only
+ * {@code count} and counts its writes.
+ */
+final class ConfigFieldAccessTest_Counter_ConfigBinder implements ConfigBinder {
+    static int writes;
+
+    @Override
+    public Class<?> type() {
+        return ConfigFieldAccessTest.Counter.class;
+    }
+
+    @Override
+    public String[] fields() {
+        return new String[]{"count"};
+    }
+
+    @Override
+    public Object get(Object instance, int index) {
+        return ((ConfigFieldAccessTest.Counter) instance).count;
+    }
+
+    @Override
+    public void set(Object instance, int index, Object value) {
+        writes++;
+        ((ConfigFieldAccessTest.Counter) instance).count = (Long) value;
+    }
+}
@@ -1,9 +1,11 @@
 package dev.ua.theroer.magicutils.config;
 
+import dev.ua.theroer.magicutils.config.annotations.Comment;
 import dev.ua.theroer.magicutils.config.annotations.ConfigFile;
 import dev.ua.theroer.magicutils.config.annotations.ConfigReloadable;
 import dev.ua.theroer.magicutils.config.annotations.ConfigSection;
 import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
+import dev.ua.theroer.magicutils.config.annotations.DefaultValue;
 import dev.ua.theroer.magicutils.config.annotations.MaxValue;
 import dev.ua.theroer.magicutils.config.annotations.MinValue;
 import dev.ua.theroer.magicutils.config.annotations.SaveTo;
@@ -11,6 +13,9 @@ import dev.ua.theroer.magicutils.platform.Audience;
 import dev.ua.theroer.magicutils.platform.ListenerSubscription;
 import dev.ua.theroer.magicutils.platform.Platform;
 import dev.ua.theroer.magicutils.platform.PlatformLogger;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycle;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleListener;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleType;
 import dev.ua.theroer.magicutils.platform.TaskScheduler;
 import net.kyori.adventure.text.Component;
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,8 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayDeque;
 import java.util.AbstractSet;
 import java.util.ArrayList;
@@ -32,7 +39,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.time.Duration;
 import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -42,7 +53,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ConfigManagerRegressionTest {
 
@@ -73,6 +88,32 @@ class ConfigManagerRegressionTest {
         }
     }
 
+    @Test
+    void saveKeepsSymlinkAndPermissions() throws IOException {
+        assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            InheritedConfig config = manager.register(InheritedConfig.class);
+            Path link = tempDir.resolve("inherited.json");
+            Path real = Files.createDirectories(tempDir.resolve("shared")).resolve("inherited.json");
+            Files.move(link, real);
+            Files.createSymbolicLink(link, real);
+            Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+            Files.setPosixFilePermissions(real, permissions);
+
+            config.base = "saved";
+            manager.save(config);
+
+            assertTrue(Files.isSymbolicLink(link));
+            assertEquals(permissions, Files.getPosixFilePermissions(real));
+            assertTrue(Files.readString(real).contains("\"saved\""));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
     @Test
     void preservesMixedListsWhenSavingToml() {
         TestPlatform platform = new TestPlatform(tempDir);
@@ -169,7 +210,7 @@ class ConfigManagerRegressionTest {
             DeferredExecutor deferredExecutor = new DeferredExecutor();
             setPrivateField(manager, "reloadExecutor", deferredExecutor);
             Object entry = invokePrivate(manager, "getEntry", new Class<?>[] { Object.class }, config);
-            invokePrivate(manager, "scheduleExternalReload", new Class<?>[] { entry.getClass() }, entry);
+            invokePrivate(manager, "scheduleExternalReloads", new Class<?>[] { Collection.class }, List.of(entry));
 
             manager.shutdown();
             deferredExecutor.runCaptured();
@@ -267,6 +308,459 @@ class ConfigManagerRegressionTest {
         }
     }
 
+    @Test
+    void writesAndReadsDottedValuePaths() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            DottedPathConfig config = manager.register(DottedPathConfig.class);
+
+            String initial = Files.readString(tempDir.resolve("dotted.json"));
+            assertTrue(initial.contains("\"max-players\" : 20"), initial);
+            assertTrue(initial.contains("\"motd\" : \"hello\""), initial);
+
+            Files.writeString(tempDir.resolve("dotted.json"),
+                    "{\n  \"limits\" : { \"max-players\" : 64 },\n  \"motd\" : \"welcome\"\n}\n");
+            manager.reload(config);
+
+            assertEquals(64, config.maxPlayers);
+            assertEquals("welcome", config.motd);
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void coalescesBurstOfFileEditsIntoOneReloadBatch() throws Exception {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            manager.setWatchDebounce(Duration.ofMillis(300));
+            WatchFirstConfig first = manager.register(WatchFirstConfig.class);
+            WatchSecondConfig second = manager.register(WatchSecondConfig.class);
+
+            AtomicInteger firstChanges = new AtomicInteger();
+            manager.subscribeChanges(WatchFirstConfig.class, (updated, sections) -> firstChanges.incrementAndGet());
+            List<List<Object>> batches = new CopyOnWriteArrayList<>();
+            CountDownLatch batchSeen = new CountDownLatch(1);
+            manager.subscribeExternalReloads(instances -> {
+                batches.add(instances);
+                batchSeen.countDown();
+            });
+
+            Path firstFile = tempDir.resolve("watch-first.json");
+            for (int i = 1; i <= 5; i++) {
+                Files.writeString(firstFile, "{\n  \"value\" : \"edit-" + i + "\"\n}\n");
+                Thread.sleep(20);
+            }
+            Files.writeString(tempDir.resolve("watch-second.json"), "{\n  \"value\" : \"edited\"\n}\n");
+
+            assertTrue(batchSeen.await(10, TimeUnit.SECONDS), "reload batch expected");
+            Thread.sleep(600);
+            assertEquals(1, batches.size());
+            assertEquals(Set.of(first, second), Set.copyOf(batches.get(0)));
+            assertEquals(1, firstChanges.get());
+            assertEquals("edit-5", first.value);
+            assertEquals("edited", second.value);
+
+            // Rewriting identical bytes bumps the mtime but must not reload.
+            Files.writeString(firstFile, "{\n  \"value\" : \"edit-5\"\n}\n");
+            Thread.sleep(1000);
+            assertEquals(1, batches.size());
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void snapshotReloadPublishesFreshInstance() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            ConfigRef<SnapshotConfig> ref = manager.registerSnapshot(SnapshotConfig.class);
+            SnapshotConfig initial = ref.get();
+            assertEquals("snapshot-default", initial.value);
+            assertSame(initial, manager.register(SnapshotConfig.class));
+            manager.register(DottedPathConfig.class);
+            assertThrows(IllegalStateException.class, () -> manager.registerSnapshot(DottedPathConfig.class));
+
+            Files.writeString(tempDir.resolve("snapshot.json"), "{\n  \"value\" : \"reloaded\"\n}\n");
+            manager.reload(ref);
+
+            SnapshotConfig current = ref.get();
+            assertNotSame(initial, current);
+            assertEquals("snapshot-default", initial.value);
+            assertEquals("reloaded", current.value);
+            assertEquals(1, ref.version());
+            assertSame(current, manager.getConfig(SnapshotConfig.class));
+            assertEquals(tempDir.resolve("snapshot.json"), manager.getConfigPath(current));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void registerAllKeepsArgumentOrderAndGroupsSharedFiles() throws Exception {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            List<Class<?>> classes = List.of(SaveToConfig.class, DottedPathConfig.class, SharedSecretConfig.class);
+            // SaveToConfig and SharedSecretConfig both write secrets.json, so they share one worker.
+            assertEquals(List.of(List.of(0, 2), List.of(1)),
+                    invokePrivate(manager, "groupBySharedFiles", new Class<?>[]{List.class}, classes));
+
+            List<Object> instances = manager.registerAll(SaveToConfig.class, DottedPathConfig.class,
+                    SharedSecretConfig.class, DottedPathConfig.class).get(10, TimeUnit.SECONDS);
+
+            assertEquals(3, instances.size());
+            assertSame(manager.getConfig(SaveToConfig.class), instances.get(0));
+            assertSame(manager.getConfig(DottedPathConfig.class), instances.get(1));
+            assertSame(manager.getConfig(SharedSecretConfig.class), instances.get(2));
+            assertTrue(Files.exists(tempDir.resolve("secrets.json")));
+            assertSame(instances.get(1), manager.registerAsync(DottedPathConfig.class).get(10, TimeUnit.SECONDS));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void writeBehindCoalescesSavesAndFlushesOnShutdown() throws Exception {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        Path file = tempDir.resolve("dotted.json");
+        try {
+            DottedPathConfig config = manager.register(DottedPathConfig.class);
+            manager.setWriteBehindDelay(Duration.ofMillis(200));
+            for (int i = 1; i <= 3; i++) {
+                config.motd = "save-" + i;
+                manager.save(config);
+            }
+            assertFalse(Files.readString(file).contains("save-"), "write should be deferred");
+
+            Thread.sleep(800);
+            assertTrue(Files.readString(file).contains("save-3"), Files.readString(file));
+
+            manager.setWriteBehindDelay(Duration.ofHours(1));
+            config.motd = "on-shutdown";
+            manager.save(config);
+            manager.shutdown();
+            assertTrue(Files.readString(file).contains("on-shutdown"), Files.readString(file));
+
+            try (var files = Files.list(tempDir)) {
+                assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+            }
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void collectionIndexesDirectoryAndLoadsLazily() throws Exception {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            Path arenas = Files.createDirectories(tempDir.resolve("arenas"));
+            Files.writeString(arenas.resolve("desert.json"), "{\n  \"size\" : 64\n}\n");
+            Files.writeString(arenas.resolve("lava.json"), "{\n  \"size\" : 16\n}\n");
+            Files.writeString(arenas.resolve("notes.txt"), "not an arena");
+
+            ConfigCollection<ArenaConfig> collection = manager.registerCollection(ArenaConfig.class, "arenas", "*.json");
+            assertEquals(Set.of("desert", "lava"), collection.ids());
+            assertEquals(null, collection.getIfLoaded("lava"));
+
+            ArenaConfig desert = collection.get("desert");
+            assertEquals(64, desert.size);
+            assertSame(desert, collection.get("desert"));
+            assertEquals(null, collection.get("missing"));
+
+            Map<String, ArenaConfig> all = collection.loadAll().get(10, TimeUnit.SECONDS);
+            assertEquals(16, all.get("lava").size);
+
+            Files.writeString(arenas.resolve("desert.json"), "{\n  \"size\" : 32\n}\n");
+            manager.reload(desert);
+            assertEquals(32, desert.size);
+
+            Files.delete(arenas.resolve("lava.json"));
+            collection.refresh();
+            assertEquals(Set.of("desert"), collection.ids());
+            assertEquals(Set.of("desert"), collection.loadedEntries().keySet());
+
+            assertEquals(1, collection.evictIdle(Duration.ZERO));
+            assertEquals(null, collection.getIfLoaded("desert"));
+            assertEquals(null, manager.getConfig(ArenaConfig.class));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void reloadOfUnchangedFileReusesParsedDocument() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            DottedPathConfig config = manager.register(DottedPathConfig.class);
+            long misses = manager.getDocumentCacheMisses();
+
+            config.motd = "in-memory";
+            manager.reload(config);
+            manager.reload(config);
+            assertEquals("hello", config.motd);
+            assertEquals(2, manager.getDocumentCacheHits());
+            assertEquals(misses, manager.getDocumentCacheMisses());
+
+            Files.writeString(tempDir.resolve("dotted.json"),
+                    "{\n  \"limits\" : {\n    \"max-players\" : 5\n  },\n  \"motd\" : \"changed\"\n}\n");
+            manager.reload(config);
+            assertEquals("changed", config.motd);
+            assertEquals(misses + 1, manager.getDocumentCacheMisses());
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void binaryCacheSkipsParsingOnNextStart() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager first = new ConfigManager(platform);
+        first.setBinaryCache(true);
+        try {
+            first.register(DottedPathConfig.class);
+            assertTrue(Files.isRegularFile(tempDir.resolve(".cache/dotted.json.bin")));
+        } finally {
+            first.shutdown();
+        }
+
+        ConfigManager second = new ConfigManager(platform);
+        second.setBinaryCache(true);
+        try {
+            DottedPathConfig config = second.register(DottedPathConfig.class);
+            assertEquals("hello", config.motd);
+            assertEquals(0, second.getDocumentCacheMisses());
+        } finally {
+            second.shutdown();
+        }
+
+        Files.write(tempDir.resolve(".cache/dotted.json.bin"), new byte[]{1, 2, 3});
+        ConfigManager third = new ConfigManager(platform);
+        third.setBinaryCache(true);
+        try {
+            DottedPathConfig config = third.register(DottedPathConfig.class);
+            assertEquals("hello", config.motd);
+            assertEquals(1, third.getDocumentCacheMisses());
+        } finally {
+            third.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void playerDataLoadsOnJoinAndSurvivesQuickRejoin() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        UUID playerId = UUID.randomUUID();
+        try {
+            PlayerDataStore<ArenaConfig> store = manager.registerPlayerData(ArenaConfig.class, "playerdata");
+            store.setUnloadGrace(Duration.ofMinutes(1));
+
+            platform.fire(new PlayerLifecycle(playerId, "Steve", PlayerLifecycleType.JOIN));
+            ArenaConfig data = store.getIfLoaded(playerId);
+            assertEquals(8, data.size);
+
+            data.size = 42;
+            store.markDirty(playerId);
+            store.flush().join();
+            Path file = manager.getConfigPath(data);
+            assertEquals(tempDir.resolve("playerdata"), file.getParent());
+            assertTrue(Files.readString(file).contains("42"));
+
+            platform.fire(new PlayerLifecycle(playerId, "Steve", PlayerLifecycleType.LEAVE));
+            platform.fire(new PlayerLifecycle(playerId, "Steve", PlayerLifecycleType.JOIN));
+            assertSame(data, store.getIfLoaded(playerId));
+
+            data.size = 43;
+            store.markDirty(playerId);
+            store.unload(playerId);
+            assertTrue(store.cachedPlayers().isEmpty());
+            assertEquals(43, store.load(playerId).join().size);
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void playerDataStaysDirtyAndCachedWhenItsWriteFails() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        UUID playerId = UUID.randomUUID();
+        try {
+            PlayerDataStore<ArenaConfig> store = manager.registerPlayerData(ArenaConfig.class, "playerdata");
+            platform.fire(new PlayerLifecycle(playerId, "Steve", PlayerLifecycleType.JOIN));
+            ArenaConfig data = store.getIfLoaded(playerId);
+            // A non-empty directory where the file should go makes every write fail.
+            Path blocker = Files.createDirectories(manager.getConfigPath(data));
+            Path filler = Files.createFile(blocker.resolve("filler"));
+
+            data.size = 42;
+            store.markDirty(playerId);
+            store.flush().join();
+            store.unload(playerId);
+            assertSame(data, store.getIfLoaded(playerId));
+
+            Files.delete(filler);
+            Files.delete(blocker);
+            store.unload(playerId);
+            assertTrue(store.cachedPlayers().isEmpty());
+            assertEquals(42, store.load(playerId).join().size);
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void validatedReloadRejectsInvalidCandidateWithAllViolations() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            BoundedConfig config = manager.register(BoundedConfig.class);
+            manager.setValidateBeforeReload(true);
+
+            Files.writeString(tempDir.resolve("bounded.json"), "{\"volume\": 150, \"depth\": -5}");
+            manager.reload(config);
+            assertEquals(50, config.volume);
+            assertEquals(10, config.depth);
+
+            BoundedConfig candidate = new BoundedConfig();
+            candidate.volume = 150;
+            candidate.depth = -5;
+            List<ConfigViolation> violations = manager.validate(candidate);
+            assertEquals(List.of("volume", "depth"), violations.stream().map(ConfigViolation::path).toList());
+
+            Files.writeString(tempDir.resolve("bounded.json"), "{\"volume\": 70, \"depth\": 3}");
+            manager.reload(config);
+            assertEquals(70, config.volume);
+            assertEquals(3, config.depth);
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void requiredPrimitivesAreCheckedAgainstTheFile() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            RequiredConfig config = manager.register(RequiredConfig.class);
+            manager.setValidateBeforeReload(true);
+
+            Files.writeString(tempDir.resolve("required.json"), "{\"port\": 1, \"limits\": {}}");
+            manager.reload(config);
+            assertEquals(25565, config.port);
+
+            Files.writeString(tempDir.resolve("required.json"), "{\"limits\": {\"max\": 7}}");
+            manager.reload(config);
+            assertEquals(25565, config.port);
+            assertEquals(10, config.limits.max);
+
+            Files.writeString(tempDir.resolve("required.json"), "{\"port\": 2, \"limits\": {\"max\": 7}}");
+            manager.reload(RequiredConfig.class, "limits");
+            assertEquals(25565, config.port);
+            assertEquals(7, config.limits.max);
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void registersWhenFileLacksRequiredKeysThatHaveDefaults() throws IOException {
+        Files.writeString(tempDir.resolve("upgraded.json"), "{\"port\": 1}");
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            UpgradedConfig config = manager.register(UpgradedConfig.class);
+            assertEquals(1, config.port);
+            assertEquals("lobby", config.name);
+            assertEquals(Integer.valueOf(3), config.retries);
+
+            Files.writeString(tempDir.resolve("upgraded.json"), "{\"port\": 2}");
+            manager.reload(config);
+            assertEquals(2, config.port);
+            assertEquals("lobby", config.name);
+
+            Files.writeString(tempDir.resolve("token.json"), "{}");
+            assertThrows(RuntimeException.class, () -> manager.register(TokenConfig.class));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void streamsLargeCommentedJsoncListsAndReadsThemBack() throws IOException {
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            JsoncListConfig config = manager.register(JsoncListConfig.class);
+            for (int i = 0; i < 5000; i++) {
+                config.entries.add("entry-" + i);
+            }
+            manager.save(config);
+
+            String written = Files.readString(tempDir.resolve("list.jsonc"));
+            assertTrue(written.contains("// Every entry"), written.substring(0, 80));
+
+            config.entries = new ArrayList<>();
+            manager.reload(config);
+            assertEquals(5000, config.entries.size());
+            assertEquals("entry-4999", config.entries.get(4999));
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
+    @Test
+    void streamingLoadMatchesDocumentLoad() throws IOException {
+        Files.writeString(tempDir.resolve("dotted.json"), "{\n  \"unused\" : {\"deep\" : [1, 2, {\"x\" : 3}]},\n"
+                + "  \"limits.max-players\" : 7,\n  \"limits\" : {\"max-players\" : 40},\n  \"motd\" : \"streamed\"\n}\n");
+        Files.writeString(tempDir.resolve("section-reload.json"),
+                "{\n  \"database\" : {\"url\" : \"jdbc:streamed\", \"extra\" : true}\n}\n");
+        Files.writeString(tempDir.resolve("bounded.json"), "{\n  \"volume\" : 500\n}\n");
+
+        TestPlatform platform = new TestPlatform(tempDir);
+        ConfigManager manager = new ConfigManager(platform);
+        try {
+            manager.setStreamingLoad(true);
+            long misses = manager.getDocumentCacheMisses();
+
+            DottedPathConfig dotted = manager.register(DottedPathConfig.class);
+            assertEquals(40, dotted.maxPlayers);
+            assertEquals("streamed", dotted.motd);
+
+            SectionReloadConfig sections = manager.register(SectionReloadConfig.class);
+            assertEquals("jdbc:streamed", sections.database.url);
+            assertFalse(sections.feature.enabled);
+
+            BoundedConfig bounded = manager.register(BoundedConfig.class);
+            assertEquals(100, bounded.volume);
+            assertEquals(10, bounded.depth);
+            assertEquals(misses, manager.getDocumentCacheMisses());
+        } finally {
+            manager.shutdown();
+            platform.shutdown();
+        }
+    }
+
     private static class BaseConfig {
         @ConfigValue("base")
         String base = "base-default";
@@ -333,6 +827,40 @@ class ConfigManagerRegressionTest {
         int depth = 10;
     }
 
+    @ConfigFile("required.json")
+    @ConfigReloadable(sections = { "limits" })
+    static final class RequiredConfig {
+        @ConfigValue(value = "port", required = true)
+        int port = 25565;
+
+        @ConfigSection("limits")
+        LimitsSection limits = new LimitsSection();
+    }
+
+    @ConfigFile("upgraded.json")
+    static final class UpgradedConfig {
+        @ConfigValue(value = "port", required = true)
+        int port = 25565;
+
+        @ConfigValue(value = "name", required = true)
+        String name = "lobby";
+
+        @ConfigValue(value = "retries", required = true)
+        @DefaultValue("3")
+        Integer retries;
+    }
+
+    @ConfigFile("token.json")
+    static final class TokenConfig {
+        @ConfigValue(value = "token", required = true)
+        String token;
+    }
+
+    static final class LimitsSection {
+        @ConfigValue(value = "max", required = true)
+        int max = 10;
+    }
+
     @ConfigFile("saveto-main.json")
     static final class SaveToConfig {
         @ConfigValue("inline")
@@ -343,6 +871,52 @@ class ConfigManagerRegressionTest {
         String secret = "secret-default";
     }
 
+    @ConfigFile("shared-secret.json")
+    static final class SharedSecretConfig {
+        @ConfigValue("token")
+        @SaveTo("secrets.json")
+        String token = "token-default";
+    }
+
+    static final class ArenaConfig {
+        @ConfigValue("size")
+        int size = 8;
+    }
+
+    @ConfigFile("list.jsonc")
+    static final class JsoncListConfig {
+        @ConfigValue("entries")
+        @Comment("Every entry")
+        List<String> entries = new ArrayList<>();
+    }
+
+    @ConfigFile("dotted.json")
+    static final class DottedPathConfig {
+        @ConfigValue("limits.max-players")
+        int maxPlayers = 20;
+
+        @ConfigValue("motd")
+        String motd = "hello";
+    }
+
+    @ConfigFile("snapshot.json")
+    static final class SnapshotConfig {
+        @ConfigValue("value")
+        String value = "snapshot-default";
+    }
+
+    @ConfigFile("watch-first.json")
+    static final class WatchFirstConfig {
+        @ConfigValue("value")
+        String value = "first-default";
+    }
+
+    @ConfigFile("watch-second.json")
+    static final class WatchSecondConfig {
+        @ConfigValue("value")
+        String value = "second-default";
+    }
+
     private static final class FailOnceMap<K, V> extends LinkedHashMap<K, V> {
         private static final long serialVersionUID = 1L;
         private final AtomicInteger remainingFailures = new AtomicInteger(1);
@@ -466,6 +1040,7 @@ class ConfigManagerRegressionTest {
     private static final class TestPlatform implements Platform {
         private final Path configDir;
         private final TaskScheduler scheduler = new DirectTaskScheduler();
+        private final List<PlayerLifecycleListener> lifecycleListeners = new CopyOnWriteArrayList<>();
 
         private TestPlatform(Path configDir) {
             this.configDir = configDir;
@@ -508,6 +1083,18 @@ class ConfigManagerRegressionTest {
             return scheduler;
         }
 
+        @Override
+        public ListenerSubscription subscribePlayerLifecycle(PlayerLifecycleListener listener) {
+            lifecycleListeners.add(listener);
+            return () -> lifecycleListeners.remove(listener);
+        }
+
+        private void fire(PlayerLifecycle lifecycle) {
+            for (PlayerLifecycleListener listener : lifecycleListeners) {
+                listener.onPlayerLifecycle(lifecycle);
+            }
+        }
+
         private void shutdown() {
             scheduler.shutdown();
         }
@@ -0,0 +1,96 @@
+package dev.ua.theroer.magicutils.config;
+
+import dev.ua.theroer.magicutils.config.annotations.Comment;
+import dev.ua.theroer.magicutils.config.annotations.ConfigSection;
+import dev.ua.theroer.magicutils.config.annotations.ConfigValue;
+import dev.ua.theroer.magicutils.config.annotations.DefaultValue;
+import dev.ua.theroer.magicutils.config.annotations.MaxValue;
+import dev.ua.theroer.magicutils.config.serialization.ConfigAdapters;
+import dev.ua.theroer.magicutils.config.serialization.ConfigValueAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSchemaTest {
+
+    @Test
+    void schemaIsBuiltOncePerClassWithPreSplitPaths() throws Exception {
+        ConfigSchema schema = ConfigSchema.of(SampleConfig.class);
+        assertSame(schema, ConfigSchema.of(SampleConfig.class));
+        assertEquals(List.of("Sample header"), schema.header());
+
+        List<ConfigSchema.FieldSpec> fields = schema.fields();
+        assertEquals(3, fields.size());
+
+        ConfigSchema.FieldSpec limit = fields.get(0);
+        assertEquals("limits.max-players", limit.path());
+        assertArrayEquals(new String[]{"limits", "max-players"}, limit.segments());
+        assertEquals(List.of("Player cap"), limit.comment());
+        assertEquals(20, limit.clamp(null, 20));
+        assertEquals(25, limit.defaultValue());
+
+        ConfigSchema.FieldSpec tags = fields.get(1);
+        assertEquals(String.class, tags.keyType());
+        assertEquals(Integer.class, tags.valueType());
+        assertNull(tags.bounds());
+
+        assertTrue(fields.get(2).section());
+        assertEquals("nested", fields.get(2).path());
+    }
+
+    @Test
+    void adapterSlotPicksUpLaterRegistrations() {
+        ConfigSchema.FieldSpec value = ConfigSchema.of(AdapterConfig.class).fields().get(0);
+        assertNull(value.adapter().get());
+
+        ConfigAdapters.register(LateValue.class, new ConfigValueAdapter<>() {
+            @Override
+            public LateValue deserialize(Object raw) {
+                return new LateValue(String.valueOf(raw));
+            }
+
+            @Override
+            public Object serialize(LateValue late) {
+                return late.value();
+            }
+        });
+
+        assertNotNull(value.adapter().get());
+    }
+
+    @Comment("Sample header")
+    static class SampleConfig {
+        @ConfigValue("limits.max-players")
+        @Comment("Player cap")
+        @DefaultValue("25")
+        @MaxValue(100)
+        int maxPlayers;
+
+        @ConfigValue
+        Map<String, Integer> tags;
+
+        @ConfigSection
+        Nested nested = new Nested();
+    }
+
+    static class Nested {
+        @ConfigValue
+        String name = "nested";
+    }
+
+    static class AdapterConfig {
+        @ConfigValue
+        LateValue value;
+    }
+
+    record LateValue(String value) {
+    }
+}
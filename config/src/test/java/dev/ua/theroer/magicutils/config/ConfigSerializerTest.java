@@ -11,6 +11,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigSerializerTest {
@@ -45,6 +47,43 @@ class ConfigSerializerTest {
         assertTrue(logger.warnings.get(0).contains("count"));
     }
 
+    @Test
+    void roundTripsListsOfNestedObjectsAndRejectsUnmarkedClasses() {
+        RosterConfig roster = new RosterConfig();
+        for (int i = 0; i < 500; i++) {
+            ChildConfig member = new ChildConfig();
+            member.child = "member-" + i;
+            roster.members.add(member);
+        }
+
+        Map<String, Object> serialized = ConfigSerializer.serialize(roster);
+        RosterConfig restored = ConfigSerializer.deserialize(TestLogger.INSTANCE, serialized, RosterConfig.class);
+
+        assertEquals(500, restored.members.size());
+        assertEquals("member-499", restored.members.get(499).child);
+        assertEquals("base-default", restored.members.get(0).base);
+        assertThrows(SecurityException.class,
+                () -> ConfigSerializer.deserialize(TestLogger.INSTANCE, Map.of(), PlainConfig.class));
+    }
+
+    @Test
+    void keepsPlansOfJdkTypesOutOfClassValues() {
+        assertTrue(ConfigSerializer.outlivesLibrary(String.class));
+        assertTrue(ConfigSerializer.outlivesLibrary(java.util.UUID.class));
+        assertTrue(ConfigSerializer.outlivesLibrary(int.class));
+        assertFalse(ConfigSerializer.outlivesLibrary(ChildConfig.class));
+
+        TagsConfig tags = new TagsConfig();
+        tags.tags.add("alpha");
+        tags.tags.add("beta");
+        TagsConfig restored = ConfigSerializer.deserialize(TestLogger.INSTANCE,
+                ConfigSerializer.serialize(tags), TagsConfig.class);
+
+        assertEquals(List.of("alpha", "beta"), restored.tags);
+        assertThrows(SecurityException.class,
+                () -> ConfigSerializer.deserialize(TestLogger.INSTANCE, Map.of(), String.class));
+    }
+
     @ConfigSerializable
     static class BaseConfig {
         @ConfigValue("base")
@@ -66,6 +105,22 @@ class ConfigSerializerTest {
         boolean enabled = true;
     }
 
+    @ConfigSerializable
+    static final class RosterConfig {
+        @ConfigValue("members")
+        List<ChildConfig> members = new ArrayList<>();
+    }
+
+    @ConfigSerializable
+    static final class TagsConfig {
+        @ConfigValue("tags")
+        List<String> tags = new ArrayList<>();
+    }
+
+    static final class PlainConfig {
+        String value = "plain";
+    }
+
     private static final class TestLogger implements PlatformLogger {
         private static final TestLogger INSTANCE = new TestLogger();
 
@@ -4,6 +4,7 @@ import dev.ua.theroer.magicutils.commands.CommandManager;
 import dev.ua.theroer.magicutils.commands.HelpCommandSupport;
 import dev.ua.theroer.magicutils.config.ConfigManager;
 import dev.ua.theroer.magicutils.lang.LanguageManager;
+import dev.ua.theroer.magicutils.lang.MissingMessageTracker;
 import dev.ua.theroer.magicutils.logger.LoggerCore;
 import dev.ua.theroer.magicutils.placeholders.MagicPlaceholders;
 import dev.ua.theroer.magicutils.platform.Platform;
@@ -15,9 +16,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -25,6 +28,8 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 final class BuiltinDiagnosticChecks {
+    private static final int MISSING_KEYS_PER_LANGUAGE = 10;
+
     private BuiltinDiagnosticChecks() {
     }
 
@@ -42,6 +47,9 @@ final class BuiltinDiagnosticChecks {
                 check("runtime.language.present", "runtime", "Language manager is available when configured",
                         DiagnosticSeverity.INFO, EnumSet.allOf(DiagnosticMode.class),
                         context -> CompletableFuture.completedFuture(runtimeLanguagePresent(context))),
+                check("language.missing_keys", "language", "Top missing translation keys per language",
+                        DiagnosticSeverity.INFO, EnumSet.allOf(DiagnosticMode.class),
+                        context -> CompletableFuture.completedFuture(languageMissingKeys(context))),
                 check("runtime.components.snapshot", "runtime", "Runtime component snapshot is accessible",
                         DiagnosticSeverity.WARNING, EnumSet.allOf(DiagnosticMode.class),
                         context -> CompletableFuture.completedFuture(runtimeComponentsSnapshot(context))),
@@ -122,6 +130,38 @@ final class BuiltinDiagnosticChecks {
                 "LanguageManager is registered", details("type", languageManager.getClass().getName()));
     }
 
+    private static DiagnosticResult languageMissingKeys(DiagnosticContext context) {
+        LanguageManager languageManager = context.findComponent(LanguageManager.class).orElse(null);
+        if (languageManager == null) {
+            return DiagnosticResult.skipped("language.missing_keys", "language", DiagnosticSeverity.INFO,
+                    "LanguageManager is not registered for this runtime", Map.of());
+        }
+        MissingMessageTracker tracker = languageManager.getMissingMessages();
+        Map<String, List<MissingMessageTracker.MissingMessage>> top = tracker.topMissing(MISSING_KEYS_PER_LANGUAGE);
+        LinkedHashMap<String, Object> topByLanguage = new LinkedHashMap<>();
+        for (Map.Entry<String, List<MissingMessageTracker.MissingMessage>> entry : top.entrySet()) {
+            List<String> keys = new ArrayList<>(entry.getValue().size());
+            for (MissingMessageTracker.MissingMessage missing : entry.getValue()) {
+                keys.add(missing.key() + "=" + missing.count());
+            }
+            topByLanguage.put(entry.getKey(), List.copyOf(keys));
+        }
+        Map<String, Object> details = details(
+                "trackedKeys", tracker.size(),
+                "capacity", tracker.getCapacity(),
+                "misses", tracker.getMissCount(),
+                "cachedMisses", tracker.getCachedMissCount(),
+                "evictions", tracker.getEvictionCount(),
+                "top", Map.copyOf(topByLanguage)
+        );
+        if (top.isEmpty()) {
+            return DiagnosticResult.ok("language.missing_keys", "language", DiagnosticSeverity.INFO,
+                    "No missing translation keys recorded", details);
+        }
+        return DiagnosticResult.warn("language.missing_keys", "language", DiagnosticSeverity.INFO,
+                tracker.size() + " missing translation key(s) recorded", details);
+    }
+
     private static DiagnosticResult runtimeComponentsSnapshot(DiagnosticContext context) {
         return DiagnosticResult.ok("runtime.components.snapshot", "runtime", DiagnosticSeverity.WARNING,
                 "Runtime component snapshots are readable",
@@ -15,6 +15,7 @@ public record DiagnosticSuiteName(String value) {
             "magicutils.runtime",
             "magicutils.filesystem",
             "magicutils.config",
+            "magicutils.language",
             "magicutils.scheduler",
             "magicutils.threading",
             "magicutils.commands",
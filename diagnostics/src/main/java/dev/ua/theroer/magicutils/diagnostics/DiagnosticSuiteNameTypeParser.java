@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.diagnostics;
 
+import dev.ua.theroer.magicutils.commands.CommandThreading;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,4 +41,10 @@ public final class DiagnosticSuiteNameTypeParser<S> implements TypeParser<S, Dia
     public int getPriority() {
         return 10;
     }
+
+    @Override
+    @NotNull
+    public CommandThreading getSuggestionThreading() {
+        return CommandThreading.ASYNC;
+    }
 }
@@ -20,3 +20,32 @@ dependencies {
     testImplementation(libs.junit.jupiter)
     testRuntimeOnly(libs.junit.platform.launcher)
 }
+
+// Bundled translations ship twice: the human-edited JSONC under lang/ and a
+// precompiled binary table next to it (`lang/<code>.bin`) that
+// BundledTranslations prefers at runtime — one bulk read and a binary search
+// instead of a Jackson parse into per-entry maps. The compiler is this
+// module's own BundledTranslationsCompiler, so the binary is always produced
+// with exactly the runtime JSONC rules. It runs from the compiled classes plus
+// the runtime dependencies, not sourceSets.main.runtimeClasspath, because the
+// main output includes the generated directory and would depend on itself.
+val compiledLangDir = layout.buildDirectory.dir("generated/compiled-lang")
+val compileBundledTranslations = tasks.register<JavaExec>("compileBundledTranslations") {
+    group = "build"
+    description = "Compiles bundled lang/*.json translations into the binary lookup format."
+    val sourceDir = layout.projectDirectory.dir("src/main/resources/lang")
+    inputs.dir(sourceDir)
+    outputs.dir(compiledLangDir)
+    classpath(tasks.named("compileJava"), configurations.named("runtimeClasspath"))
+    mainClass.set("dev.ua.theroer.magicutils.lang.BundledTranslationsCompiler")
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            sourceDir.asFile.absolutePath,
+            compiledLangDir.get().dir("lang").asFile.absolutePath,
+        )
+    })
+}
+
+sourceSets.main {
+    output.dir(mapOf("builtBy" to compileBundledTranslations), compiledLangDir)
+}
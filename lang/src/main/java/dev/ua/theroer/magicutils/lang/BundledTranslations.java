@@ -34,6 +34,12 @@ import java.util.stream.Stream;
  * (including trailing commas). Keys starting with {@code _} are treated
  * as translator-facing comments and dropped at load time.</p>
  *
+ * <p>When the build precompiled a resource (see
+ * {@link BundledTranslationsCompiler}), the sibling {@code <code>.bin}
+ * file is preferred: it is read in one go and looked up by binary search
+ * without parsing JSON or building per-entry maps. Plain JSON stays the
+ * fallback, e.g. for plugin jars that do not run the compile step.</p>
+ *
  * <p>Parsed resources are cached per language code since classpath
  * resources are immutable during a JVM lifetime.</p>
  */
@@ -41,6 +47,7 @@ public final class BundledTranslations {
 
     private static final String RESOURCE_PREFIX = "lang/";
     private static final String RESOURCE_SUFFIX = ".json";
+    static final String COMPILED_SUFFIX = ".bin";
     private static final String COMMENT_PREFIX = "_";
 
     private static final ObjectMapper MAPPER = JsonMapper.builder(
@@ -108,8 +115,12 @@ public final class BundledTranslations {
     }
 
     private static Map<String, String> loadNamespacedResource(String namespace, String languageCode) {
-        String path = RESOURCE_PREFIX + namespace.trim().toLowerCase(Locale.ROOT) + "/" + languageCode + RESOURCE_SUFFIX;
-        URL url = findResourceAt(path);
+        String base = RESOURCE_PREFIX + namespace.trim().toLowerCase(Locale.ROOT) + "/" + languageCode;
+        URL compiled = findResourceAt(base + COMPILED_SUFFIX);
+        if (compiled != null) {
+            return readCompiled(compiled, namespace + "/" + languageCode);
+        }
+        URL url = findResourceAt(base + RESOURCE_SUFFIX);
         if (url == null) {
             return Collections.emptyMap();
         }
@@ -187,6 +198,10 @@ public final class BundledTranslations {
     }
 
     private static Map<String, String> loadResource(String languageCode) {
+        URL compiled = findResourceAt(RESOURCE_PREFIX + languageCode + COMPILED_SUFFIX);
+        if (compiled != null) {
+            return readCompiled(compiled, languageCode);
+        }
         URL url = findResource(languageCode);
         if (url == null) {
             return Collections.emptyMap();
@@ -199,22 +214,46 @@ public final class BundledTranslations {
             if (in == null) {
                 return Collections.emptyMap();
             }
-            LinkedHashMap<String, String> raw = MAPPER.readValue(in, FLAT_MAP_TYPE);
-            LinkedHashMap<String, String> filtered = new LinkedHashMap<>(raw.size());
-            for (Map.Entry<String, String> entry : raw.entrySet()) {
-                String key = entry.getKey();
-                if (key == null || key.isEmpty() || key.startsWith(COMMENT_PREFIX)) {
-                    continue;
-                }
-                filtered.put(key, entry.getValue());
-            }
-            return Collections.unmodifiableMap(filtered);
+            return Collections.unmodifiableMap(readFlat(in));
         } catch (IOException e) {
             throw new IllegalStateException(
                     "Failed to parse bundled translations for: " + diagnosticName, e);
         }
     }
 
+    private static Map<String, String> readCompiled(URL url, String diagnosticName) {
+        try (InputStream in = url.openStream()) {
+            if (in == null) {
+                return Collections.emptyMap();
+            }
+            return CompiledTranslations.read(in);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException(
+                    "Failed to read compiled translations for: " + diagnosticName, e);
+        }
+    }
+
+    /**
+     * Parses a JSONC translation file into flat {@code key -> value}
+     * pairs, dropping translator comment keys.
+     *
+     * @param in source stream (not closed)
+     * @return mutable flat translations in file order
+     * @throws IOException when the source is not valid JSONC
+     */
+    static LinkedHashMap<String, String> readFlat(InputStream in) throws IOException {
+        LinkedHashMap<String, String> raw = MAPPER.readValue(in, FLAT_MAP_TYPE);
+        LinkedHashMap<String, String> filtered = new LinkedHashMap<>(raw.size());
+        for (Map.Entry<String, String> entry : raw.entrySet()) {
+            String key = entry.getKey();
+            if (key == null || key.isEmpty() || key.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            filtered.put(key, entry.getValue());
+        }
+        return filtered;
+    }
+
     private static URL findResourceAt(String path) {
         for (ClassLoader loader : loaders()) {
             URL url = loader.getResource(path);
@@ -227,6 +266,9 @@ public final class BundledTranslations {
 
     private static Map<String, Map<String, String>> buildSections(String languageCode) {
         Map<String, String> flat = getTranslations(languageCode);
+        if (flat instanceof CompiledTranslations compiled) {
+            return compiled.sections();
+        }
         if (flat.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -251,6 +293,15 @@ public final class BundledTranslations {
         return Collections.unmodifiableMap(unmodifiable);
     }
 
+    /**
+     * @param key flat translation key
+     * @return section the key is grouped under, or null when it has none
+     */
+    static String sectionOf(String key) {
+        SectionSplit split = splitKey(key);
+        return split != null ? split.section : null;
+    }
+
     private static SectionSplit splitKey(String key) {
         if (key.startsWith("language.")) {
             return new SectionSplit("language", key.substring("language.".length()));
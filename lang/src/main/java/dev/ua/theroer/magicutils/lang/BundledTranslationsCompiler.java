@@ -0,0 +1,83 @@
+package dev.ua.theroer.magicutils.lang;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build-time entry point that compiles bundled {@code lang/**&#47;*.json}
+ * translations into the binary format read by {@link BundledTranslations}.
+ *
+ * <p>Usage: {@code BundledTranslationsCompiler <source-dir> <output-dir>}.
+ * Every {@code <path>.json} under the source directory produces
+ * {@code <path>.bin} at the same relative location in the output
+ * directory, so namespaced files keep their {@code <namespace>/} prefix.
+ * Files are parsed with exactly the JSONC rules used at runtime.</p>
+ */
+public final class BundledTranslationsCompiler {
+
+    private static final String SOURCE_SUFFIX = ".json";
+
+    private BundledTranslationsCompiler() {
+    }
+
+    /**
+     * Compiles every translation file under {@code args[0]} into {@code args[1]}.
+     *
+     * @param args source directory and output directory
+     * @throws IOException when a file cannot be read, parsed or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BundledTranslationsCompiler <source-dir> <output-dir>");
+        }
+        int compiled = compile(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Compiled " + compiled + " bundled translation file(s) into " + args[1]);
+    }
+
+    /**
+     * Compiles every translation file under {@code sourceDir}.
+     *
+     * @param sourceDir directory holding {@code *.json} translations
+     * @param outputDir directory receiving {@code *.bin} files
+     * @return number of compiled files
+     * @throws IOException when a file cannot be read, parsed or written
+     */
+    public static int compile(Path sourceDir, Path outputDir) throws IOException {
+        if (!Files.isDirectory(sourceDir)) {
+            return 0;
+        }
+        List<Path> sources;
+        try (Stream<Path> stream = Files.walk(sourceDir)) {
+            sources = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(SOURCE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path source : sources) {
+            String relative = sourceDir.relativize(source).toString();
+            String targetName = relative.substring(0, relative.length() - SOURCE_SUFFIX.length())
+                    + BundledTranslations.COMPILED_SUFFIX;
+            Path target = outputDir.resolve(targetName);
+            Files.createDirectories(target.getParent());
+
+            Map<String, String> translations;
+            try (InputStream in = Files.newInputStream(source)) {
+                translations = BundledTranslations.readFlat(in);
+            } catch (IOException e) {
+                throw new IOException("Failed to parse bundled translations: " + source, e);
+            }
+            try (OutputStream out = Files.newOutputStream(target)) {
+                CompiledTranslations.write(translations, out);
+            }
+        }
+        return sources.size();
+    }
+}
@@ -0,0 +1,356 @@
+package dev.ua.theroer.magicutils.lang;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only translation table backed by the binary format produced by
+ * {@link BundledTranslationsCompiler}.
+ *
+ * <p>The whole resource is read into a single byte array. Keys are kept
+ * sorted by their UTF-8 bytes, so {@link #get(Object)} is a binary search
+ * over the index and no per-entry map is ever built. Values are decoded on
+ * first access and remembered in a flat array.</p>
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * int   magic ("MUTR")
+ * int   format version
+ * int   entry count
+ * int   section count
+ * entry count x (keyOffset, keyLength, valueOffset, valueLength)
+ * section count x (firstEntry, endEntry, nameLength)
+ * UTF-8 string pool (offsets above are relative to its start)
+ * </pre>
+ *
+ * <p>Sections are the same groups {@link BundledTranslations#getSections(String)}
+ * exposes. Because every key of a section shares the {@code section + "."}
+ * prefix, a section is a contiguous range of the sorted index and its name
+ * is a prefix of the first key in that range.</p>
+ */
+final class CompiledTranslations extends AbstractMap<String, String> {
+
+    static final int MAGIC = 0x4D555452;
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int ENTRY_BYTES = 16;
+    private static final int SECTION_BYTES = 12;
+
+    private final byte[] data;
+    private final ByteBuffer index;
+    private final int size;
+    private final int sectionCount;
+    private final int sectionBase;
+    private final int poolBase;
+    private final String[] values;
+
+    private CompiledTranslations(byte[] data) {
+        this.data = data;
+        this.index = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        if (data.length < HEADER_BYTES || index.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a compiled translations resource");
+        }
+        int version = index.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported compiled translations version: " + version);
+        }
+        this.size = index.getInt(8);
+        this.sectionCount = index.getInt(12);
+        this.sectionBase = HEADER_BYTES + size * ENTRY_BYTES;
+        this.poolBase = sectionBase + sectionCount * SECTION_BYTES;
+        if (size < 0 || sectionCount < 0 || poolBase > data.length) {
+            throw new IllegalArgumentException("Corrupted compiled translations resource");
+        }
+        this.values = new String[size];
+    }
+
+    /**
+     * Reads a compiled table with a single bulk read.
+     *
+     * @param in resource stream (not closed)
+     * @return compiled table
+     * @throws IOException when the stream cannot be read
+     */
+    static CompiledTranslations read(InputStream in) throws IOException {
+        return new CompiledTranslations(in.readAllBytes());
+    }
+
+    /**
+     * Writes {@code translations} in the compiled format. Entries with a
+     * {@code null} key or value are skipped, identical strings are stored
+     * once in the pool.
+     *
+     * @param translations flat key -> value translations
+     * @param out target stream (not closed)
+     * @throws IOException when writing fails
+     */
+    static void write(Map<String, String> translations, OutputStream out) throws IOException {
+        List<byte[][]> entries = new ArrayList<>(translations.size());
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            entries.add(new byte[][]{
+                    entry.getKey().getBytes(StandardCharsets.UTF_8),
+                    entry.getValue().getBytes(StandardCharsets.UTF_8)
+            });
+        }
+        entries.sort((left, right) -> Arrays.compareUnsigned(left[0], right[0]));
+
+        Pool pool = new Pool();
+        int[] layout = new int[entries.size() * 4];
+        for (int i = 0; i < entries.size(); i++) {
+            byte[][] entry = entries.get(i);
+            layout[i * 4] = pool.add(entry[0]);
+            layout[i * 4 + 1] = entry[0].length;
+            layout[i * 4 + 2] = pool.add(entry[1]);
+            layout[i * 4 + 3] = entry[1].length;
+        }
+
+        List<int[]> sectionRanges = new ArrayList<>();
+        String openSection = null;
+        for (int i = 0; i < entries.size(); i++) {
+            String key = new String(entries.get(i)[0], StandardCharsets.UTF_8);
+            String section = BundledTranslations.sectionOf(key);
+            if (section == null) {
+                openSection = null;
+                continue;
+            }
+            if (section.equals(openSection)) {
+                sectionRanges.get(sectionRanges.size() - 1)[1] = i + 1;
+                continue;
+            }
+            sectionRanges.add(new int[]{i, i + 1, section.getBytes(StandardCharsets.UTF_8).length});
+            openSection = section;
+        }
+
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(entries.size());
+        output.writeInt(sectionRanges.size());
+        for (int value : layout) {
+            output.writeInt(value);
+        }
+        for (int[] range : sectionRanges) {
+            output.writeInt(range[0]);
+            output.writeInt(range[1]);
+            output.writeInt(range[2]);
+        }
+        pool.writeTo(output);
+        output.flush();
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String text)) {
+            return null;
+        }
+        int found = find(text.getBytes(StandardCharsets.UTF_8), 0, size, 0);
+        return found < 0 ? null : valueAt(found);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String text && find(text.getBytes(StandardCharsets.UTF_8), 0, size, 0) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new RangeEntrySet(0, size, 0);
+    }
+
+    /**
+     * Sectioned view compatible with {@link BundledTranslations#getSections(String)}.
+     * Each section is a range view over this table; nothing is copied.
+     *
+     * @return unmodifiable section name -> relative key -> value
+     */
+    Map<String, Map<String, String>> sections() {
+        LinkedHashMap<String, Map<String, String>> built = new LinkedHashMap<>(sectionCount * 2);
+        for (int i = 0; i < sectionCount; i++) {
+            int base = sectionBase + i * SECTION_BYTES;
+            int from = index.getInt(base);
+            int to = index.getInt(base + 4);
+            int nameLength = index.getInt(base + 8);
+            String name = new String(data, poolBase + keyOffset(from), nameLength, StandardCharsets.UTF_8);
+            built.put(name, new SectionView(from, to, nameLength + 1));
+        }
+        return Collections.unmodifiableMap(built);
+    }
+
+    private int find(byte[] query, int from, int to, int skip) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareKey(mid, skip, query);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int entry, int skip, byte[] query) {
+        int offset = poolBase + keyOffset(entry) + skip;
+        int length = keyLength(entry) - skip;
+        int shared = Math.min(length, query.length);
+        for (int i = 0; i < shared; i++) {
+            int left = data[offset + i] & 0xFF;
+            int right = query[i] & 0xFF;
+            if (left != right) {
+                return left - right;
+            }
+        }
+        return length - query.length;
+    }
+
+    private int keyOffset(int entry) {
+        return index.getInt(HEADER_BYTES + entry * ENTRY_BYTES);
+    }
+
+    private int keyLength(int entry) {
+        return index.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 4);
+    }
+
+    private String keyAt(int entry, int skip) {
+        return new String(data, poolBase + keyOffset(entry) + skip, keyLength(entry) - skip, StandardCharsets.UTF_8);
+    }
+
+    private String valueAt(int entry) {
+        String value = values[entry];
+        if (value == null) {
+            int base = HEADER_BYTES + entry * ENTRY_BYTES;
+            value = new String(data, poolBase + index.getInt(base + 8), index.getInt(base + 12),
+                    StandardCharsets.UTF_8);
+            values[entry] = value;
+        }
+        return value;
+    }
+
+    private final class SectionView extends AbstractMap<String, String> {
+        private final int from;
+        private final int to;
+        private final int skip;
+
+        private SectionView(int from, int to, int skip) {
+            this.from = from;
+            this.to = to;
+            this.skip = skip;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof String text)) {
+                return null;
+            }
+            int found = find(text.getBytes(StandardCharsets.UTF_8), from, to, skip);
+            return found < 0 ? null : valueAt(found);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String text && find(text.getBytes(StandardCharsets.UTF_8), from, to, skip) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new RangeEntrySet(from, to, skip);
+        }
+    }
+
+    private final class RangeEntrySet extends AbstractSet<Entry<String, String>> {
+        private final int from;
+        private final int to;
+        private final int skip;
+
+        private RangeEntrySet(int from, int to, int skip) {
+            this.from = from;
+            this.to = to;
+            this.skip = skip;
+        }
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new Iterator<>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    int entry = next++;
+                    return new SimpleImmutableEntry<>(keyAt(entry, skip), valueAt(entry));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private static final class Pool {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final List<byte[]> chunks = new ArrayList<>();
+        private int length;
+
+        int add(byte[] bytes) {
+            String identity = new String(bytes, StandardCharsets.ISO_8859_1);
+            Integer existing = offsets.get(identity);
+            if (existing != null) {
+                return existing;
+            }
+            int offset = length;
+            offsets.put(identity, offset);
+            chunks.add(bytes);
+            length += bytes.length;
+            return offset;
+        }
+
+        void writeTo(DataOutputStream output) throws IOException {
+            for (byte[] chunk : chunks) {
+                output.write(chunk);
+            }
+        }
+    }
+}
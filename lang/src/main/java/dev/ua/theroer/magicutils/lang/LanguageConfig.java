@@ -148,10 +148,33 @@ public class LanguageConfig {
         return Collections.unmodifiableMap(flat);
     }
 
-    private void invalidateFlatCache() {
+    /**
+     * Drops the flat message cache so the next lookup sees section values
+     * replaced by a reload.
+     */
+    void invalidateFlatCache() {
         flatMessageCache = null;
     }
 
+    /**
+     * Copies every message this config currently resolves, with custom
+     * messages overriding built-in ones exactly as {@link #getMessage(String)} does.
+     *
+     * @return key -> message text
+     */
+    Map<String, String> snapshotMessages() {
+        Map<String, String> messages = new HashMap<>(getFlatMessages());
+        Map<String, String> custom = customMessages;
+        if (custom != null) {
+            for (Map.Entry<String, String> entry : custom.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    messages.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return messages;
+    }
+
     private static Map<String, Field> mapSectionFields(Class<?> type) {
         Map<String, Field> map = new HashMap<>();
         for (Field field : type.getDeclaredFields()) {
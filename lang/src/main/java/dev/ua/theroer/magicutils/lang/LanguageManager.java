@@ -14,7 +14,10 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -22,10 +25,14 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
 
 /**
  * Platform-agnostic language manager.
@@ -40,7 +47,12 @@ public class LanguageManager {
     private final Map<UUID, String> playerLanguages = new ConcurrentHashMap<>();
     private final Map<UUID, String> autoDetectedPlayerLanguages = new ConcurrentHashMap<>();
     private final Map<String, Map<String, String>> registeredTranslations = new ConcurrentHashMap<>();
-    private final Set<String> loggedMissingMessages = ConcurrentHashMap.newKeySet();
+    private final MissingMessageTracker missingMessages =
+            new MissingMessageTracker(MissingMessageTracker.DEFAULT_CAPACITY);
+    private final Map<String, Map<String, String>> messageSnapshots = new ConcurrentHashMap<>();
+    private final Map<String, FileFingerprint> fileFingerprints = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<LanguageReloadDiff>> reloadListeners = new CopyOnWriteArrayList<>();
+    private final ListenerSubscription configSubscription;
     private static final Set<String> LANGUAGE_EXTENSIONS = Set.of("jsonc", "json", "yml", "yaml", "toml");
     @Getter
     private String currentLanguage = "en";
@@ -71,6 +83,8 @@ public class LanguageManager {
         this.configManager = configManager;
         this.logger = platform.logger();
         this.scheduler = Tasks.scheduler(platform);
+        this.configSubscription = configManager.subscribeChanges(LanguageConfig.class,
+                (config, sections) -> onLanguageFileChanged(config));
     }
 
     /**
@@ -80,7 +94,7 @@ public class LanguageManager {
      */
     public void init(String defaultLanguage) {
         this.currentLanguage = defaultLanguage;
-        this.loggedMissingMessages.clear();
+        this.missingMessages.clear();
         loadLanguageBlocking(currentLanguage);
 
         if (!currentLanguage.equals(fallbackLanguage)) {
@@ -113,7 +127,7 @@ public class LanguageManager {
     private boolean loadLanguageBlocking(String languageCode) {
         boolean existed = languageFileExists(languageCode);
         try {
-            this.loggedMissingMessages.clear();
+            this.missingMessages.clear();
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("lang", languageCode);
 
@@ -130,6 +144,7 @@ public class LanguageManager {
             }
 
             loadedLanguages.put(languageCode, config);
+            trackLanguage(languageCode, config);
 
             if (languageCode.equals(currentLanguage)) {
                 currentConfig = config;
@@ -272,6 +287,7 @@ public class LanguageManager {
         } catch (Exception e) {
             logger.warn("Failed to save custom message '" + key + "' for language " + code, e);
         }
+        refreshLanguage(code, cfg);
     }
 
     /**
@@ -323,6 +339,9 @@ public class LanguageManager {
             merged.putAll(normalizedTranslations);
             return merged;
         });
+        for (String key : normalizedTranslations.keySet()) {
+            missingMessages.forget(key);
+        }
 
         LanguageConfig config = loadedLanguages.get(normalizedLanguage);
         if (config != null && applyRegisteredTranslations(config, normalizedLanguage)) {
@@ -331,6 +350,7 @@ public class LanguageManager {
             } catch (Exception e) {
                 logger.warn("Failed to save registered translations for: " + normalizedLanguage, e);
             }
+            refreshLanguage(normalizedLanguage, config);
         }
     }
 
@@ -378,6 +398,7 @@ public class LanguageManager {
         }
 
         this.fallbackLanguage = languageCode;
+        missingMessages.clear();
         if (!languageCode.equals(currentLanguage)) {
             loadFallbackLanguage(languageCode);
         } else {
@@ -716,15 +737,25 @@ public class LanguageManager {
     }
 
     /**
-     * Reload all loaded languages from disk.
+     * Reload loaded languages from disk.
+     *
+     * <p>Languages whose file is byte-for-byte unchanged since it was last
+     * loaded or saved are skipped. For every other language the messages are
+     * compared key by key and a {@link LanguageReloadDiff} is published to
+     * {@link #subscribeReloads(Consumer)} listeners when anything changed.</p>
      */
     public void reload() {
         warnIfMainThread("reload");
-        loggedMissingMessages.clear();
         Map<String, LanguageConfig> snapshot = new HashMap<>(loadedLanguages);
 
         for (Map.Entry<String, LanguageConfig> entry : snapshot.entrySet()) {
-            configManager.reload(entry.getValue());
+            String languageCode = entry.getKey();
+            LanguageConfig config = entry.getValue();
+            if (isUnchangedOnDisk(languageCode, config)) {
+                continue;
+            }
+            configManager.reload(config);
+            refreshLanguage(languageCode, config);
         }
 
         currentConfig = loadedLanguages.get(currentLanguage);
@@ -756,6 +787,7 @@ public class LanguageManager {
             if (config != null) {
                 config.getCustomMessages().putAll(customMessages);
                 configManager.save(config);
+                refreshLanguage(languageCode, config);
             }
 
         } catch (Exception e) {
@@ -767,11 +799,49 @@ public class LanguageManager {
      * Persist currently loaded MagicUtils messages (ensures defaults exist).
      */
     public void addMagicUtilsMessages() {
-        for (LanguageConfig config : loadedLanguages.values()) {
-            configManager.save(config);
+        for (Map.Entry<String, LanguageConfig> entry : loadedLanguages.entrySet()) {
+            configManager.save(entry.getValue());
+            refreshLanguage(entry.getKey(), entry.getValue());
         }
     }
 
+    /**
+     * Missing-key statistics and negative cache. Each language/key pair that
+     * resolves nowhere in the fallback chain is remembered (up to
+     * {@link MissingMessageTracker#DEFAULT_CAPACITY} pairs), so repeated
+     * lookups return the key immediately and are logged only once.
+     *
+     * @return missing message tracker of this manager
+     */
+    public MissingMessageTracker getMissingMessages() {
+        return missingMessages;
+    }
+
+    /**
+     * Subscribes to key-level language changes. The listener receives one
+     * {@link LanguageReloadDiff} per language whose effective messages changed,
+     * whether through {@link #reload()}, a watched file edit or a message
+     * written by this manager. Empty diffs are never published.
+     *
+     * @param listener diff consumer
+     * @return subscription handle that removes the listener when closed
+     */
+    public ListenerSubscription subscribeReloads(Consumer<LanguageReloadDiff> listener) {
+        Objects.requireNonNull(listener, "listener");
+        reloadListeners.add(listener);
+        return () -> reloadListeners.remove(listener);
+    }
+
+    /**
+     * Detaches this manager from its {@link ConfigManager} and drops reload
+     * listeners. Call it when the manager is discarded while the config
+     * manager lives on; loaded messages stay readable.
+     */
+    public void shutdown() {
+        configSubscription.close();
+        reloadListeners.clear();
+    }
+
     /**
      * Load a language asynchronously to avoid blocking the main thread.
      *
@@ -1026,6 +1096,80 @@ public class LanguageManager {
         });
     }
 
+    private void onLanguageFileChanged(LanguageConfig config) {
+        for (Map.Entry<String, LanguageConfig> entry : loadedLanguages.entrySet()) {
+            if (entry.getValue() == config) {
+                refreshLanguage(entry.getKey(), config);
+                return;
+            }
+        }
+    }
+
+    private void trackLanguage(String languageCode, LanguageConfig config) {
+        messageSnapshots.put(languageCode, config.snapshotMessages());
+        FileFingerprint fingerprint = fingerprint(configManager.getConfigPath(config), null);
+        if (fingerprint != null) {
+            fileFingerprints.put(languageCode, fingerprint);
+        } else {
+            fileFingerprints.remove(languageCode);
+        }
+    }
+
+    private void refreshLanguage(String languageCode, LanguageConfig config) {
+        LanguageReloadDiff diff;
+        synchronized (config) {
+            config.invalidateFlatCache();
+            Map<String, String> before = messageSnapshots.getOrDefault(languageCode, Collections.emptyMap());
+            trackLanguage(languageCode, config);
+            diff = LanguageReloadDiff.between(languageCode, before, messageSnapshots.get(languageCode));
+        }
+        if (diff.isEmpty()) {
+            return;
+        }
+        for (String key : diff.affectedKeys()) {
+            missingMessages.forget(key);
+        }
+        for (Consumer<LanguageReloadDiff> listener : reloadListeners) {
+            try {
+                listener.accept(diff);
+            } catch (Throwable error) {
+                logger.warn("Language reload listener failed for: " + languageCode, error);
+            }
+        }
+    }
+
+    private boolean isUnchangedOnDisk(String languageCode, LanguageConfig config) {
+        FileFingerprint previous = fileFingerprints.get(languageCode);
+        if (previous == null) {
+            return false;
+        }
+        FileFingerprint current = fingerprint(configManager.getConfigPath(config), previous);
+        if (current == null || !current.sameContent(previous)) {
+            return false;
+        }
+        fileFingerprints.put(languageCode, current);
+        return true;
+    }
+
+    private FileFingerprint fingerprint(Path file, FileFingerprint previous) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (previous != null && previous.size() == size && previous.modified() == modified) {
+                return previous;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(Files.readAllBytes(file));
+            return new FileFingerprint(size, modified, checksum.getValue());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     private boolean languageFileExists(String languageCode) {
         if (languageCode == null || languageCode.isBlank()) {
             return false;
@@ -1048,6 +1192,10 @@ public class LanguageManager {
     }
 
     private String resolveMessage(String languageCode, String key) {
+        boolean cacheable = languageCode != null && key != null;
+        if (cacheable && missingMessages.isKnownMissing(languageCode, key)) {
+            return key;
+        }
         LanguageConfig primary = getOrLoadLanguage(languageCode);
         if (primary != null) {
             String message = primary.getMessage(key);
@@ -1074,7 +1222,9 @@ public class LanguageManager {
             return englishBundled;
         }
 
-        logMissing(languageCode, key);
+        if (cacheable && missingMessages.recordMiss(languageCode, key)) {
+            logMissing(languageCode, key);
+        }
         return key;
     }
 
@@ -1096,36 +1246,15 @@ public class LanguageManager {
             }
         }
 
-        Map<String, Map<String, String>> bundled = createTranslations(languageCode);
-        if (bundled.isEmpty()) {
-            return null;
-        }
-        for (Map.Entry<String, Map<String, String>> sectionEntry : bundled.entrySet()) {
-            if (sectionEntry == null || sectionEntry.getKey() == null || sectionEntry.getValue() == null) {
-                continue;
-            }
-            String section = sectionEntry.getKey();
-            if (!key.startsWith(section + ".")) {
-                continue;
-            }
-            String relativeKey = key.substring(section.length() + 1);
-            String bundledMessage = sectionEntry.getValue().get(relativeKey);
-            if (bundledMessage != null) {
-                return bundledMessage;
-            }
-        }
-        return null;
+        return BundledTranslations.getTranslations(languageCode).get(key);
     }
 
     private void logMissing(String languageCode, String key) {
         if (!logMissingMessages) {
             return;
         }
-        String composite = languageCode + "::" + key;
-        if (loggedMissingMessages.add(composite)) {
-            String fallbackInfo = fallbackLanguage != null ? ("; fallback=" + fallbackLanguage) : "";
-            logger.debug("Missing translation for key '" + key + "' in language '" + languageCode + "'" + fallbackInfo);
-        }
+        String fallbackInfo = fallbackLanguage != null ? ("; fallback=" + fallbackLanguage) : "";
+        logger.debug("Missing translation for key '" + key + "' in language '" + languageCode + "'" + fallbackInfo);
     }
 
     private Map<String, String> normalizeTranslations(Map<String, String> translations) {
@@ -1147,6 +1276,16 @@ public class LanguageManager {
         return BundledTranslations.getSections(languageCode);
     }
 
+    /**
+     * Cheap identity of a language file: size and mtime decide whether the
+     * checksum has to be recomputed, the checksum decides whether to reload.
+     */
+    private record FileFingerprint(long size, long modified, long checksum) {
+        boolean sameContent(FileFingerprint other) {
+            return size == other.size && checksum == other.checksum;
+        }
+    }
+
     private static Platform resolvePlatform(Object platformOrPlugin) {
         if (platformOrPlugin instanceof Platform) {
             return (Platform) platformOrPlugin;
@@ -0,0 +1,81 @@
+package dev.ua.theroer.magicutils.lang;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Key-level difference between two states of a loaded language.
+ *
+ * <p>Published by {@link LanguageManager#subscribeReloads(java.util.function.Consumer)}
+ * so caches keyed by message key (rendered components, help pages) can drop
+ * only the entries that actually changed instead of flushing everything.</p>
+ *
+ * @param languageCode language whose messages changed
+ * @param added keys that resolve now but did not before
+ * @param changed keys whose text changed
+ * @param removed keys that no longer resolve from this language
+ */
+public record LanguageReloadDiff(String languageCode,
+                                 Set<String> added,
+                                 Set<String> changed,
+                                 Set<String> removed) {
+
+    /**
+     * Creates a diff with defensive, unmodifiable copies of the key sets.
+     */
+    public LanguageReloadDiff {
+        Objects.requireNonNull(languageCode, "languageCode");
+        added = added == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(added));
+        changed = changed == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(changed));
+        removed = removed == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(removed));
+    }
+
+    /**
+     * @return true when no key was added, changed or removed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * @param key message key
+     * @return true when the key was added, changed or removed
+     */
+    public boolean affects(String key) {
+        return key != null && (changed.contains(key) || added.contains(key) || removed.contains(key));
+    }
+
+    /**
+     * @return every affected key (added, changed and removed)
+     */
+    public Set<String> affectedKeys() {
+        Set<String> keys = new LinkedHashSet<>(added.size() + changed.size() + removed.size());
+        keys.addAll(added);
+        keys.addAll(changed);
+        keys.addAll(removed);
+        return Collections.unmodifiableSet(keys);
+    }
+
+    static LanguageReloadDiff between(String languageCode, Map<String, String> before, Map<String, String> after) {
+        Set<String> added = new LinkedHashSet<>();
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String previous = before.get(entry.getKey());
+            if (previous == null) {
+                added.add(entry.getKey());
+            } else if (!previous.equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        return new LanguageReloadDiff(languageCode, added, changed, removed);
+    }
+}
@@ -0,0 +1,259 @@
+package dev.ua.theroer.magicutils.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded negative cache of message keys that resolved nowhere in the
+ * fallback chain, with per-key miss counters.
+ *
+ * <p>{@link LanguageManager} consults it before walking the chain so a
+ * repeated miss (typically a typo on a hot message path) costs two map
+ * lookups instead of a full fallback walk. When the cache is full the
+ * least-missed of a few cached keys, sampled clock-style from a fixed slot
+ * ring, is evicted, so hot misses tend to stay cached, a flood of distinct
+ * keys cannot grow memory without bound, and a new miss never scans the
+ * whole cache.</p>
+ *
+ * <p>Lookups and counting are lock-free; adding, evicting and forgetting
+ * keys take one lock, which keeps the slot ring and the size in step.</p>
+ */
+public final class MissingMessageTracker {
+    /**
+     * Default number of distinct language/key pairs remembered.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Number of slots inspected to pick an eviction victim.
+     */
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final int capacity;
+    private final Map<String, Map<String, Entry>> missing = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final Entry[] slots;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int hand;
+    private volatile int size;
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder cachedMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MissingMessageTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new Entry[capacity];
+        this.freeSlots = new int[capacity];
+        resetSlots();
+    }
+
+    /**
+     * Checks the negative cache and counts the miss when the key is cached.
+     *
+     * @param languageCode requested language
+     * @param key message key
+     * @return true if the key is known to be missing for this language
+     */
+    boolean isKnownMissing(String languageCode, String key) {
+        Map<String, Entry> keys = missing.get(languageCode);
+        Entry entry = keys != null ? keys.get(key) : null;
+        if (entry == null) {
+            return false;
+        }
+        entry.count.increment();
+        misses.increment();
+        cachedMisses.increment();
+        return true;
+    }
+
+    /**
+     * Records a miss that went through the whole fallback chain.
+     *
+     * @param languageCode requested language
+     * @param key message key
+     * @return true if the pair was not tracked before (callers log only then)
+     */
+    boolean recordMiss(String languageCode, String key) {
+        misses.increment();
+        Map<String, Entry> keys = missing.get(languageCode);
+        Entry existing = keys != null ? keys.get(key) : null;
+        if (existing != null) {
+            existing.count.increment();
+            return false;
+        }
+        synchronized (lock) {
+            keys = missing.computeIfAbsent(languageCode, ignored -> new ConcurrentHashMap<>());
+            existing = keys.get(key);
+            if (existing != null) {
+                existing.count.increment();
+                return false;
+            }
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : evictSampled();
+            Entry created = new Entry(languageCode, key, slot);
+            created.count.increment();
+            slots[slot] = created;
+            keys.put(key, created);
+            size = capacity - freeCount;
+        }
+        return true;
+    }
+
+    /**
+     * Forgets a key in every language, e.g. after it was added or changed.
+     *
+     * @param key message key
+     */
+    void forget(String key) {
+        if (key == null) {
+            return;
+        }
+        synchronized (lock) {
+            for (Map<String, Entry> keys : missing.values()) {
+                Entry entry = keys.remove(key);
+                if (entry != null) {
+                    slots[entry.slot] = null;
+                    freeSlots[freeCount++] = entry.slot;
+                }
+            }
+            size = capacity - freeCount;
+        }
+    }
+
+    /**
+     * Drops every cached miss. Counters are kept.
+     */
+    void clear() {
+        synchronized (lock) {
+            missing.clear();
+            resetSlots();
+        }
+    }
+
+    /**
+     * @return maximum number of cached language/key pairs
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of currently cached language/key pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return total misses observed, cached or not
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return misses answered by the negative cache without a fallback walk
+     */
+    public long getCachedMissCount() {
+        return cachedMisses.sum();
+    }
+
+    /**
+     * @return cached pairs dropped because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the most frequently missed keys per language.
+     *
+     * @param limit maximum keys per language
+     * @return language code -> keys ordered by descending miss count
+     */
+    public Map<String, List<MissingMessage>> topMissing(int limit) {
+        Map<String, List<MissingMessage>> result = new LinkedHashMap<>();
+        if (limit <= 0) {
+            return result;
+        }
+        for (Map.Entry<String, Map<String, Entry>> language : missing.entrySet()) {
+            List<MissingMessage> entries = new ArrayList<>(language.getValue().size());
+            for (Entry entry : language.getValue().values()) {
+                entries.add(new MissingMessage(entry.key, entry.count.sum()));
+            }
+            if (entries.isEmpty()) {
+                continue;
+            }
+            entries.sort(Comparator.comparingLong(MissingMessage::count).reversed()
+                    .thenComparing(MissingMessage::key));
+            result.put(language.getKey(), List.copyOf(entries.subList(0, Math.min(limit, entries.size()))));
+        }
+        return result;
+    }
+
+    /**
+     * Picks the least-missed entry among the next {@link #EVICTION_SAMPLE}
+     * slots after the clock hand, removes it and returns its slot. Only called
+     * with the lock held and every slot in use.
+     */
+    private int evictSampled() {
+        int sample = Math.min(EVICTION_SAMPLE, capacity);
+        int victim = hand;
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i < sample; i++) {
+            int slot = (hand + i) % capacity;
+            long count = slots[slot].count.sum();
+            if (count < lowest) {
+                lowest = count;
+                victim = slot;
+            }
+        }
+        hand = (hand + sample) % capacity;
+        Entry evicted = slots[victim];
+        missing.get(evicted.language).remove(evicted.key);
+        slots[victim] = null;
+        evictions.increment();
+        return victim;
+    }
+
+    private void resetSlots() {
+        Arrays.fill(slots, null);
+        for (int slot = 0; slot < capacity; slot++) {
+            freeSlots[slot] = capacity - 1 - slot;
+        }
+        freeCount = capacity;
+        hand = 0;
+        size = 0;
+    }
+
+    private static final class Entry {
+        private final String language;
+        private final String key;
+        private final int slot;
+        private final LongAdder count = new LongAdder();
+
+        private Entry(String language, String key, int slot) {
+            this.language = language;
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Missed key with its miss count.
+     *
+     * @param key message key
+     * @param count number of misses since the key was cached
+     */
+    public record MissingMessage(String key, long count) {
+    }
+}
@@ -0,0 +1,88 @@
+package dev.ua.theroer.magicutils.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledTranslationsTest {
+
+    @Test
+    void roundTripsFlatTranslations() throws Exception {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("language.name", "Українська");
+        source.put("magicutils.commands.no_permission", "&cНемає прав");
+        source.put("magicutils.commands.usage", "Usage: {usage}");
+        source.put("plugin.welcome", "&cНемає прав");
+        source.put("standalone", "value");
+
+        CompiledTranslations compiled = compile(source);
+
+        assertEquals(source.size(), compiled.size());
+        assertEquals(source, new HashMap<>(compiled));
+        assertEquals("Usage: {usage}", compiled.get("magicutils.commands.usage"));
+        assertTrue(compiled.containsKey("standalone"));
+        assertNull(compiled.get("magicutils.commands.missing"));
+        assertFalse(compiled.containsKey("plugin"));
+    }
+
+    @Test
+    void sectionsMatchJsonGrouping() throws Exception {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("language.code", "uk");
+        source.put("magicutils.errors.generic", "Error");
+        source.put("magicutils.commands.no_permission", "Denied");
+        source.put("magicutils.commands.sub.nested", "Nested");
+        source.put("plugin.welcome", "Hi");
+        source.put("standalone", "skipped");
+
+        Map<String, Map<String, String>> sections = compile(source).sections();
+
+        assertEquals(Map.of("code", "uk"), new HashMap<>(sections.get("language")));
+        assertEquals(Map.of("no_permission", "Denied", "sub.nested", "Nested"),
+                new HashMap<>(sections.get("magicutils.commands")));
+        assertEquals("Error", sections.get("magicutils.errors").get("generic"));
+        assertEquals("Hi", sections.get("plugin").get("welcome"));
+        assertEquals(4, sections.size());
+    }
+
+    @Test
+    void compilerUsesRuntimeJsoncRules() throws Exception {
+        String jsonc = """
+                {
+                  // translator note
+                  "_comment": "dropped",
+                  "plugin.welcome": "Hi",
+                }
+                """;
+        Map<String, String> flat = BundledTranslations.readFlat(
+                new ByteArrayInputStream(jsonc.getBytes(StandardCharsets.UTF_8)));
+
+        CompiledTranslations compiled = compile(flat);
+
+        assertEquals(Map.of("plugin.welcome", "Hi"), new HashMap<>(compiled));
+    }
+
+    @Test
+    void rejectsForeignResources() {
+        byte[] garbage = "{\"not\":\"binary\"}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTranslations.read(new ByteArrayInputStream(garbage)));
+    }
+
+    private static CompiledTranslations compile(Map<String, String> source) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledTranslations.write(source, out);
+        return CompiledTranslations.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -1,6 +1,7 @@
 package dev.ua.theroer.magicutils.lang;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import dev.ua.theroer.magicutils.config.ConfigManager;
 import dev.ua.theroer.magicutils.platform.Audience;
 import dev.ua.theroer.magicutils.platform.ConfigFormatProvider;
@@ -22,6 +23,7 @@ import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -173,6 +175,46 @@ class LanguageManagerTest {
         }
     }
 
+    @Test
+    void reloadPublishesKeyDiffOnlyForChangedFiles() throws Exception {
+        TestPlatform platform = new TestPlatform(tempDir, null);
+        ConfigManager configManager = new ConfigManager(platform);
+        try {
+            LanguageManager manager = new LanguageManager(platform, configManager);
+            manager.registerTranslations("en", Map.of("plugin.welcome", "Hello", "plugin.bye", "Bye"));
+            manager.init("en");
+            CopyOnWriteArrayList<LanguageReloadDiff> diffs = new CopyOnWriteArrayList<>();
+            manager.subscribeReloads(diffs::add);
+
+            manager.reload();
+            assertTrue(diffs.isEmpty());
+
+            Path englishFile = tempDir.resolve("lang/en.json");
+            ObjectNode root = (ObjectNode) OBJECT_MAPPER.readTree(Files.readString(englishFile));
+            ObjectNode plugin = (ObjectNode) root.path("messages").path("plugin");
+            plugin.put("welcome", "Hello there");
+            plugin.remove("bye");
+            Files.writeString(englishFile, OBJECT_MAPPER.writeValueAsString(root));
+
+            manager.reload();
+            long deadline = System.currentTimeMillis() + 2000L;
+            while (diffs.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertEquals(1, diffs.size());
+            LanguageReloadDiff diff = diffs.get(0);
+            assertEquals("en", diff.languageCode());
+            assertEquals(Set.of("plugin.welcome"), diff.changed());
+            assertEquals(Set.of("plugin.bye"), diff.removed());
+            assertTrue(diff.added().isEmpty());
+            assertEquals("Hello there", manager.getMessage("plugin.welcome"));
+        } finally {
+            configManager.shutdown();
+            platform.shutdown();
+        }
+    }
+
     @Test
     void autoDetectedLanguageResolvesLocaleTags() {
         TestPlatform platform = new TestPlatform(tempDir, null);
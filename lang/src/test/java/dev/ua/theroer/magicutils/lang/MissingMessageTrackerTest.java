@@ -0,0 +1,97 @@
+package dev.ua.theroer.magicutils.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissingMessageTrackerTest {
+
+    @Test
+    void repeatedMissesAreServedFromCacheAndCounted() {
+        MissingMessageTracker tracker = new MissingMessageTracker(8);
+
+        assertFalse(tracker.isKnownMissing("en", "plugin.typo"));
+        assertTrue(tracker.recordMiss("en", "plugin.typo"));
+        assertTrue(tracker.isKnownMissing("en", "plugin.typo"));
+        assertTrue(tracker.isKnownMissing("en", "plugin.typo"));
+        assertFalse(tracker.isKnownMissing("uk", "plugin.typo"));
+
+        assertEquals(3, tracker.getMissCount());
+        assertEquals(2, tracker.getCachedMissCount());
+        assertEquals(List.of(new MissingMessageTracker.MissingMessage("plugin.typo", 3)),
+                tracker.topMissing(5).get("en"));
+    }
+
+    @Test
+    void evictsColdestEntryWhenFull() {
+        MissingMessageTracker tracker = new MissingMessageTracker(2);
+        tracker.recordMiss("en", "hot");
+        tracker.isKnownMissing("en", "hot");
+        tracker.recordMiss("en", "cold");
+        tracker.recordMiss("uk", "new");
+
+        assertEquals(2, tracker.size());
+        assertEquals(1, tracker.getEvictionCount());
+        assertTrue(tracker.isKnownMissing("en", "hot"));
+        assertFalse(tracker.isKnownMissing("en", "cold"));
+        assertTrue(tracker.isKnownMissing("uk", "new"));
+    }
+
+    @Test
+    void forgetDropsKeyInEveryLanguage() {
+        MissingMessageTracker tracker = new MissingMessageTracker(8);
+        tracker.recordMiss("en", "plugin.welcome");
+        tracker.recordMiss("uk", "plugin.welcome");
+        tracker.recordMiss("uk", "plugin.other");
+
+        tracker.forget("plugin.welcome");
+
+        assertEquals(1, tracker.size());
+        assertFalse(tracker.isKnownMissing("en", "plugin.welcome"));
+        assertFalse(tracker.isKnownMissing("uk", "plugin.welcome"));
+        assertTrue(tracker.isKnownMissing("uk", "plugin.other"));
+    }
+
+    @Test
+    void sizeMatchesCachedEntriesAfterConcurrentForgetAndClear() throws Exception {
+        MissingMessageTracker tracker = new MissingMessageTracker(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int worker = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 5_000; i++) {
+                    String key = "key." + (i % 40);
+                    tracker.recordMiss(worker % 2 == 0 ? "en" : "uk", key);
+                    if (i % 7 == 0) {
+                        tracker.forget(key);
+                    }
+                    if (worker == 0 && i % 501 == 0) {
+                        tracker.clear();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int cached = tracker.topMissing(Integer.MAX_VALUE).values().stream().mapToInt(List::size).sum();
+        assertEquals(cached, tracker.size());
+        assertTrue(tracker.size() <= tracker.getCapacity());
+    }
+}
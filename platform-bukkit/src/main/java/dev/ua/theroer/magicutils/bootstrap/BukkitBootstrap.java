@@ -352,6 +352,9 @@ public final class BukkitBootstrap {
             BukkitMagicUtilsConsumerRegistry.register(plugin, runtime, prepared.commandRegistry());
             runtime.onClose("magicutils.consumerRegistry", () -> BukkitMagicUtilsConsumerRegistry.unregister(plugin));
             lang.installMessagesCloseHooks(runtime, plugin.getName(), prepared.languageManager());
+            if (languageManager == null) {
+                runtime.onClose("languageManager", prepared.languageManager()::shutdown);
+            }
 
             return new RuntimeResult(runtime, prepared.platform(), prepared.configManager(), prepared.logger(),
                     prepared.languageManager(), prepared.commandRegistry());
@@ -190,7 +190,7 @@ public class BukkitCommandWrapper extends Command {
                         "Tab complete for: " + alias + " with args: " + Arrays.toString(args) + " by " + sender.getName());
             }
 
-            List<String> suggestions = commandManager.getSuggestions(alias, sender, Arrays.asList(args));
+            List<String> suggestions = commandManager.getSuggestionsBlocking(alias, sender, Arrays.asList(args));
 
             List<String> filteredSuggestions = new ArrayList<>();
             for (String suggestion : suggestions) {
@@ -4,6 +4,7 @@ import dev.ua.theroer.magicutils.Logger;
 import dev.ua.theroer.magicutils.annotations.CommandInfo;
 import dev.ua.theroer.magicutils.commands.parsers.LanguageKeyTypeParser;
 import dev.ua.theroer.magicutils.commands.parsers.OfflinePlayerTypeParser;
+import dev.ua.theroer.magicutils.commands.parsers.PlayerNameIndex;
 import dev.ua.theroer.magicutils.commands.parsers.PlayerTypeParser;
 import dev.ua.theroer.magicutils.commands.parsers.WorldTypeParser;
 import dev.ua.theroer.magicutils.lang.InternalMessages;
@@ -19,6 +20,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.LinkedHashSet;
@@ -91,8 +93,10 @@ public class CommandRegistry {
         this.platform = new BukkitCommandPlatform(plugin, commandLogger);
 
         TypeParserRegistry<CommandSender> parserRegistry = TypeParserRegistry.createWithDefaults(commandLogger);
-        parserRegistry.register(new PlayerTypeParser(logger));
-        parserRegistry.register(new OfflinePlayerTypeParser(logger));
+        PlayerNameIndex playerNames = new PlayerNameIndex();
+        playerNames.bind(plugin, scheduler.io());
+        parserRegistry.register(new PlayerTypeParser(logger, playerNames));
+        parserRegistry.register(new OfflinePlayerTypeParser(logger, playerNames));
         parserRegistry.register(new WorldTypeParser(logger));
         parserRegistry.register(new LanguageKeyTypeParser(plugin));
 
@@ -418,6 +422,26 @@ public class CommandRegistry {
         return commandMap != null && commandManager != null && plugin != null;
     }
 
+    /**
+     * Enables asynchronous tab completion. Suggestions are computed on the
+     * scheduler's IO executor, and a newer request from the same sender cancels
+     * the previous one. Bukkit completes commands synchronously, so the calling
+     * thread waits at most {@code timeout} and gets no suggestions after that.
+     * Only arguments that opt in with {@link CommandThreading#ASYNC} are
+     * completed off the calling thread.
+     *
+     * @param timeout per-request timeout, must be positive
+     * @return registry for chaining
+     * @throws IllegalArgumentException if {@code timeout} is null, zero or negative
+     */
+    public CommandRegistry asyncSuggestions(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Async suggestions need a positive timeout: " + timeout);
+        }
+        commandManager.configureAsyncSuggestions(scheduler.io(), timeout);
+        return this;
+    }
+
     /**
      * Registers multiple commands at once.
      *
@@ -1,6 +1,7 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
 import dev.ua.theroer.magicutils.logger.PrefixedLogger;
+import dev.ua.theroer.magicutils.commands.CommandArgument;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -10,13 +11,18 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Type parser for OfflinePlayer arguments.
  */
 public class OfflinePlayerTypeParser implements TypeParser<CommandSender, OfflinePlayer> {
     private final PrefixedLogger logger;
+    private final PlayerNameIndex nameIndex;
 
     /**
      * Default constructor for OfflinePlayerTypeParser.
@@ -31,7 +37,20 @@ public class OfflinePlayerTypeParser implements TypeParser<CommandSender, Offlin
      * @param logger prefixed logger
      */
     public OfflinePlayerTypeParser(PrefixedLogger logger) {
+        this(logger, null);
+    }
+
+    /**
+     * Creates the parser with optional debug logging and a bound name index.
+     * With an index, name suggestions are prefix lookups instead of scans of
+     * every known player.
+     *
+     * @param logger prefixed logger
+     * @param nameIndex bound player name index (nullable)
+     */
+    public OfflinePlayerTypeParser(PrefixedLogger logger, PlayerNameIndex nameIndex) {
         this.logger = logger;
+        this.nameIndex = nameIndex;
     }
 
     @Override
@@ -75,7 +94,7 @@ public class OfflinePlayerTypeParser implements TypeParser<CommandSender, Offlin
     @Override
     @NotNull
     public List<String> getSuggestions(@NotNull CommandSender sender) {
-        List<String> result = new ArrayList<>();
+        Set<String> result = new LinkedHashSet<>();
 
         // Add all online players first
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -84,11 +103,30 @@ public class OfflinePlayerTypeParser implements TypeParser<CommandSender, Offlin
 
         // Add offline players
         for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
-            if (player.getName() != null && !result.contains(player.getName())) {
+            if (player.getName() != null) {
                 result.add(player.getName());
             }
         }
 
+        return new ArrayList<>(result);
+    }
+
+    @Override
+    @NotNull
+    public List<String> getSuggestions(@NotNull CommandSender sender, @Nullable CommandArgument argument,
+            @NotNull Map<String, Object> previousParsedArguments, @Nullable String currentInput) {
+        if (nameIndex == null) {
+            return TypeParser.super.getSuggestions(sender, argument, previousParsedArguments, currentInput);
+        }
+        List<String> result = nameIndex.all(currentInput);
+        if (argument != null) {
+            String lowered = currentInput != null ? currentInput.toLowerCase(Locale.ROOT) : "";
+            for (String suggestion : argument.getSuggestions()) {
+                if (suggestion != null && suggestion.toLowerCase(Locale.ROOT).startsWith(lowered)) {
+                    result.add(suggestion);
+                }
+            }
+        }
         return result;
     }
 
@@ -98,6 +136,16 @@ public class OfflinePlayerTypeParser implements TypeParser<CommandSender, Offlin
                 "@allplayers".equals(source);
     }
 
+    @Override
+    @NotNull
+    public List<String> parseSuggestion(@NotNull String source, @NotNull CommandSender sender,
+            @NotNull String currentInput) {
+        if (nameIndex == null) {
+            return parseSuggestion(source, sender);
+        }
+        return "@offlineplayers".equals(source) ? nameIndex.known(currentInput) : nameIndex.all(currentInput);
+    }
+
     @Override
     public int getPriority() {
         return 45; // Slightly lower than Player parser
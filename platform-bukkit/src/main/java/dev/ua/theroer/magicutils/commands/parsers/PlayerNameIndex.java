@@ -0,0 +1,206 @@
+package dev.ua.theroer.magicutils.commands.parsers;
+
+import dev.ua.theroer.magicutils.platform.PlayerLifecycle;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleListener;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleType;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sorted, case-insensitive index of player names for tab completion.
+ *
+ * <p>Online names are maintained from {@link PlayerLifecycle} join/leave
+ * events; known names additionally keep every player who joined and, after the
+ * first offline lookup, everyone returned by a single asynchronous
+ * {@link Bukkit#getOfflinePlayers()} scan. Lookups walk only the names starting
+ * with the typed prefix and stop at the limit, so completion cost does not grow
+ * with the number of players the server has ever seen.</p>
+ */
+public final class PlayerNameIndex implements PlayerLifecycleListener {
+    /**
+     * Default maximum number of names returned by one lookup.
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private final NavigableMap<String, String> online = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, String> known = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean bound = new AtomicBoolean();
+    private final AtomicBoolean offlineScanStarted = new AtomicBoolean();
+    private final int limit;
+    private volatile Executor scanExecutor;
+
+    /**
+     * Creates an index returning at most {@link #DEFAULT_LIMIT} names per lookup.
+     */
+    public PlayerNameIndex() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates an index with a custom lookup limit.
+     *
+     * @param limit maximum number of names returned by one lookup
+     */
+    public PlayerNameIndex(int limit) {
+        this.limit = limit > 0 ? limit : DEFAULT_LIMIT;
+    }
+
+    /**
+     * Seeds the index with the players currently online and keeps it updated
+     * from the plugin's join/quit events. The offline scan, when first needed,
+     * runs on {@code executor}.
+     *
+     * @param plugin plugin owning the event listener
+     * @param executor executor for the one-time offline scan (nullable to scan inline)
+     */
+    public void bind(@NotNull JavaPlugin plugin, @Nullable Executor executor) {
+        if (!bound.compareAndSet(false, true)) {
+            return;
+        }
+        this.scanExecutor = executor;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            onPlayerLifecycle(new PlayerLifecycle(player.getUniqueId(), player.getName(), PlayerLifecycleType.JOIN));
+        }
+        Bukkit.getPluginManager().registerEvents(new Listener() {
+            @EventHandler(priority = EventPriority.MONITOR)
+            public void onJoin(PlayerJoinEvent event) {
+                Player player = event.getPlayer();
+                onPlayerLifecycle(new PlayerLifecycle(player.getUniqueId(), player.getName(),
+                        PlayerLifecycleType.JOIN));
+            }
+
+            @EventHandler(priority = EventPriority.MONITOR)
+            public void onQuit(PlayerQuitEvent event) {
+                Player player = event.getPlayer();
+                onPlayerLifecycle(new PlayerLifecycle(player.getUniqueId(), player.getName(),
+                        PlayerLifecycleType.LEAVE));
+            }
+        }, plugin);
+    }
+
+    @Override
+    public void onPlayerLifecycle(PlayerLifecycle lifecycle) {
+        if (lifecycle == null || !lifecycle.isValid()) {
+            return;
+        }
+        String name = lifecycle.playerName();
+        String key = key(name);
+        if (lifecycle.type() == PlayerLifecycleType.JOIN) {
+            online.put(key, name);
+            known.put(key, name);
+        } else {
+            online.remove(key);
+        }
+    }
+
+    /**
+     * Returns online player names starting with {@code prefix}.
+     *
+     * @param prefix typed prefix, case-insensitive
+     * @return matching names in alphabetical order, at most the limit
+     */
+    @NotNull
+    public List<String> online(@Nullable String prefix) {
+        List<String> result = new ArrayList<>();
+        collect(online, key(prefix), result, null);
+        return result;
+    }
+
+    /**
+     * Returns names of every known player starting with {@code prefix}. The
+     * first call starts the one-time offline scan; until it finishes only
+     * players seen since binding are known.
+     *
+     * @param prefix typed prefix, case-insensitive
+     * @return matching names in alphabetical order, at most the limit
+     */
+    @NotNull
+    public List<String> known(@Nullable String prefix) {
+        scanOfflinePlayers();
+        List<String> result = new ArrayList<>();
+        collect(known, key(prefix), result, null);
+        return result;
+    }
+
+    /**
+     * Returns online names starting with {@code prefix}, followed by the other
+     * known names with that prefix.
+     *
+     * @param prefix typed prefix, case-insensitive
+     * @return matching names, at most the limit
+     */
+    @NotNull
+    public List<String> all(@Nullable String prefix) {
+        scanOfflinePlayers();
+        String key = key(prefix);
+        List<String> result = new ArrayList<>();
+        collect(online, key, result, null);
+        collect(known, key, result, online);
+        return result;
+    }
+
+    private void collect(NavigableMap<String, String> source, String prefix, List<String> target,
+                         @Nullable NavigableMap<String, String> exclude) {
+        if (target.size() >= limit) {
+            return;
+        }
+        for (var entry : source.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            if (exclude != null && exclude.containsKey(entry.getKey())) {
+                continue;
+            }
+            target.add(entry.getValue());
+            if (target.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private void scanOfflinePlayers() {
+        if (!offlineScanStarted.compareAndSet(false, true)) {
+            return;
+        }
+        Runnable scan = () -> {
+            for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
+                String name = player.getName();
+                if (name != null && !name.isBlank()) {
+                    known.putIfAbsent(key(name), name);
+                }
+            }
+        };
+        Executor executor = scanExecutor;
+        if (executor == null) {
+            scan.run();
+            return;
+        }
+        try {
+            executor.execute(scan);
+        } catch (RejectedExecutionException e) {
+            scan.run();
+        }
+    }
+
+    private static String key(@Nullable String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : "";
+    }
+}
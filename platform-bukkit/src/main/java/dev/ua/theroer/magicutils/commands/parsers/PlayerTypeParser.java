@@ -1,5 +1,6 @@
 package dev.ua.theroer.magicutils.commands.parsers;
 
+import dev.ua.theroer.magicutils.commands.CommandArgument;
 import dev.ua.theroer.magicutils.commands.TypeParser;
 import dev.ua.theroer.magicutils.logger.PrefixedLogger;
 import dev.ua.theroer.magicutils.commands.CompareMode;
@@ -11,7 +12,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Type parser for Player arguments with @sender support and automatic
@@ -19,6 +24,7 @@ import java.util.List;
  */
 public class PlayerTypeParser implements TypeParser<CommandSender, Player> {
     private final PrefixedLogger logger;
+    private final PlayerNameIndex nameIndex;
 
     /**
      * Default constructor for PlayerTypeParser.
@@ -33,7 +39,20 @@ public class PlayerTypeParser implements TypeParser<CommandSender, Player> {
      * @param logger prefixed logger
      */
     public PlayerTypeParser(PrefixedLogger logger) {
+        this(logger, null);
+    }
+
+    /**
+     * Creates the parser with optional debug logging and a bound name index.
+     * With an index, name suggestions are prefix lookups instead of scans of
+     * every online or offline player.
+     *
+     * @param logger prefixed logger
+     * @param nameIndex bound player name index (nullable)
+     */
+    public PlayerTypeParser(PrefixedLogger logger, PlayerNameIndex nameIndex) {
         this.logger = logger;
+        this.nameIndex = nameIndex;
     }
 
     @Override
@@ -80,6 +99,25 @@ public class PlayerTypeParser implements TypeParser<CommandSender, Player> {
         return result;
     }
 
+    @Override
+    @NotNull
+    public List<String> getSuggestions(@NotNull CommandSender sender, @Nullable CommandArgument argument,
+            @NotNull Map<String, Object> previousParsedArguments, @Nullable String currentInput) {
+        if (nameIndex == null) {
+            return TypeParser.super.getSuggestions(sender, argument, previousParsedArguments, currentInput);
+        }
+        List<String> result = nameIndex.online(currentInput);
+        if (argument != null) {
+            String lowered = currentInput != null ? currentInput.toLowerCase(Locale.ROOT) : "";
+            for (String suggestion : argument.getSuggestions()) {
+                if (suggestion != null && suggestion.toLowerCase(Locale.ROOT).startsWith(lowered)) {
+                    result.add(suggestion);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public boolean canParseSuggestion(@NotNull String source) {
         return "@players".equals(source) ||
@@ -106,14 +144,14 @@ public class PlayerTypeParser implements TypeParser<CommandSender, Player> {
                 return offlineResult;
 
             case "@allplayers":
-                List<String> allResult = new ArrayList<>();
+                Set<String> allResult = new LinkedHashSet<>();
                 // Add online players
                 for (Player player : Bukkit.getOnlinePlayers()) {
                     allResult.add(player.getName());
                 }
                 // Add offline players
                 for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
-                    if (player.getName() != null && !allResult.contains(player.getName())) {
+                    if (player.getName() != null) {
                         allResult.add(player.getName());
                     }
                 }
@@ -121,13 +159,27 @@ public class PlayerTypeParser implements TypeParser<CommandSender, Player> {
                 if (sender instanceof Player) {
                     allResult.add(sender.getName());
                 }
-                return allResult;
+                return new ArrayList<>(allResult);
 
             default:
                 return getSuggestions(sender);
         }
     }
 
+    @Override
+    @NotNull
+    public List<String> parseSuggestion(@NotNull String source, @NotNull CommandSender sender,
+            @NotNull String currentInput) {
+        if (nameIndex == null) {
+            return parseSuggestion(source, sender);
+        }
+        return switch (source) {
+            case "@offlineplayers" -> nameIndex.known(currentInput);
+            case "@allplayers" -> nameIndex.all(currentInput);
+            default -> nameIndex.online(currentInput);
+        };
+    }
+
     @Override
     public int getPriority() {
         return 50;
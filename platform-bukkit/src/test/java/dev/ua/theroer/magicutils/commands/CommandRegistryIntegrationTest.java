@@ -2,6 +2,7 @@ package dev.ua.theroer.magicutils.commands;
 
 import dev.ua.theroer.magicutils.annotations.CommandInfo;
 import dev.ua.theroer.magicutils.annotations.Permission;
+import dev.ua.theroer.magicutils.commands.parsers.PlayerNameIndex;
 import dev.ua.theroer.magicutils.config.ConfigManager;
 import dev.ua.theroer.magicutils.lang.LanguageManager;
 import dev.ua.theroer.magicutils.lang.Messages;
@@ -10,6 +11,8 @@ import dev.ua.theroer.magicutils.platform.Audience;
 import dev.ua.theroer.magicutils.platform.ConfigFormatProvider;
 import dev.ua.theroer.magicutils.platform.Platform;
 import dev.ua.theroer.magicutils.platform.PlatformLogger;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycle;
+import dev.ua.theroer.magicutils.platform.PlayerLifecycleType;
 import dev.ua.theroer.magicutils.platform.TaskScheduler;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Visibility;
@@ -42,6 +45,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -200,6 +204,26 @@ class CommandRegistryIntegrationTest {
         }
     }
 
+    @Test
+    void playerNameIndexServesPrefixLookupsFromLifecycleEvents() throws Exception {
+        try (TestHarness harness = new TestHarness(tempDir, "TestPlugin")) {
+            PlayerNameIndex index = new PlayerNameIndex(2);
+            index.onPlayerLifecycle(new PlayerLifecycle(UUID.randomUUID(), "Alice", PlayerLifecycleType.JOIN));
+            index.onPlayerLifecycle(new PlayerLifecycle(UUID.randomUUID(), "alex", PlayerLifecycleType.JOIN));
+            index.onPlayerLifecycle(new PlayerLifecycle(UUID.randomUUID(), "Albert", PlayerLifecycleType.JOIN));
+            index.onPlayerLifecycle(new PlayerLifecycle(UUID.randomUUID(), "Bob", PlayerLifecycleType.JOIN));
+
+            assertEquals(List.of("Albert", "alex"), index.online("AL"));
+            assertEquals(List.of("Bob"), index.online("b"));
+
+            index.onPlayerLifecycle(new PlayerLifecycle(UUID.randomUUID(), "Bob", PlayerLifecycleType.LEAVE));
+
+            assertEquals(List.of(), index.online("b"));
+            assertEquals(List.of("Bob"), index.known("b"));
+            assertEquals(List.of("Albert", "alex"), index.all("al"));
+        }
+    }
+
     @CommandInfo(name = "demo", aliases = {"alias"})
     private static final class DemoCommand extends MagicCommand {
         @SuppressWarnings("unused")
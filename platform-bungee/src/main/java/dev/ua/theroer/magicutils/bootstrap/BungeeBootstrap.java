@@ -409,6 +409,9 @@ public final class BungeeBootstrap {
                         runtime, proxy, plugin, pluginName, messagingRedis, messagingConfigurer);
             }
             lang.installMessagesCloseHooks(runtime, pluginName, prepared.languageManager());
+            if (languageManager == null) {
+                runtime.onClose("languageManager", prepared.languageManager()::shutdown);
+            }
 
             return new RuntimeResult(runtime, prepared.platform(), prepared.configManager(), prepared.logger(),
                     prepared.languageManager(), prepared.commandRegistry());
@@ -54,7 +54,7 @@ final class BungeeCommandWrapper extends Command implements TabExecutor {
             return Collections.emptyList();
         }
         List<String> arguments = args != null ? Arrays.asList(args) : List.of();
-        return commandManager.getSuggestions(commandLabel, sender, arguments);
+        return commandManager.getSuggestionsBlocking(commandLabel, sender, arguments);
     }
 
     @Override
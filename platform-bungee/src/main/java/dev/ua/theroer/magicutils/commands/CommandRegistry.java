@@ -10,6 +10,7 @@ import net.md_5.bungee.api.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -397,6 +398,26 @@ public final class CommandRegistry {
         return require(plugin).unregisterCommand(commandName);
     }
 
+    /**
+     * Enables asynchronous tab completion. Suggestions are computed on the async
+     * executor, and a newer request from the same sender cancels the previous one.
+     * BungeeCord completes commands synchronously, so the calling thread waits at
+     * most {@code timeout} and gets no suggestions after that. Only arguments that
+     * opt in with {@link CommandThreading#ASYNC} are completed off the calling
+     * thread.
+     *
+     * @param timeout per-request timeout, must be positive
+     * @return registry for chaining
+     * @throws IllegalArgumentException if {@code timeout} is null, zero or negative
+     */
+    public CommandRegistry asyncSuggestions(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Async suggestions need a positive timeout: " + timeout);
+        }
+        commandManager.configureAsyncSuggestions(asyncExecutor, timeout);
+        return this;
+    }
+
     /**
      * Registers multiple commands.
      *
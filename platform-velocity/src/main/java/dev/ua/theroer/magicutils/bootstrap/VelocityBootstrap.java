@@ -433,6 +433,9 @@ public final class VelocityBootstrap {
                         runtime, proxy, plugin, pluginName, messagingRedis, messagingConfigurer);
             }
             lang.installMessagesCloseHooks(runtime, pluginName, prepared.languageManager());
+            if (languageManager == null) {
+                runtime.onClose("languageManager", prepared.languageManager()::shutdown);
+            }
 
             // Register this plugin in the shared-runtime consumer registry so the
             // standalone velocity-bundle command can list it
@@ -10,6 +10,7 @@ import dev.ua.theroer.magicutils.logger.PrefixedLoggerCore;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -389,6 +390,21 @@ public final class CommandRegistry {
         return require(plugin).unregisterCommand(commandName);
     }
 
+    /**
+     * Enables asynchronous tab completion. Suggestions are computed on the async
+     * executor, a newer request from the same sender cancels the previous one,
+     * and a request running longer than {@code timeout} yields no suggestions.
+     * Only arguments that opt in with {@link CommandThreading#ASYNC} are
+     * completed off the calling thread.
+     *
+     * @param timeout per-request timeout (nullable for none)
+     * @return registry for chaining
+     */
+    public CommandRegistry asyncSuggestions(Duration timeout) {
+        commandManager.configureAsyncSuggestions(asyncExecutor, timeout);
+        return this;
+    }
+
     /**
      * Registers multiple commands.
      *
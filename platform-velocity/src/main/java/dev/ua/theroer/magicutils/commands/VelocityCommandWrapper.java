@@ -56,6 +56,19 @@ final class VelocityCommandWrapper implements SimpleCommand {
         return commandManager.getSuggestions(label, invocation.source(), Arrays.asList(invocation.arguments()));
     }
 
+    @Override
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        if (invocation == null || invocation.source() == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (!hasPermission(invocation)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String label = resolveExecutionLabel(invocation.alias());
+        return commandManager.getSuggestionsAsync(label, invocation.source(), Arrays.asList(invocation.arguments()))
+                .exceptionally(error -> Collections.emptyList());
+    }
+
     @Override
     public boolean hasPermission(Invocation invocation) {
         if (invocation == null || invocation.source() == null) {
@@ -27,5 +27,11 @@ tasks.withType<JavaCompile>().configureEach {
     options.release = 11
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
 dependencies {
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
 }
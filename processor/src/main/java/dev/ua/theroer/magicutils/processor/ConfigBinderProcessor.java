@@ -0,0 +1,289 @@
+package dev.ua.theroer.magicutils.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code ConfigBinder} for every class declaring
+ * {@code @ConfigValue}/{@code @ConfigSection} fields, so ConfigManager can
+ * read and write those fields without reflection.
+ *
+ * <p>The binder is named after the binary name of the bound class with
+ * {@code $} replaced by {@code _} (e.g. {@code LanguageConfig_CommandMessages_ConfigBinder})
+ * and lives in the same package. Only fields the binder can legally touch are
+ * bound: private, final and static fields, fields whose type the binder could
+ * not name (e.g. a private nested class), and classes nested inside a private
+ * class are left to ConfigManager's method-handle fallback.</p>
+ */
+@SupportedAnnotationTypes({
+        "dev.ua.theroer.magicutils.config.annotations.ConfigValue",
+        "dev.ua.theroer.magicutils.config.annotations.ConfigSection"
+})
+public class ConfigBinderProcessor extends AbstractProcessor {
+    private static final String CONFIG_VALUE = "dev.ua.theroer.magicutils.config.annotations.ConfigValue";
+    private static final String CONFIG_SECTION = "dev.ua.theroer.magicutils.config.annotations.ConfigSection";
+    private static final String BINDER_INTERFACE = "dev.ua.theroer.magicutils.config.ConfigBinder";
+    private static final String BINDER_SUFFIX = "_ConfigBinder";
+
+    private Filer filer;
+    private final Set<String> generatedFiles = new HashSet<>();
+
+    /** Default constructor for service loader. */
+    public ConfigBinderProcessor() {
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        if (processingEnv.getElementUtils().getTypeElement(BINDER_INTERFACE) == null) {
+            return false;
+        }
+
+        Set<TypeElement> owners = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD
+                        && element.getEnclosingElement() instanceof TypeElement) {
+                    owners.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement owner : owners) {
+            if (isAccessible(owner)) {
+                generateFor(owner);
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)
+                    || currentType.getNestingKind() == NestingKind.LOCAL
+                    || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return current instanceof PackageElement;
+    }
+
+    /**
+     * Whether the binder, generated into {@code pkg}, can name the erasure of
+     * {@code type} in its cast. Type arguments are erased and never spelled.
+     */
+    private boolean isAccessibleFrom(TypeMirror type, PackageElement pkg) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return isAccessibleFrom(((ArrayType) erased).getComponentType(), pkg);
+        }
+        if (erased.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        Element current = ((DeclaredType) erased).asElement();
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+            Set<Modifier> modifiers = currentType.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || currentType.getNestingKind() == NestingKind.LOCAL
+                    || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(currentType).equals(pkg)) {
+                return false;
+            }
+            current = currentType.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generateFor(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!hasAnnotation(field, CONFIG_VALUE) && !hasAnnotation(field, CONFIG_SECTION)) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+                    || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (!isAccessibleFrom(field.asType(), pkg)) {
+                continue;
+            }
+            fields.add(field);
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String generatedName = localName.replace('$', '_') + BINDER_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+
+        if (!generatedFiles.add(qualifiedName)) {
+            return;
+        }
+
+        String source = buildSource(packageName, generatedName, type.getQualifiedName().toString(), fields);
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (FilerException ignored) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Skipping generation for " + qualifiedName + " (already generated)", type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private String buildSource(String packageName, String generatedName, String boundType,
+                               List<VariableElement> fields) {
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("@javax.annotation.processing.Generated(\"")
+                .append(ConfigBinderProcessor.class.getName())
+                .append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(generatedName)
+                .append(" implements ").append(BINDER_INTERFACE).append(" {\n");
+
+        sb.append("    private static final String[] FIELDS = {");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(fields.get(i).getSimpleName()).append('"');
+        }
+        sb.append("};\n\n");
+
+        sb.append("    public ").append(generatedName).append("() {\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public Class<?> type() {\n")
+                .append("        return ").append(boundType).append(".class;\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public String[] fields() {\n")
+                .append("        return FIELDS.clone();\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public Object get(Object instance, int index) {\n")
+                .append("        ").append(boundType).append(" target = (").append(boundType).append(") instance;\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append("            case ").append(i).append(":\n")
+                    .append("                return target.").append(fields.get(i).getSimpleName()).append(";\n");
+        }
+        sb.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"Unknown field index: \" + index);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public void set(Object instance, int index, Object value) {\n")
+                .append("        ").append(boundType).append(" target = (").append(boundType).append(") instance;\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            sb.append("            case ").append(i).append(":\n")
+                    .append("                target.").append(field.getSimpleName())
+                    .append(" = (").append(castType(field.asType())).append(") value;\n")
+                    .append("                return;\n");
+        }
+        sb.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"Unknown field index: \" + index);\n")
+                .append("        }\n")
+                .append("    }\n");
+
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String castType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) erased).getComponentType();
+            String componentName = component.getKind().isPrimitive()
+                    ? component.getKind().name().toLowerCase(Locale.ROOT)
+                    : castType(component);
+            return componentName + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+        }
+        return "Object";
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            Element annotationType = mirror.getAnnotationType().asElement();
+            if (annotationType instanceof TypeElement
+                    && ((TypeElement) annotationType).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package dev.ua.theroer.magicutils.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles small config classes with {@link ConfigBinderProcessor} and checks
+ * that the generated binders compile and only bind fields they can name.
+ */
+class ConfigBinderProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void skipsFieldsWhoseTypeIsPrivate() throws Exception {
+        Path classes = compile(
+                "sample/Settings.java",
+                "package sample;\n"
+                        + "import dev.ua.theroer.magicutils.config.annotations.ConfigSection;\n"
+                        + "import dev.ua.theroer.magicutils.config.annotations.ConfigValue;\n"
+                        + "public class Settings {\n"
+                        + "    @ConfigValue public int port;\n"
+                        + "    @ConfigValue java.util.List<String> names;\n"
+                        + "    @ConfigSection public Hidden hidden;\n"
+                        + "    @ConfigValue Hidden[] hiddenArray;\n"
+                        + "    @ConfigValue private String secret;\n"
+                        + "    @ConfigSection public Visible visible;\n"
+                        + "    private static class Hidden {\n"
+                        + "    }\n"
+                        + "    public static class Visible {\n"
+                        + "    }\n"
+                        + "}\n");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> binderClass = loader.loadClass("sample.Settings_ConfigBinder");
+            Object binder = binderClass.getDeclaredConstructor().newInstance();
+            String[] fields = (String[]) binderClass.getMethod("fields").invoke(binder);
+            assertArrayEquals(new String[]{"port", "names", "visible"}, fields);
+
+            Object settings = loader.loadClass("sample.Settings").getDeclaredConstructor().newInstance();
+            binderClass.getMethod("set", Object.class, int.class, Object.class).invoke(binder, settings, 0, 25565);
+            assertEquals(25565, binderClass.getMethod("get", Object.class, int.class).invoke(binder, settings, 0));
+        }
+    }
+
+    @Test
+    void skipsNonPublicTypesFromOtherPackages() throws Exception {
+        Path classes = compile(
+                "other/Types.java",
+                "package other;\n"
+                        + "public class Types {\n"
+                        + "    protected static class Shielded {\n"
+                        + "    }\n"
+                        + "    public static class Open {\n"
+                        + "    }\n"
+                        + "}\n",
+                "sample/Remote.java",
+                "package sample;\n"
+                        + "import dev.ua.theroer.magicutils.config.annotations.ConfigValue;\n"
+                        + "public class Remote extends other.Types {\n"
+                        + "    @ConfigValue public Shielded shielded;\n"
+                        + "    @ConfigValue public Open open;\n"
+                        + "}\n");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> binderClass = loader.loadClass("sample.Remote_ConfigBinder");
+            Object binder = binderClass.getDeclaredConstructor().newInstance();
+            assertArrayEquals(new String[]{"open"}, (String[]) binderClass.getMethod("fields").invoke(binder));
+        }
+    }
+
+    private Path compile(String... pathsAndSources) throws IOException {
+        List<String> sources = new ArrayList<>(Arrays.asList(
+                "dev/ua/theroer/magicutils/config/ConfigBinder.java",
+                "package dev.ua.theroer.magicutils.config;\n"
+                        + "public interface ConfigBinder {\n"
+                        + "    Class<?> type();\n"
+                        + "    String[] fields();\n"
+                        + "    Object get(Object instance, int index);\n"
+                        + "    void set(Object instance, int index, Object value);\n"
+                        + "}\n",
+                "dev/ua/theroer/magicutils/config/annotations/ConfigValue.java",
+                "package dev.ua.theroer.magicutils.config.annotations;\n"
+                        + "public @interface ConfigValue {\n"
+                        + "}\n",
+                "dev/ua/theroer/magicutils/config/annotations/ConfigSection.java",
+                "package dev.ua.theroer.magicutils.config.annotations;\n"
+                        + "public @interface ConfigSection {\n"
+                        + "}\n"));
+        sources.addAll(Arrays.asList(pathsAndSources));
+
+        Path sourceRoot = Files.createDirectories(tempDir.resolve("src"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Path generated = Files.createDirectories(tempDir.resolve("generated"));
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i += 2) {
+            Path file = sourceRoot.resolve(sources.get(i));
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, sources.get(i + 1), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+                Locale.ROOT, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", classes.toString(), "-s", generated.toString()), null,
+                    fileManager.getJavaFileObjectsFromFiles(toFiles(files)));
+            task.setProcessors(List.of(new ConfigBinderProcessor()));
+            boolean success = task.call();
+
+            StringBuilder errors = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.append(diagnostic.getMessage(Locale.ROOT)).append('\n');
+                }
+            }
+            assertTrue(success, errors.toString());
+            assertFalse(errors.length() > 0, errors.toString());
+        }
+        return classes;
+    }
+
+    private static List<File> toFiles(List<Path> paths) {
+        List<File> files = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            files.add(path.toFile());
+        }
+        return files;
+    }
+}